@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.jmh;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the microbenchmarks of the harness's per-operation path and checks that what the harness
+ * adds to each measured operation fits in a budget. The overhead of an operation is the cost of
+ * the slowest key distribution, of choosing a task from a recorded {@link WeightedTasksBenchmark
+ * weighted mix}, and of the {@link ProbeSetBenchmark probes} around it. The budget is a
+ * percentage of a reference operation, by default 1% of a 50 microsecond get.
+ *
+ * Writes {@value #REPORT_FILE} and the JMH results to the directory given as the first argument,
+ * and exits with a failure if the overhead is over budget.
+ */
+public class HarnessOverhead {
+  static final String REPORT_FILE = "harness-overhead.txt";
+  static final String RESULTS_FILE = "harness-overhead.json";
+  static final String REFERENCE_OPERATION_MICROS = "harnessOverhead.referenceOperationMicros";
+  static final String BUDGET_PERCENT = "harnessOverhead.budgetPercent";
+
+  public static void main(String[] args) throws RunnerException, IOException {
+    final File reportDir = new File(args[0]);
+    if (!reportDir.isDirectory() && !reportDir.mkdirs()) {
+      throw new IllegalStateException("Could not create " + reportDir);
+    }
+    final double referenceNanos =
+        Double.parseDouble(System.getProperty(REFERENCE_OPERATION_MICROS, "50")) * 1000;
+    final double budgetPercent = Double.parseDouble(System.getProperty(BUDGET_PERCENT, "1"));
+
+    final Options options = new OptionsBuilder()
+        .include(LongRangeBenchmark.class.getName())
+        .include(WeightedTasksBenchmark.class.getName())
+        .include(ProbeSetBenchmark.class.getName())
+        .include(HdrHistogramProbeBenchmark.class.getName())
+        .forks(1)
+        .warmupIterations(3)
+        .warmupTime(TimeValue.seconds(1))
+        .measurementIterations(5)
+        .measurementTime(TimeValue.seconds(1))
+        .resultFormat(ResultFormatType.JSON)
+        .result(new File(reportDir, RESULTS_FILE).getPath())
+        .build();
+    final Collection<RunResult> results = new Runner(options).run();
+
+    final double keyNanos = maxScore(results, LongRangeBenchmark.class, result -> true);
+    final double taskNanos = maxScore(results, WeightedTasksBenchmark.class,
+        result -> Boolean.parseBoolean(result.getParams().getParam("recorded")));
+    final double probeNanos = maxScore(results, ProbeSetBenchmark.class, result -> true);
+    final double overheadNanos = keyNanos + taskNanos + probeNanos;
+    final double overheadPercent = overheadNanos / referenceNanos * 100;
+    final double adjacentNanos = maxScore(results, HdrHistogramProbeBenchmark.class,
+        result -> result.getParams().getParam("spacing").equals("1"));
+    final double spacedNanos = maxScore(results, HdrHistogramProbeBenchmark.class,
+        result -> !result.getParams().getParam("spacing").equals("1"));
+
+    final StringBuilder report = new StringBuilder()
+        .append(String.format("Key choice, slowest distribution: %.1f ns%n", keyNanos))
+        .append(String.format("Weighted task choice, recorded:   %.1f ns%n", taskNanos))
+        .append(String.format("Probes before and after:          %.1f ns%n", probeNanos))
+        .append(String.format("Harness overhead per operation:   %.1f ns, %.3f%% of %.0f us"
+            + " (budget %.3f%%)%n", overheadNanos, overheadPercent, referenceNanos / 1000,
+            budgetPercent))
+        .append(String.format("HdrHistogramProbe with %d threads in neighbouring slots: %.1f ns,"
+            + " in separate cache lines: %.1f ns%n", HdrHistogramProbeBenchmark.THREADS,
+            adjacentNanos, spacedNanos));
+    try (PrintWriter writer = new PrintWriter(new FileWriter(new File(reportDir, REPORT_FILE)))) {
+      writer.print(report);
+    }
+    System.out.print(report);
+
+    if (overheadPercent > budgetPercent) {
+      System.out.println("HARNESS OVERHEAD FAILED: " + String.format("%.3f%%", overheadPercent)
+          + " of a reference operation is over the budget of " + budgetPercent + "%.");
+      System.exit(1);
+    }
+  }
+
+  private static double maxScore(Collection<RunResult> results, Class<?> benchmark,
+      Predicate<RunResult> filter) {
+    return results.stream()
+        .filter(result -> result.getParams().getBenchmark().startsWith(benchmark.getName() + "."))
+        .filter(filter)
+        .mapToDouble(result -> result.getPrimaryResult().getScore())
+        .max()
+        .orElseThrow(() -> new IllegalStateException("No results for " + benchmark.getName()));
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.jmh;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import org.apache.geode.benchmark.tasks.NoopTask;
+import org.apache.geode.perftest.WorkloadConfig;
+import org.apache.geode.perftest.yardstick.YardstickTask;
+import org.apache.geode.perftest.yardstick.hdrhistogram.HdrHistogramProbe;
+
+/**
+ * Checks the {@link HdrHistogramProbe} for false sharing between workload threads. Each thread
+ * writes its own slot of the probe's start time and recorder arrays. With a spacing of 1 the
+ * threads use neighbouring slots, and with a larger spacing their slots are at least a cache line
+ * apart. If the neighbouring slots are noticeably slower, the threads are sharing cache lines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HdrHistogramProbeBenchmark {
+  static final int THREADS = 4;
+
+  @Param({"1", "16"})
+  public int spacing;
+
+  private final AtomicInteger nextThread = new AtomicInteger();
+  private HdrHistogramProbe probe;
+
+  @Setup
+  public void setUp() throws Exception {
+    final WorkloadConfig workloadConfig = new WorkloadConfig();
+    workloadConfig.threads(THREADS * spacing);
+    workloadConfig.warmupSeconds(0);
+    workloadConfig.durationSeconds(TimeUnit.HOURS.toSeconds(1));
+    final NoopTask driver = new NoopTask();
+    probe = new HdrHistogramProbe(intervals -> {
+    });
+    probe.start(driver, YardstickTask.createConfiguration(driver, workloadConfig, new File(".")));
+  }
+
+  @State(Scope.Thread)
+  public static class WorkloadThread {
+    int threadIdx;
+
+    @Setup
+    public void setUp(HdrHistogramProbeBenchmark benchmark) {
+      threadIdx = benchmark.nextThread.getAndIncrement() * benchmark.spacing;
+    }
+  }
+
+  @Benchmark
+  @Threads(THREADS)
+  public void beforeAndAfterExecute(WorkloadThread thread) {
+    probe.beforeExecute(thread.threadIdx);
+    probe.afterExecute(thread.threadIdx);
+  }
+}
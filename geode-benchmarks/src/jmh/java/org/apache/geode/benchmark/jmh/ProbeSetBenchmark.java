@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.jmh;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.impl.BenchmarkLoader;
+import org.yardstickframework.impl.BenchmarkProbeSet;
+
+import org.apache.geode.benchmark.tasks.NoopTask;
+import org.apache.geode.perftest.WorkloadConfig;
+import org.apache.geode.perftest.yardstick.YardstickTask;
+
+/**
+ * Cost of the probes yardstick calls around every operation of a closed loop workload, as
+ * {@link YardstickTask} configures them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProbeSetBenchmark {
+
+  private File outputDir;
+  private BenchmarkProbeSet probeSet;
+
+  @Setup
+  public void setUp() throws Exception {
+    outputDir = Files.createTempDirectory("probe-set").toFile();
+    final WorkloadConfig workloadConfig = new WorkloadConfig();
+    workloadConfig.threads(1);
+    workloadConfig.warmupSeconds(0);
+    workloadConfig.durationSeconds(TimeUnit.HOURS.toSeconds(1));
+    final NoopTask driver = new NoopTask();
+    final BenchmarkConfiguration cfg =
+        YardstickTask.createConfiguration(driver, workloadConfig, outputDir);
+    driver.setUp(cfg);
+    final BenchmarkLoader loader = new BenchmarkLoader();
+    loader.initialize(cfg);
+    probeSet = new BenchmarkProbeSet(driver, cfg, YardstickTask.createOperationProbes(0,
+        intervals -> {
+        }), loader);
+    probeSet.start();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    probeSet.stop();
+    FileUtils.deleteDirectory(outputDir);
+  }
+
+  @Benchmark
+  public void beforeAndAfterExecute() {
+    probeSet.onBeforeExecute(0);
+    probeSet.onAfterExecute(0);
+  }
+}
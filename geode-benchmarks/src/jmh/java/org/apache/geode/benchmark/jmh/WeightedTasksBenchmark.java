@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.jmh;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.apache.geode.benchmark.tasks.NoopTask;
+import org.apache.geode.benchmark.tasks.WeightedTasks;
+import org.apache.geode.benchmark.tasks.WeightedTasks.WeightedTask;
+import org.apache.geode.perftest.OperationRecorder;
+
+/**
+ * Cost of choosing which task of a {@link WeightedTasks} mix to run, with and without telling an
+ * {@link OperationRecorder} which one ran.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WeightedTasksBenchmark {
+
+  @Param({"false", "true"})
+  public boolean recorded;
+
+  private final Map<Object, Object> context = new HashMap<>();
+  private WeightedTasks tasks;
+
+  @Setup
+  public void setUp() {
+    tasks = new WeightedTasks(new WeightedTask(50, new NoopTask()),
+        new WeightedTask(30, new NoopTask()), new WeightedTask(20, new NoopTask()));
+    if (recorded) {
+      tasks.setOperationRecorder(
+          new OperationRecorder(tasks.getOperationNames(), TimeUnit.HOURS.toNanos(1), 3));
+    }
+  }
+
+  @Benchmark
+  public boolean test() throws Exception {
+    return tasks.test(context);
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.jmh.serialization;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import benchmark.geode.data.CollectionHolder;
+
+import org.apache.geode.DataSerializable;
+import org.apache.geode.DataSerializer;
+
+/**
+ * A {@link CollectionHolder} with a hand-written {@link DataSerializable} implementation.
+ */
+public class DataSerializableCollectionHolder extends CollectionHolder
+    implements DataSerializable {
+
+  public DataSerializableCollectionHolder() {}
+
+  public DataSerializableCollectionHolder(CollectionHolder collectionHolder) {
+    DomainObjects.copy(collectionHolder, this);
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    DataSerializer.writeStringArray(arr, out);
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException {
+    arr = DataSerializer.readStringArray(in);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.jmh.serialization;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import benchmark.geode.data.Portfolio;
+import benchmark.geode.data.Position;
+
+import org.apache.geode.DataSerializable;
+import org.apache.geode.DataSerializer;
+
+/**
+ * A {@link Portfolio} with a hand-written {@link DataSerializable} implementation.
+ */
+public class DataSerializablePortfolio extends Portfolio implements DataSerializable {
+
+  public DataSerializablePortfolio() {}
+
+  public DataSerializablePortfolio(Portfolio portfolio) {
+    DomainObjects.copy(portfolio, this, DataSerializablePosition::new,
+        DataSerializableCollectionHolder::new);
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    DataSerializer.writeEnum(aDay, out);
+    out.writeShort(shortID);
+    out.writeLong(getID());
+    DataSerializer.writeString(pkid, out);
+    DataSerializer.writeObject(position1, out);
+    DataSerializer.writeObject(position2, out);
+    DataSerializer.writeObjectArray(position3, out);
+    out.writeInt(getPosition3Size());
+    DataSerializer.writeString(description, out);
+    out.writeLong(createTime);
+    DataSerializer.writeHashMap(positions, out);
+    DataSerializer.writeHashMap(collectionHolderMap, out);
+    DataSerializer.writeString(getType(), out);
+    DataSerializer.writeString(status, out);
+    DataSerializer.writeStringArray(names, out);
+    DataSerializer.writeString(unicodeṤtring, out);
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+    aDay = DataSerializer.readEnum(Day.class, in);
+    shortID = in.readShort();
+    setID(in.readLong());
+    pkid = DataSerializer.readString(in);
+    position1 = DataSerializer.readObject(in);
+    position2 = DataSerializer.readObject(in);
+    position3 = DataSerializer.readObjectArray(in);
+    setPosition3Size(in.readInt());
+    description = DataSerializer.readString(in);
+    createTime = in.readLong();
+    positions = DataSerializer.readHashMap(in);
+    collectionHolderMap = DataSerializer.readHashMap(in);
+    setType(DataSerializer.readString(in));
+    status = DataSerializer.readString(in);
+    names = DataSerializer.readStringArray(in);
+    unicodeṤtring = DataSerializer.readString(in);
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.jmh.serialization;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import benchmark.geode.data.Position;
+
+import org.apache.geode.DataSerializable;
+import org.apache.geode.DataSerializer;
+
+/**
+ * A {@link Position} with a hand-written {@link DataSerializable} implementation.
+ */
+public class DataSerializablePosition extends Position implements DataSerializable {
+
+  public DataSerializablePosition() {}
+
+  public DataSerializablePosition(Position position) {
+    DomainObjects.copy(position, this);
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    out.writeLong(getAvg20DaysVol());
+    DataSerializer.writeString(getBondRating(), out);
+    out.writeDouble(getConvRatio());
+    DataSerializer.writeString(getCountry(), out);
+    out.writeDouble(getDelta());
+    out.writeLong(getIndustry());
+    out.writeLong(getIssuer());
+    out.writeDouble(getMktValue());
+    out.writeDouble(getQty());
+    DataSerializer.writeString(secId, out);
+    DataSerializer.writeString(secIdIndexed, out);
+    DataSerializer.writeString(getSecLinks(), out);
+    DataSerializer.writeString(secType, out);
+    out.writeDouble(getSharesOutstanding());
+    DataSerializer.writeString(underlyer, out);
+    out.writeLong(getVolatility());
+    out.writeInt(getPid());
+    out.writeInt(portfolioId);
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException {
+    setAvg20DaysVol(in.readLong());
+    setBondRating(DataSerializer.readString(in));
+    setConvRatio(in.readDouble());
+    setCountry(DataSerializer.readString(in));
+    setDelta(in.readDouble());
+    setIndustry(in.readLong());
+    setIssuer(in.readLong());
+    setMktValue(in.readDouble());
+    setQty(in.readDouble());
+    secId = DataSerializer.readString(in);
+    secIdIndexed = DataSerializer.readString(in);
+    setSecLinks(DataSerializer.readString(in));
+    secType = DataSerializer.readString(in);
+    setSharesOutstanding(in.readDouble());
+    underlyer = DataSerializer.readString(in);
+    setVolatility(in.readLong());
+    setPid(in.readInt());
+    portfolioId = in.readInt();
+  }
+}
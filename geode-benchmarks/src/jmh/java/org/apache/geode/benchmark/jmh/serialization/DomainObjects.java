@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.jmh.serialization;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import benchmark.geode.data.CollectionHolder;
+import benchmark.geode.data.Portfolio;
+import benchmark.geode.data.Position;
+
+/**
+ * Copies the benchmark's domain objects into the subclasses that serialize themselves, so every
+ * format serializes the same state.
+ */
+class DomainObjects {
+
+  static <T extends Portfolio> T copy(Portfolio from, T to, Function<Position, Position> position,
+      Function<CollectionHolder, CollectionHolder> collectionHolder) {
+    to.setaDay(from.getaDay());
+    to.setShortID(from.getShortID());
+    to.setID(from.getID());
+    to.setPkid(from.getPkid());
+    to.setPosition1(copy(from.getPosition1(), position));
+    to.setPosition2(copy(from.getPosition2(), position));
+    if (from.getPosition3() != null) {
+      to.setPosition3(copy(from.getPosition3(), position));
+    }
+    to.setPosition3Size(from.getPosition3Size());
+    to.setDescription(from.getDescription());
+    to.setCreateTime(from.getCreateTime());
+    to.setPositions(copy(from.getPositions(), position));
+    to.setCollectionHolderMap(copy(from.getCollectionHolderMap(), collectionHolder));
+    to.setType(from.getType());
+    to.setStatus(from.getStatus());
+    to.setNames(from.getNames());
+    to.setUnicodeṤtring(from.getUnicodeṤtring());
+    return to;
+  }
+
+  static <T extends Position> T copy(Position from, T to) {
+    to.setAvg20DaysVol(from.getAvg20DaysVol());
+    to.setBondRating(from.getBondRating());
+    to.setConvRatio(from.getConvRatio());
+    to.setCountry(from.getCountry());
+    to.setDelta(from.getDelta());
+    to.setIndustry(from.getIndustry());
+    to.setIssuer(from.getIssuer());
+    to.setMktValue(from.getMktValue());
+    to.setQty(from.getQty());
+    to.setSecId(from.getSecId());
+    to.setSecIdIndexed(from.getSecIdIndexed());
+    to.setSecLinks(from.getSecLinks());
+    to.setSecType(from.getSecType());
+    to.setSharesOutstanding(from.getSharesOutstanding());
+    to.setUnderlyer(from.getUnderlyer());
+    to.setVolatility(from.getVolatility());
+    to.setPid(from.getPid());
+    to.setPortfolioId(from.getPortfolioId());
+    return to;
+  }
+
+  static <T extends CollectionHolder> T copy(CollectionHolder from, T to) {
+    to.setArr(from.getArr());
+    return to;
+  }
+
+  /**
+   * Copies the positions of a {@link Portfolio#position3} tree, which may nest arrays.
+   */
+  private static Object[] copy(Object[] from, Function<Position, Position> position) {
+    final Object[] to = new Object[from.length];
+    for (int i = 0; i < to.length; i++) {
+      to[i] = from[i] instanceof Object[] ? copy((Object[]) from[i], position)
+          : copy((Position) from[i], position);
+    }
+    return to;
+  }
+
+  private static <T> T copy(T from, Function<T, T> copy) {
+    return from == null ? null : copy.apply(from);
+  }
+
+  private static <T> HashMap<String, T> copy(Map<String, T> from, Function<T, T> copy) {
+    final HashMap<String, T> to = new HashMap<>();
+    from.forEach((key, value) -> to.put(key, copy(value, copy)));
+    return to;
+  }
+}
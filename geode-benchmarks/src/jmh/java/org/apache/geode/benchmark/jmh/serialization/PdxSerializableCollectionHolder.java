@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.jmh.serialization;
+
+import benchmark.geode.data.CollectionHolder;
+
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializable;
+import org.apache.geode.pdx.PdxWriter;
+
+/**
+ * A {@link CollectionHolder} with a hand-written {@link PdxSerializable} implementation.
+ */
+public class PdxSerializableCollectionHolder extends CollectionHolder implements PdxSerializable {
+
+  public PdxSerializableCollectionHolder() {}
+
+  public PdxSerializableCollectionHolder(CollectionHolder collectionHolder) {
+    DomainObjects.copy(collectionHolder, this);
+  }
+
+  @Override
+  public void toData(PdxWriter writer) {
+    writer.writeStringArray("arr", arr);
+  }
+
+  @Override
+  public void fromData(PdxReader reader) {
+    arr = reader.readStringArray("arr");
+  }
+}
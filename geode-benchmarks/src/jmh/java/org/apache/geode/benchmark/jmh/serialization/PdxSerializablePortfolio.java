@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.jmh.serialization;
+
+import java.util.HashMap;
+
+import benchmark.geode.data.CollectionHolder;
+import benchmark.geode.data.Portfolio;
+import benchmark.geode.data.Position;
+
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializable;
+import org.apache.geode.pdx.PdxWriter;
+
+/**
+ * A {@link Portfolio} with a hand-written {@link PdxSerializable} implementation of the fields
+ * the {@link org.apache.geode.pdx.ReflectionBasedAutoSerializer} would write.
+ */
+public class PdxSerializablePortfolio extends Portfolio implements PdxSerializable {
+
+  public PdxSerializablePortfolio() {}
+
+  public PdxSerializablePortfolio(Portfolio portfolio) {
+    DomainObjects.copy(portfolio, this, PdxSerializablePosition::new,
+        PdxSerializableCollectionHolder::new);
+  }
+
+  @Override
+  public void toData(PdxWriter writer) {
+    writer.writeObject("aDay", aDay)
+        .writeShort("shortID", shortID)
+        .writeLong("ID", getID())
+        .writeString("pkid", pkid)
+        .writeObject("position1", position1)
+        .writeObject("position2", position2)
+        .writeObjectArray("position3", position3)
+        .writeInt("position3Size", getPosition3Size())
+        .writeString("description", description)
+        .writeLong("createTime", createTime)
+        .writeObject("positions", positions)
+        .writeObject("collectionHolderMap", collectionHolderMap)
+        .writeString("type", getType())
+        .writeString("status", status)
+        .writeStringArray("names", names)
+        .writeString("unicodeṤtring", unicodeṤtring);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void fromData(PdxReader reader) {
+    aDay = (Day) reader.readObject("aDay");
+    shortID = reader.readShort("shortID");
+    setID(reader.readLong("ID"));
+    pkid = reader.readString("pkid");
+    position1 = (Position) reader.readObject("position1");
+    position2 = (Position) reader.readObject("position2");
+    position3 = reader.readObjectArray("position3");
+    setPosition3Size(reader.readInt("position3Size"));
+    description = reader.readString("description");
+    createTime = reader.readLong("createTime");
+    positions = (HashMap<String, Position>) reader.readObject("positions");
+    collectionHolderMap =
+        (HashMap<String, CollectionHolder>) reader.readObject("collectionHolderMap");
+    setType(reader.readString("type"));
+    status = reader.readString("status");
+    names = reader.readStringArray("names");
+    unicodeṤtring = reader.readString("unicodeṤtring");
+  }
+}
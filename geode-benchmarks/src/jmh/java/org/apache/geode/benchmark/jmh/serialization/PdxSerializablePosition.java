@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.jmh.serialization;
+
+import benchmark.geode.data.Position;
+
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializable;
+import org.apache.geode.pdx.PdxWriter;
+
+/**
+ * A {@link Position} with a hand-written {@link PdxSerializable} implementation.
+ */
+public class PdxSerializablePosition extends Position implements PdxSerializable {
+
+  public PdxSerializablePosition() {}
+
+  public PdxSerializablePosition(Position position) {
+    DomainObjects.copy(position, this);
+  }
+
+  @Override
+  public void toData(PdxWriter writer) {
+    writer.writeLong("avg20DaysVol", getAvg20DaysVol())
+        .writeString("bondRating", getBondRating())
+        .writeDouble("convRatio", getConvRatio())
+        .writeString("country", getCountry())
+        .writeDouble("delta", getDelta())
+        .writeLong("industry", getIndustry())
+        .writeLong("issuer", getIssuer())
+        .writeDouble("mktValue", getMktValue())
+        .writeDouble("qty", getQty())
+        .writeString("secId", secId)
+        .writeString("secIdIndexed", secIdIndexed)
+        .writeString("secLinks", getSecLinks())
+        .writeString("secType", secType)
+        .writeDouble("sharesOutstanding", getSharesOutstanding())
+        .writeString("underlyer", underlyer)
+        .writeLong("volatility", getVolatility())
+        .writeInt("pid", getPid())
+        .writeInt("portfolioId", portfolioId);
+  }
+
+  @Override
+  public void fromData(PdxReader reader) {
+    setAvg20DaysVol(reader.readLong("avg20DaysVol"));
+    setBondRating(reader.readString("bondRating"));
+    setConvRatio(reader.readDouble("convRatio"));
+    setCountry(reader.readString("country"));
+    setDelta(reader.readDouble("delta"));
+    setIndustry(reader.readLong("industry"));
+    setIssuer(reader.readLong("issuer"));
+    setMktValue(reader.readDouble("mktValue"));
+    setQty(reader.readDouble("qty"));
+    secId = reader.readString("secId");
+    secIdIndexed = reader.readString("secIdIndexed");
+    setSecLinks(reader.readString("secLinks"));
+    secType = reader.readString("secType");
+    setSharesOutstanding(reader.readDouble("sharesOutstanding"));
+    underlyer = reader.readString("underlyer");
+    setVolatility(reader.readLong("volatility"));
+    setPid(reader.readInt("pid"));
+    portfolioId = reader.readInt("portfolioId");
+  }
+}
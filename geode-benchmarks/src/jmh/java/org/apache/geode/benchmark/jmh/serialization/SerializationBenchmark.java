@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.jmh.serialization;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOCATORS;
+import static org.apache.geode.distributed.ConfigurationProperties.LOG_LEVEL;
+import static org.apache.geode.distributed.ConfigurationProperties.MCAST_PORT;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import benchmark.geode.data.Portfolio;
+import benchmark.geode.data.PortfolioShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.pdx.ReflectionBasedAutoSerializer;
+
+/**
+ * Cost of serializing and deserializing the {@link Portfolio} the put benchmarks store, without
+ * the network, in each of the formats Geode supports and for each {@link PortfolioShape}. The PDX
+ * auto-serializer is configured the way the servers and clients of the benchmarks configure it.
+ * Run with the GC profiler, {@code -prof gc}, to report the bytes allocated by each operation as
+ * well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SerializationBenchmark {
+
+  public enum Format {
+    PDX_AUTO_SERIALIZER {
+      @Override
+      Object create(Portfolio portfolio) {
+        return portfolio;
+      }
+    },
+    PDX_SERIALIZABLE {
+      @Override
+      Object create(Portfolio portfolio) {
+        return new PdxSerializablePortfolio(portfolio);
+      }
+    },
+    DATA_SERIALIZABLE {
+      @Override
+      Object create(Portfolio portfolio) {
+        return new DataSerializablePortfolio(portfolio);
+      }
+    },
+    JAVA_SERIALIZATION {
+      @Override
+      Object create(Portfolio portfolio) {
+        return portfolio;
+      }
+
+      @Override
+      void serialize(Object value, OutputStream out) throws IOException {
+        final ObjectOutputStream objectOut = new ObjectOutputStream(out);
+        objectOut.writeObject(value);
+        objectOut.flush();
+      }
+
+      @Override
+      Object deserialize(InputStream in) throws IOException, ClassNotFoundException {
+        return new ObjectInputStream(in).readObject();
+      }
+    };
+
+    abstract Object create(Portfolio portfolio);
+
+    void serialize(Object value, OutputStream out) throws IOException {
+      DataSerializer.writeObject(value, new DataOutputStream(out));
+    }
+
+    Object deserialize(InputStream in) throws IOException, ClassNotFoundException {
+      return DataSerializer.readObject(new DataInputStream(in));
+    }
+  }
+
+  @Param
+  public Format format;
+
+  @Param({"shallow", "medium", "deep"})
+  public String shape;
+
+  private Cache cache;
+  private Object value;
+  private ByteArrayOutputStream out;
+  private byte[] serialized;
+
+  @Setup
+  public void setUp() throws IOException, ClassNotFoundException {
+    // PDX types are registered with the cache, so there has to be one.
+    cache = new CacheFactory()
+        .set(LOCATORS, "")
+        .set(MCAST_PORT, "0")
+        .set(LOG_LEVEL, "warn")
+        .setPdxSerializer(new ReflectionBasedAutoSerializer("benchmark.geode.data.*"))
+        .create();
+    value = format.create(PortfolioShape.parse(shape).create(1));
+    out = new ByteArrayOutputStream();
+    serialize();
+    serialized = out.toByteArray();
+    final Object deserialized = deserialize();
+    if (!value.equals(deserialized) || value.getClass() != deserialized.getClass()) {
+      throw new IllegalStateException(format + " deserialized " + deserialized);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    cache.close();
+  }
+
+  @Benchmark
+  public int serialize() throws IOException {
+    out.reset();
+    format.serialize(value, out);
+    return out.size();
+  }
+
+  @Benchmark
+  public Object deserialize() throws IOException, ClassNotFoundException {
+    return format.deserialize(new ByteArrayInputStream(serialized));
+  }
+}
@@ -15,10 +15,11 @@
 package benchmark.geode.data;
 
 
+import java.io.Serializable;
 import java.util.Arrays;
 
 
-public class CollectionHolder {
+public class CollectionHolder implements Serializable {
 
   public String[] arr;
   public static String secIds[] = {"SUN", "IBM", "YHOO", "GOOG", "MSFT", "AOL", "APPL", "ORCL",
@@ -26,14 +27,22 @@ public class CollectionHolder {
 
   /** Creates a new instance of CollectionHolder */
   public CollectionHolder() {
-    this.arr = new String[10];
-    for (int i = 0; i < 5; i++) {
+    this(10);
+  }
+
+  /**
+   * Creates a holder of {@code size} strings, the first half numbers and the rest secIds.
+   */
+  public CollectionHolder(int size) {
+    this.arr = new String[size];
+    final int half = size / 2;
+    for (int i = 0; i < half; i++) {
       arr[i] = "" + i;
     }
-    for (int i = 5; i < 10; i++) {
-      arr[i] = secIds[i - 5];
+    for (int i = half; i < size; i++) {
+      final int secId = i - half;
+      arr[i] = secIds[secId % secIds.length] + (secId < secIds.length ? "" : secId);
     }
-
   }
 
   public String[] getArr() {
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package benchmark.geode.data;
+
+import java.util.Set;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+
+/**
+ * Returns the entries for the keys in its filter as a map, from each member it runs on. On a
+ * partitioned region it runs on the primaries of the keys and reads only their local data.
+ */
+public class FunctionGetAll implements Function<Object> {
+
+  public FunctionGetAll() {}
+
+  @Override
+  public void execute(final FunctionContext<Object> context) {
+    final RegionFunctionContext regionFunctionContext = (RegionFunctionContext) context;
+    final Region<Object, Object> region =
+        PartitionRegionHelper.isPartitionedRegion(regionFunctionContext.getDataSet())
+            ? PartitionRegionHelper.getLocalDataForContext(regionFunctionContext)
+            : regionFunctionContext.getDataSet();
+    final Set<?> keys = regionFunctionContext.getFilter();
+
+    context.getResultSender().lastResult(region.getAll(keys));
+  }
+
+  @Override
+  public String getId() {
+    return "FunctionGetAll";
+  }
+
+  @Override
+  public boolean optimizeForWrite() {
+    return true;
+  }
+
+  @Override
+  public boolean isHA() {
+    return true;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package benchmark.geode.data;
+
+import java.io.Serializable;
+
+import org.apache.geode.cache.EntryOperation;
+import org.apache.geode.cache.PartitionResolver;
+
+/**
+ * Routes long keys in groups of consecutive keys, {@code groupSize * n} to
+ * {@code groupSize * (n + 1) - 1}, so each group is colocated in one bucket and can be updated in
+ * a transaction.
+ */
+public class KeyGroupPartitionResolver implements PartitionResolver<Object, Object>, Serializable {
+
+  private final int groupSize;
+
+  public KeyGroupPartitionResolver(int groupSize) {
+    if (groupSize < 1) {
+      throw new IllegalArgumentException("groupSize must be at least 1");
+    }
+    this.groupSize = groupSize;
+  }
+
+  public int getGroupSize() {
+    return groupSize;
+  }
+
+  @Override
+  public Object getRoutingObject(EntryOperation<Object, Object> operation) {
+    return Math.floorDiv((Long) operation.getKey(), groupSize);
+  }
+
+  @Override
+  public String getName() {
+    return getClass().getName();
+  }
+}
@@ -19,13 +19,14 @@ package benchmark.geode.data;
 
 import static java.lang.Math.abs;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class Portfolio {
+public class Portfolio implements Serializable {
 
   public enum Day {
     Sunday, Monday, Tuesday, Wednesday, Thursday, Friday, Saturday
@@ -59,6 +60,15 @@ public class Portfolio {
   public Portfolio() {}
 
   public Portfolio(long i) {
+    this(i, 2, 4, 10);
+  }
+
+  /**
+   * Creates a portfolio with the given numbers of positions and collection holders, each holder
+   * with an array of {@code collectionSize} strings. {@link #Portfolio(long)} has two positions and
+   * four holders of ten strings.
+   */
+  public Portfolio(long i, int positionCount, int collectionHolderCount, int collectionSize) {
     aDay = (Day) (dayList.get((int) (i % dayList.size())));
     ID = i;
     if (i % 2 == 0) {
@@ -76,15 +86,15 @@ public class Portfolio {
       position2 = null;
     }
 
-    positions.put(secIds[getPositionIndex()],
-        new Position(secIds[getPositionIndex()], Position.cnt * 1000L));
-    positions.put(secIds[getPositionIndex()],
-        new Position(secIds[getPositionIndex()], Position.cnt * 1000L));
+    for (int k = 0; k < positionCount; k++) {
+      // Past the last secId, number the keys so that every position is kept.
+      positions.put(secIds[getPositionIndex()] + (k < secIds.length ? "" : k),
+          new Position(secIds[getPositionIndex()], Position.cnt * 1000L));
+    }
 
-    collectionHolderMap.put("0", new CollectionHolder());
-    collectionHolderMap.put("1", new CollectionHolder());
-    collectionHolderMap.put("2", new CollectionHolder());
-    collectionHolderMap.put("3", new CollectionHolder());
+    for (int k = 0; k < collectionHolderCount; k++) {
+      collectionHolderMap.put("" + k, new CollectionHolder(collectionSize));
+    }
 
     unicodeṤtring = i % 2 == 0 ? "ṤṶẐ" : "ṤẐṶ";
   }
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package benchmark.geode.data;
+
+import java.io.Serializable;
+import java.util.Locale;
+
+/**
+ * The shape of the object graph of the {@link Portfolio portfolios} a benchmark stores. Every
+ * shape has the same query-visible fields; what changes is how many positions and collection
+ * holders a portfolio has, how long the holders' arrays are, and how deeply nested positions hang
+ * off {@code position3}.
+ */
+public class PortfolioShape implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * A single position and no collection holders.
+   */
+  public static final PortfolioShape SHALLOW = new PortfolioShape("shallow", 1, 0, 0, 0, 0);
+
+  /**
+   * The graph {@link Portfolio#Portfolio(long)} builds: two positions and four collection
+   * holders of ten strings.
+   */
+  public static final PortfolioShape MEDIUM = new PortfolioShape("medium", 2, 4, 10, 0, 0);
+
+  /**
+   * Many positions, many long collection holders, and a tree of positions three arrays deep.
+   */
+  public static final PortfolioShape DEEP = new PortfolioShape("deep", 32, 16, 64, 3, 4);
+
+  private final String name;
+  private final int positions;
+  private final int collectionHolders;
+  private final int collectionSize;
+  private final int depth;
+  private final int fanOut;
+
+  /**
+   * @param positions the number of entries in {@link Portfolio#positions}
+   * @param collectionHolders the number of entries in {@link Portfolio#collectionHolderMap}
+   * @param collectionSize the length of the array of each {@link CollectionHolder}
+   * @param depth how many levels of nested arrays {@link Portfolio#position3} holds, with
+   *        positions at the bottom, or 0 for none
+   * @param fanOut the length of each of the nested arrays
+   */
+  public PortfolioShape(int positions, int collectionHolders, int collectionSize, int depth,
+      int fanOut) {
+    this(positions + ":" + collectionHolders + ":" + collectionSize + ":" + depth + ":" + fanOut,
+        positions, collectionHolders, collectionSize, depth, fanOut);
+  }
+
+  private PortfolioShape(String name, int positions, int collectionHolders, int collectionSize,
+      int depth, int fanOut) {
+    if (positions < 0 || collectionHolders < 0 || collectionSize < 0 || depth < 0
+        || fanOut < 0) {
+      throw new IllegalArgumentException("shape parameters must not be negative");
+    }
+    if (depth > 0 && fanOut == 0) {
+      throw new IllegalArgumentException("fanOut must be at least 1 when depth is");
+    }
+    this.name = name;
+    this.positions = positions;
+    this.collectionHolders = collectionHolders;
+    this.collectionSize = collectionSize;
+    this.depth = depth;
+    this.fanOut = fanOut;
+  }
+
+  /**
+   * Create a portfolio of this shape with the given ID.
+   */
+  public Portfolio create(long id) {
+    final Portfolio portfolio = new Portfolio(id, positions, collectionHolders, collectionSize);
+    if (depth > 0) {
+      portfolio.setPosition3(tree(depth));
+      portfolio.setPosition3Size(fanOut);
+    }
+    return portfolio;
+  }
+
+  private Object[] tree(int levels) {
+    final Object[] children = new Object[fanOut];
+    for (int i = 0; i < fanOut; i++) {
+      children[i] = levels > 1 ? tree(levels - 1) : new Position(secId(i), (i + 1) * 1000L);
+    }
+    return children;
+  }
+
+  private static String secId(int i) {
+    final String secId = Portfolio.secIds[i % Portfolio.secIds.length];
+    return i < Portfolio.secIds.length ? secId : secId + i;
+  }
+
+  /**
+   * Parse a shape from {@code shallow}, {@code medium}, {@code deep}, or
+   * {@code positions:collectionHolders:collectionSize:depth:fanOut}.
+   *
+   * @throws IllegalArgumentException if the specification is not valid
+   */
+  public static PortfolioShape parse(String specification) {
+    final String[] parts = specification.trim().split(":");
+    try {
+      switch (parts[0].toLowerCase(Locale.ROOT)) {
+        case "shallow":
+          checkParameters(parts, 1);
+          return SHALLOW;
+        case "medium":
+          checkParameters(parts, 1);
+          return MEDIUM;
+        case "deep":
+          checkParameters(parts, 1);
+          return DEEP;
+        default:
+          checkParameters(parts, 5);
+          return new PortfolioShape(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+              Integer.parseInt(parts[2]), Integer.parseInt(parts[3]), Integer.parseInt(parts[4]));
+      }
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          "Invalid portfolio shape \"" + specification + "\": " + e.getMessage(), e);
+    }
+  }
+
+  private static void checkParameters(String[] parts, int count) {
+    if (parts.length != count) {
+      throw new IllegalArgumentException("expected shallow, medium, deep or "
+          + "positions:collectionHolders:collectionSize:depth:fanOut");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
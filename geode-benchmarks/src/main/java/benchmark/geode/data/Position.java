@@ -15,7 +15,9 @@
 
 package benchmark.geode.data;
 
-public class Position {
+import java.io.Serializable;
+
+public class Position implements Serializable {
   private long avg20DaysVol = 0;
   private String bondRating;
   private double convRatio;
@@ -17,6 +17,8 @@
 
 package org.apache.geode.benchmark;
 
+import java.util.Arrays;
+
 import org.yardstickframework.BenchmarkDriver;
 
 import org.apache.geode.benchmark.topology.Roles;
@@ -39,8 +41,8 @@ public class Config {
   }
 
   public static void workload(final TestConfig config, final BenchmarkDriver task,
-      final Roles role) {
-    config.workload(task, role.name());
+      final Roles... roles) {
+    config.workload(task, Arrays.stream(roles).map(Roles::name).toArray(String[]::new));
   }
 
   public static void after(final TestConfig config, final Task task, final Roles role) {
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.yardstickframework.BenchmarkConfiguration;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientCacheFactory;
+
+/**
+ * Reads a batch of batchSize distinct random keys on every call. As well as the latency of each
+ * call, the latency of the call divided by the number of keys is recorded as the latency of each
+ * of the batch's entries, so results are reported both per call and per {@value #ENTRY}.
+ *
+ * The batches are drawn when the task is set up, so that both latencies time only the read, and
+ * each call reads one of them at random.
+ */
+abstract class AbstractGetAllTask extends AbstractMultiOperationTask {
+  static final String ENTRY = "entry";
+
+  /**
+   * The most batches drawn.
+   */
+  static final int MAX_BATCHES = 100;
+
+  /**
+   * The most keys in all of the batches, which fewer batches are drawn to keep to.
+   */
+  static final int MAX_BATCHED_KEYS = 250_000;
+
+  private final LongRange keyRange;
+  private final int batchSize;
+  private final boolean isValidationEnabled;
+
+  private Region<Long, Object> region;
+  private List<Set<Long>> batches;
+
+  AbstractGetAllTask(LongRange keyRange, int batchSize, boolean isValidationEnabled) {
+    super(ENTRY);
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize must be at least 1");
+    }
+    if (batchSize > keyRange.size()) {
+      throw new IllegalArgumentException(
+          "batchSize must be no more than the " + keyRange.size() + " keys of " + keyRange);
+    }
+    this.keyRange = keyRange;
+    this.batchSize = batchSize;
+    this.isValidationEnabled = isValidationEnabled;
+  }
+
+  @Override
+  public void setUp(BenchmarkConfiguration cfg) throws Exception {
+    super.setUp(cfg);
+    createBatches();
+    final ClientCache cache = ClientCacheFactory.getAnyInstance();
+    region = cache.getRegion("region");
+  }
+
+  /**
+   * Draw the batches read by {@link #test(Map)}.
+   */
+  void createBatches() {
+    final int count = Math.max(1, Math.min(MAX_BATCHES, MAX_BATCHED_KEYS / batchSize));
+    batches = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      batches.add(createBatch());
+    }
+  }
+
+  private Set<Long> createBatch() {
+    final Set<Long> keys = new HashSet<>(batchSize * 2);
+    while (keys.size() < batchSize) {
+      // A key already in the batch is replaced by the next one that is not, so that a batch
+      // takes batchSize draws however skewed the distribution is.
+      long key = keyRange.random();
+      while (!keys.add(key)) {
+        key = key + 1 < keyRange.getMax() ? key + 1 : keyRange.getMin();
+      }
+    }
+    return keys;
+  }
+
+  @Override
+  public boolean test(Map<Object, Object> ctx) throws Exception {
+    final Set<Long> keys = batches.get(ThreadLocalRandom.current().nextInt(batches.size()));
+
+    final long start = System.nanoTime();
+    final int entries = getAll(region, keys, isValidationEnabled);
+    recordOperations(0, (System.nanoTime() - start) / batchSize, batchSize);
+
+    if (isValidationEnabled) {
+      assertThat(entries).isEqualTo(batchSize);
+    }
+
+    return true;
+  }
+
+  /**
+   * Read the entries for the keys from the region.
+   *
+   * @return the number of entries read
+   */
+  abstract int getAll(Region<Long, Object> region, Set<Long> keys, boolean isValidationEnabled)
+      throws Exception;
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+import org.yardstickframework.BenchmarkDriverAdapter;
+
+import org.apache.geode.perftest.MultiOperationDriver;
+import org.apache.geode.perftest.OperationRecorder;
+
+/**
+ * Base class of the tasks that run or observe more than one kind of operation. It holds the
+ * {@link OperationRecorder} the harness passes the task, which may be used from the task's
+ * listeners as well as from the workload threads, and records to it once it has been set.
+ */
+abstract class AbstractMultiOperationTask extends BenchmarkDriverAdapter
+    implements MultiOperationDriver, Serializable {
+  private final List<String> operationNames;
+
+  private transient volatile OperationRecorder operationRecorder;
+
+  /**
+   * @param operationNames The names of the operations, in the order of their indexes
+   */
+  AbstractMultiOperationTask(String... operationNames) {
+    this.operationNames = Arrays.asList(operationNames);
+  }
+
+  @Override
+  public List<String> getOperationNames() {
+    return operationNames;
+  }
+
+  @Override
+  public void setOperationRecorder(OperationRecorder operationRecorder) {
+    this.operationRecorder = operationRecorder;
+  }
+
+  OperationRecorder getOperationRecorder() {
+    return operationRecorder;
+  }
+
+  /**
+   * See {@link OperationRecorder#ranOperation(int)}.
+   */
+  void ranOperation(int operation) {
+    final OperationRecorder operationRecorder = this.operationRecorder;
+    if (operationRecorder != null) {
+      operationRecorder.ranOperation(operation);
+    }
+  }
+
+  /**
+   * See {@link OperationRecorder#recordOperation(int, long)}.
+   */
+  void recordOperation(int operation, long latencyNanos) {
+    final OperationRecorder operationRecorder = this.operationRecorder;
+    if (operationRecorder != null) {
+      operationRecorder.recordOperation(operation, latencyNanos);
+    }
+  }
+
+  /**
+   * See {@link OperationRecorder#recordOperations(int, long, long)}.
+   */
+  void recordOperations(int operation, long latencyNanos, long count) {
+    final OperationRecorder operationRecorder = this.operationRecorder;
+    if (operationRecorder != null) {
+      operationRecorder.recordOperations(operation, latencyNanos, count);
+    }
+  }
+}
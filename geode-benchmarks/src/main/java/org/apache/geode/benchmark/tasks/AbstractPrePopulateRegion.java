@@ -66,7 +66,7 @@ public abstract class AbstractPrePopulateRegion<K, V> implements Task {
    * This method prepopulates the region before the actual benchmark starts.
    */
   @Override
-  public void run(TestContext context) throws InterruptedException {
+  public void run(TestContext context) throws Exception {
     final Cache cache = CacheFactory.getAnyInstance();
     final Region<K, V> region = cache.getRegion("region");
     final ArrayList<Integer> hostIds =
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.BenchmarkDriverAdapter;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+
+/**
+ * Base of the tasks of the YCSB core workloads. As in YCSB, a record is a map of field names,
+ * {@code field0} to {@code field<n-1>}, to random values of a fixed length.
+ */
+public abstract class AbstractYcsbTask extends BenchmarkDriverAdapter implements Serializable {
+
+  protected final LongRange keyRange;
+  protected final int fieldCount;
+  protected final int fieldLength;
+
+  protected Region<Long, HashMap<String, byte[]>> region;
+
+  protected AbstractYcsbTask(final LongRange keyRange, final int fieldCount,
+      final int fieldLength) {
+    this.keyRange = keyRange;
+    this.fieldCount = fieldCount;
+    this.fieldLength = fieldLength;
+  }
+
+  @Override
+  public void setUp(final BenchmarkConfiguration cfg) throws Exception {
+    super.setUp(cfg);
+    final Cache cache = CacheFactory.getAnyInstance();
+    region = cache.getRegion("region");
+  }
+
+  protected HashMap<String, byte[]> newRecord() {
+    return newRecord(fieldCount, fieldLength);
+  }
+
+  static HashMap<String, byte[]> newRecord(final int fieldCount, final int fieldLength) {
+    final HashMap<String, byte[]> record = new HashMap<>();
+    for (int i = 0; i < fieldCount; i++) {
+      record.put(fieldName(i), newField(fieldLength));
+    }
+    return record;
+  }
+
+  static String fieldName(final int field) {
+    return "field" + field;
+  }
+
+  static byte[] newField(final int fieldLength) {
+    final byte[] value = new byte[fieldLength];
+    ThreadLocalRandom.current().nextBytes(value);
+    return value;
+  }
+}
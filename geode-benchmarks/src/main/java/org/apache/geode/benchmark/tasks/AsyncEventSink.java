@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+
+/**
+ * Where a {@link SinkAsyncEventListener} writes each batch of events, standing in for the
+ * database behind a write-behind cache.
+ */
+public abstract class AsyncEventSink implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  static final long DEFAULT_LATENCY_MILLIS = 5;
+  static final String FILE_NAME = "async-events.bin";
+
+  /**
+   * Called once, before any batch is written.
+   *
+   * @param directory The output directory of the server
+   */
+  void open(File directory) throws IOException {}
+
+  /**
+   * Write a batch of events, which may be called from several dispatcher threads at once.
+   */
+  abstract void write(List<AsyncEvent> events) throws IOException, InterruptedException;
+
+  void close() throws IOException {}
+
+  /**
+   * Parse a sink from a specification of the form {@code name[:parameter]}.
+   * <ul>
+   * <li>{@code noop}, which discards the events, so only the queue is measured</li>
+   * <li>{@code latency[:millis]}, which waits {@value #DEFAULT_LATENCY_MILLIS} ms, or the given
+   * time, for each batch, like a round trip to a database</li>
+   * <li>{@code file}, which appends the key and serialized value of each event to
+   * {@value #FILE_NAME} in the server's output directory and syncs it to disk after each batch,
+   * like a database commit</li>
+   * </ul>
+   *
+   * @throws IllegalArgumentException if the specification is not valid
+   */
+  public static AsyncEventSink parse(String specification) {
+    final String[] parts = specification.trim().split(":");
+    final String name = parts[0].toLowerCase(Locale.ROOT);
+    try {
+      switch (name) {
+        case "noop":
+          checkParameters(parts, 0);
+          return new NoopSink();
+        case "latency":
+          checkParameters(parts, 1);
+          return new LatencySink(
+              parts.length > 1 ? Long.parseLong(parts[1]) : DEFAULT_LATENCY_MILLIS);
+        case "file":
+          checkParameters(parts, 0);
+          return new FileSink();
+        default:
+          throw new IllegalArgumentException("Unknown sink " + name);
+      }
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          "Invalid async event sink \"" + specification + "\": " + e.getMessage(), e);
+    }
+  }
+
+  private static void checkParameters(String[] parts, int max) {
+    if (parts.length - 1 > max) {
+      throw new IllegalArgumentException("Expected at most " + max + " parameters");
+    }
+  }
+
+  static class NoopSink extends AsyncEventSink {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    void write(List<AsyncEvent> events) {}
+  }
+
+  static class LatencySink extends AsyncEventSink {
+    private static final long serialVersionUID = 1L;
+
+    private final long latencyMillis;
+
+    LatencySink(long latencyMillis) {
+      if (latencyMillis < 0) {
+        throw new IllegalArgumentException("Latency must not be negative");
+      }
+      this.latencyMillis = latencyMillis;
+    }
+
+    long getLatencyMillis() {
+      return latencyMillis;
+    }
+
+    @Override
+    void write(List<AsyncEvent> events) throws InterruptedException {
+      MILLISECONDS.sleep(latencyMillis);
+    }
+  }
+
+  static class FileSink extends AsyncEventSink {
+    private static final long serialVersionUID = 1L;
+
+    private transient FileOutputStream file;
+    private transient DataOutputStream output;
+
+    @Override
+    void open(File directory) throws IOException {
+      file = new FileOutputStream(new File(directory, FILE_NAME), true);
+      output = new DataOutputStream(new BufferedOutputStream(file));
+    }
+
+    @Override
+    synchronized void write(List<AsyncEvent> events) throws IOException {
+      for (AsyncEvent event : events) {
+        output.writeUTF(String.valueOf(event.getKey()));
+        final byte[] value = event.getSerializedValue();
+        if (value == null) {
+          output.writeInt(-1);
+        } else {
+          output.writeInt(value.length);
+          output.write(value);
+        }
+      }
+      output.flush();
+      file.getFD().sync();
+    }
+
+    @Override
+    synchronized void close() throws IOException {
+      output.close();
+    }
+  }
+}
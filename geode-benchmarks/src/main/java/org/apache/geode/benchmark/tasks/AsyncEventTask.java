@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.apache.geode.benchmark.tasks.CreateAsyncEventQueue.QUEUE_ID;
+import static org.apache.geode.benchmark.tasks.SinkAsyncEventListener.currentTimeNanos;
+import static org.apache.geode.benchmark.topology.Roles.SERVER;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import benchmark.geode.data.PortfolioShape;
+import org.yardstickframework.BenchmarkConfiguration;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.perftest.OperationRecorder;
+import org.apache.geode.perftest.jvms.RemoteJVMFactory;
+
+/**
+ * Task workload for the clients that put to a region with an async event queue and the servers
+ * that dispatch the queue. A client puts portfolios within the keyRange, each with the time it
+ * was written as its callback argument, and records them as {@value #PUT}s. A server only observes
+ * the workload, recording each event its queue dispatches as an {@value #EVENT}, with the latency
+ * from the put to the listener, which is the time the event spent in the queue, and each batch as
+ * a {@value #BATCH}, with the latency of the {@link AsyncEventSink} writing it.
+ */
+public class AsyncEventTask extends AbstractMultiOperationTask {
+  static final String PUT = "put";
+  static final String EVENT = "event";
+  static final String BATCH = "batch";
+
+  private static final int PUT_OPERATION = 0;
+  private static final int EVENT_OPERATION = 1;
+  private static final int BATCH_OPERATION = 2;
+
+  private final LongRange keyRange;
+  private final PortfolioShape shape;
+
+  private Region<Object, Object> region;
+  private SinkAsyncEventListener listener;
+
+  public AsyncEventTask(LongRange keyRange, PortfolioShape shape) {
+    super(PUT, EVENT, BATCH);
+    this.keyRange = keyRange;
+    this.shape = shape;
+  }
+
+  @Override
+  public Set<String> getObserverRoles() {
+    return Collections.singleton(SERVER.name());
+  }
+
+  @Override
+  public void setUp(BenchmarkConfiguration cfg) throws Exception {
+    super.setUp(cfg);
+    if (!SERVER.name().equals(System.getProperty(RemoteJVMFactory.ROLE))) {
+      region = ClientCacheFactory.getAnyInstance().getRegion("region");
+      return;
+    }
+
+    listener = (SinkAsyncEventListener) CacheFactory.getAnyInstance()
+        .getAsyncEventQueue(QUEUE_ID).getAsyncEventListener();
+    setListenerRecorder();
+  }
+
+  @Override
+  public synchronized void setOperationRecorder(OperationRecorder operationRecorder) {
+    super.setOperationRecorder(operationRecorder);
+    setListenerRecorder();
+  }
+
+  private synchronized void setListenerRecorder() {
+    final OperationRecorder operationRecorder = getOperationRecorder();
+    if (listener != null && operationRecorder != null) {
+      listener.setOperationRecorder(operationRecorder, EVENT_OPERATION, BATCH_OPERATION);
+    }
+  }
+
+  @Override
+  public synchronized void tearDown() throws Exception {
+    if (listener != null) {
+      listener.setOperationRecorder(null, EVENT_OPERATION, BATCH_OPERATION);
+    }
+    super.tearDown();
+  }
+
+  @Override
+  public boolean test(Map<Object, Object> ctx) throws Exception {
+    final long key = keyRange.random();
+    final Object value = shape.create(key);
+    ranOperation(PUT_OPERATION);
+    region.put(key, value, currentTimeNanos());
+    return true;
+  }
+}
@@ -16,14 +16,23 @@
 package org.apache.geode.benchmark.tasks;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Map;
 
 import org.yardstickframework.BenchmarkConfiguration;
 import org.yardstickframework.BenchmarkDriver;
 
-public class CompositeTask implements BenchmarkDriver, Serializable {
+import org.apache.geode.perftest.MultiOperationDriver;
+import org.apache.geode.perftest.OperationRecorder;
+
+/**
+ * Runs each of its tasks in turn on every call. The latency of each task is recorded as a
+ * separate operation.
+ */
+public class CompositeTask implements MultiOperationDriver, Serializable {
 
   private final BenchmarkDriver[] benchmarkDrivers;
+  private transient OperationRecorder operationRecorder;
 
   public CompositeTask(BenchmarkDriver... benchmarkDrivers) {
     this.benchmarkDrivers = benchmarkDrivers;
@@ -37,10 +46,25 @@ public class CompositeTask implements BenchmarkDriver, Serializable {
     }
   }
 
+  @Override
+  public List<String> getOperationNames() {
+    return MultiOperationDriver.getOperationNames(benchmarkDrivers);
+  }
+
+  @Override
+  public void setOperationRecorder(final OperationRecorder operationRecorder) {
+    this.operationRecorder = operationRecorder;
+  }
+
   @Override
   public boolean test(final Map<Object, Object> context) throws Exception {
-    for (final BenchmarkDriver benchmarkDriver : benchmarkDrivers) {
-      if (!benchmarkDriver.test(context)) {
+    for (int i = 0; i < benchmarkDrivers.length; i++) {
+      final long start = System.nanoTime();
+      final boolean keepRunning = benchmarkDrivers[i].test(context);
+      if (operationRecorder != null) {
+        operationRecorder.recordOperation(i, System.nanoTime() - start);
+      }
+      if (!keepRunning) {
         return false;
       }
     }
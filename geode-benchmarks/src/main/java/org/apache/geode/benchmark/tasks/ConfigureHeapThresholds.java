@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.apache.geode.benchmark.tasks.StartServer.SERVER_CACHE;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.control.ResourceManager;
+import org.apache.geode.perftest.Task;
+import org.apache.geode.perftest.TestContext;
+
+/**
+ * Task to set the heap thresholds of the server's {@link ResourceManager}. Above the eviction
+ * threshold the server evicts entries from its heap LRU regions, and above the critical threshold
+ * it rejects operations that would add to the heap with a
+ * {@link org.apache.geode.cache.LowMemoryException}.
+ */
+public class ConfigureHeapThresholds implements Task {
+
+  private final float evictionHeapPercentage;
+  private final float criticalHeapPercentage;
+
+  public ConfigureHeapThresholds(float evictionHeapPercentage, float criticalHeapPercentage) {
+    this.evictionHeapPercentage = evictionHeapPercentage;
+    this.criticalHeapPercentage = criticalHeapPercentage;
+  }
+
+  @Override
+  public void run(TestContext context) throws Exception {
+    final Cache cache = (Cache) context.getAttribute(SERVER_CACHE);
+    final ResourceManager resourceManager = cache.getResourceManager();
+    resourceManager.setCriticalHeapPercentage(criticalHeapPercentage);
+    resourceManager.setEvictionHeapPercentage(evictionHeapPercentage);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import java.util.Map;
+import java.util.UUID;
+
+import benchmark.geode.data.Portfolio;
+import benchmark.geode.data.PortfolioShape;
+import org.yardstickframework.BenchmarkConfiguration;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqListener;
+import org.apache.geode.cache.query.CqQuery;
+
+/**
+ * Task workload to update portfolios within the keyRange from a client that has registered
+ * continuous queries on them, see {@link RegisterCqs}. Each portfolio is stamped with the time it
+ * was written and the client that wrote it. Every event the client's queries receive is recorded
+ * as an {@value #EVENT}, with a latency of 0, so its throughput is the rate events are delivered,
+ * and every event for an update this client wrote as a {@value #DELIVERY}, with the latency from
+ * the put to the listener. Only the client's own updates are timed, since the clocks of different
+ * JVMs can't be compared.
+ */
+public class CqTask extends AbstractMultiOperationTask {
+  static final String PUT = "put";
+  static final String EVENT = "event";
+  static final String DELIVERY = "delivery";
+
+  private static final int PUT_OPERATION = 0;
+  private static final int EVENT_OPERATION = 1;
+  private static final int DELIVERY_OPERATION = 2;
+
+  private static final String WRITER = UUID.randomUUID().toString();
+
+  private final LongRange keyRange;
+  private final PortfolioShape shape;
+
+  private Region<Object, Object> region;
+  private CqQuery[] cqs;
+  private CqListener deliveryListener;
+
+  public CqTask(LongRange keyRange, PortfolioShape shape) {
+    super(PUT, EVENT, DELIVERY);
+    this.keyRange = keyRange;
+    this.shape = shape;
+  }
+
+  @Override
+  public void setUp(BenchmarkConfiguration cfg) throws Exception {
+    super.setUp(cfg);
+    final ClientCache cache = ClientCacheFactory.getAnyInstance();
+    region = cache.getRegion("region");
+    cqs = cache.getQueryService().getCqs();
+    deliveryListener = new DeliveryListener();
+    for (CqQuery cq : cqs) {
+      cq.getCqAttributesMutator().addCqListener(deliveryListener);
+    }
+  }
+
+  @Override
+  public void tearDown() throws Exception {
+    for (CqQuery cq : cqs) {
+      cq.getCqAttributesMutator().removeCqListener(deliveryListener);
+    }
+    super.tearDown();
+  }
+
+  @Override
+  public boolean test(Map<Object, Object> ctx) throws Exception {
+    final long key = keyRange.random();
+    final Portfolio value = shape.create(key);
+    value.setPkid(WRITER);
+    ranOperation(PUT_OPERATION);
+    value.setCreateTime(System.nanoTime());
+    region.put(key, value);
+    return true;
+  }
+
+  private class DeliveryListener implements CqListener {
+    @Override
+    public void onEvent(CqEvent event) {
+      final long delivered = System.nanoTime();
+      recordOperation(EVENT_OPERATION, 0);
+      final Object value = event.getNewValue();
+      if (value instanceof Portfolio && WRITER.equals(((Portfolio) value).getPkid())) {
+        recordOperation(DELIVERY_OPERATION,
+            delivered - ((Portfolio) value).getCreateTime());
+      }
+    }
+
+    @Override
+    public void onError(CqEvent event) {}
+  }
+}
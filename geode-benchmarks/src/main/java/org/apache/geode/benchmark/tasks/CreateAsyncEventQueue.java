@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.apache.geode.benchmark.tasks.StartServer.SERVER_CACHE;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.perftest.Task;
+import org.apache.geode.perftest.TestContext;
+
+/**
+ * Task to create an async event queue on the server that dispatches the region's updates to a
+ * {@link SinkAsyncEventListener}, and add it to the region. A parallel queue, which only a
+ * partitioned region can use, queues the updates of each bucket on the bucket's primary, and a
+ * serial queue queues them all on one server.
+ */
+public class CreateAsyncEventQueue implements Task {
+  public static final String QUEUE_ID = "queue";
+
+  private final AsyncEventSink sink;
+  private final boolean parallel;
+  private final int batchSize;
+  private final int dispatcherThreads;
+
+  /**
+   * @param batchSize The largest number of events to dispatch in each batch
+   * @param dispatcherThreads The number of threads dispatching batches to the listener
+   */
+  public CreateAsyncEventQueue(AsyncEventSink sink, boolean parallel, int batchSize,
+      int dispatcherThreads) {
+    this.sink = sink;
+    this.parallel = parallel;
+    this.batchSize = batchSize;
+    this.dispatcherThreads = dispatcherThreads;
+  }
+
+  @Override
+  public void run(TestContext context) throws Exception {
+    final Cache cache = (Cache) context.getAttribute(SERVER_CACHE);
+    sink.open(context.getOutputDir());
+    final AsyncEventQueue queue = cache.createAsyncEventQueueFactory()
+        .setParallel(parallel)
+        .setBatchSize(batchSize)
+        .setDispatcherThreads(dispatcherThreads)
+        .create(QUEUE_ID, new SinkAsyncEventListener(sink));
+    cache.getRegion("region").getAttributesMutator().addAsyncEventQueueId(queue.getId());
+  }
+}
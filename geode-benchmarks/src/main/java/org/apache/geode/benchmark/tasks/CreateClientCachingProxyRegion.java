@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.perftest.Task;
+import org.apache.geode.perftest.TestContext;
+
+/**
+ * Creates a {@link ClientRegionShortcut#CACHING_PROXY CACHING_PROXY} region, a near cache that
+ * keeps up to the given number of entries locally and evicts the least recently used beyond that.
+ */
+public class CreateClientCachingProxyRegion implements Task {
+
+  private final int maxEntries;
+
+  public CreateClientCachingProxyRegion(int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+
+  @Override
+  public void run(TestContext context) throws Exception {
+    ClientCache clientCache = (ClientCache) context.getAttribute("CLIENT_CACHE");
+    clientCache.createClientRegionFactory(ClientRegionShortcut.CACHING_PROXY)
+        .setEvictionAttributes(
+            EvictionAttributes.createLRUEntryAttributes(maxEntries, EvictionAction.LOCAL_DESTROY))
+        .create("region");
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.apache.geode.benchmark.tasks.StartServer.SERVER_CACHE;
+
+import java.io.File;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.perftest.Task;
+import org.apache.geode.perftest.TestContext;
+
+/**
+ * Task to create a disk store on the server, for persistent or overflowing regions, in the
+ * {@value #DISK_STORE_NAME} directory of the server's output directory. A disk store with several
+ * directories, which it spreads its oplogs across, has them in numbered subdirectories of it.
+ */
+public class CreateDiskStore implements Task {
+  public static final String DISK_STORE_NAME = "diskStore";
+
+  private final int queueSize;
+  private final long timeInterval;
+  private final long maxOplogSize;
+  private final int directoryCount;
+
+  public CreateDiskStore(int queueSize, long timeInterval, long maxOplogSize) {
+    this(queueSize, timeInterval, maxOplogSize, 1);
+  }
+
+  /**
+   * @param queueSize The largest number of asynchronous writes queued before they are flushed
+   * @param timeInterval The longest time, in milliseconds, an asynchronous write is queued
+   * @param maxOplogSize The size, in megabytes, at which an oplog is rolled over to a new one
+   * @param directoryCount The number of directories to spread the oplogs across
+   */
+  public CreateDiskStore(int queueSize, long timeInterval, long maxOplogSize,
+      int directoryCount) {
+    this.queueSize = queueSize;
+    this.timeInterval = timeInterval;
+    this.maxOplogSize = maxOplogSize;
+    this.directoryCount = directoryCount;
+  }
+
+  @Override
+  public void run(TestContext context) throws Exception {
+    final Cache cache = (Cache) context.getAttribute(SERVER_CACHE);
+    final File parent = new File(context.getOutputDir(), DISK_STORE_NAME);
+    final File[] directories = new File[directoryCount];
+    for (int i = 0; i < directoryCount; i++) {
+      directories[i] = directoryCount == 1 ? parent : new File(parent, Integer.toString(i));
+      if (!directories[i].isDirectory() && !directories[i].mkdirs()) {
+        throw new IllegalStateException("Could not create " + directories[i]);
+      }
+    }
+    cache.createDiskStoreFactory()
+        .setDiskDirs(directories)
+        .setQueueSize(queueSize)
+        .setTimeInterval(timeInterval)
+        .setMaxOplogSize(maxOplogSize)
+        .create(DISK_STORE_NAME);
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.apache.geode.benchmark.tasks.StartServer.SERVER_CACHE;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.perftest.Task;
+import org.apache.geode.perftest.TestContext;
+
+/**
+ * Task to create and start a gateway receiver on the server, on a free port of the default range,
+ * so the server applies the updates sent to its site by the gateway senders of other sites.
+ */
+public class CreateGatewayReceiver implements Task {
+
+  @Override
+  public void run(TestContext context) throws Exception {
+    final Cache cache = (Cache) context.getAttribute(SERVER_CACHE);
+    cache.createGatewayReceiverFactory().create();
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.apache.geode.benchmark.tasks.StartServer.SERVER_CACHE;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.wan.GatewaySender;
+import org.apache.geode.perftest.Task;
+import org.apache.geode.perftest.TestContext;
+
+/**
+ * Task to create a gateway sender to the site with the given distributed system id on the server
+ * and add it to the region, so the region's updates are replicated to the remote site. A parallel
+ * sender, which only a partitioned region can use, queues the updates of each bucket on the
+ * bucket's primary, and a serial sender queues them all on one server.
+ */
+public class CreateGatewaySender implements Task {
+  public static final String SENDER_ID = "sender";
+
+  private final int remoteDistributedSystemId;
+  private final boolean parallel;
+  private final int batchSize;
+  private final int batchTimeInterval;
+
+  /**
+   * @param batchSize The number of updates to send in each batch
+   * @param batchTimeInterval The longest time in milliseconds to wait to fill a batch
+   */
+  public CreateGatewaySender(int remoteDistributedSystemId, boolean parallel, int batchSize,
+      int batchTimeInterval) {
+    this.remoteDistributedSystemId = remoteDistributedSystemId;
+    this.parallel = parallel;
+    this.batchSize = batchSize;
+    this.batchTimeInterval = batchTimeInterval;
+  }
+
+  @Override
+  public void run(TestContext context) throws Exception {
+    final Cache cache = (Cache) context.getAttribute(SERVER_CACHE);
+    final GatewaySender sender = cache.createGatewaySenderFactory()
+        .setParallel(parallel)
+        .setBatchSize(batchSize)
+        .setBatchTimeInterval(batchTimeInterval)
+        .create(SENDER_ID, remoteDistributedSystemId);
+    cache.getRegion("region").getAttributesMutator().addGatewaySenderId(sender.getId());
+  }
+}
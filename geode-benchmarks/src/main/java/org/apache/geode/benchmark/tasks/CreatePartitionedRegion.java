@@ -18,18 +18,38 @@ package org.apache.geode.benchmark.tasks;
 import static org.apache.geode.benchmark.tasks.StartServer.SERVER_CACHE;
 
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.PartitionAttributesFactory;
+import org.apache.geode.cache.PartitionResolver;
+import org.apache.geode.cache.RegionFactory;
 import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.perftest.Task;
 import org.apache.geode.perftest.TestContext;
 
 /**
- * Task to create a Partitioned region on the server
+ * Task to create a Partitioned region on the server, optionally with a partition resolver that
+ * must be serializable.
  */
 public class CreatePartitionedRegion implements Task {
 
+  private final PartitionResolver<Object, Object> partitionResolver;
+
+  public CreatePartitionedRegion() {
+    this(null);
+  }
+
+  public CreatePartitionedRegion(PartitionResolver<Object, Object> partitionResolver) {
+    this.partitionResolver = partitionResolver;
+  }
+
   @Override
   public void run(TestContext context) throws Exception {
     final Cache cache = (Cache) context.getAttribute(SERVER_CACHE);
-    cache.createRegionFactory(RegionShortcut.PARTITION_REDUNDANT).create("region");
+    final RegionFactory<Object, Object> regionFactory =
+        cache.createRegionFactory(RegionShortcut.PARTITION_REDUNDANT);
+    if (partitionResolver != null) {
+      regionFactory.setPartitionAttributes(new PartitionAttributesFactory<Object, Object>()
+          .setPartitionResolver(partitionResolver).create());
+    }
+    regionFactory.create("region");
   }
 }
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import java.util.Map;
+
+import org.yardstickframework.BenchmarkConfiguration;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.values.ValueProvider;
+import org.apache.geode.cache.LowMemoryException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientCacheFactory;
+
+/**
+ * Task workload to put random keys within the keyRange to servers whose heap may be above its
+ * critical threshold. Each put is recorded as a {@value #PUT} if the servers accepted it, and as
+ * {@value #REJECTED} if they rejected it with a {@link LowMemoryException}, so the throughput of
+ * the latter is the rate of rejections.
+ */
+public class CriticalHeapTask extends AbstractMultiOperationTask {
+  static final String PUT = "put";
+  static final String REJECTED = "rejected";
+
+  private static final int PUT_OPERATION = 0;
+  private static final int REJECTED_OPERATION = 1;
+
+  private final LongRange keyRange;
+  private final ValueProvider values;
+
+  private Region<Object, Object> region;
+
+  public CriticalHeapTask(LongRange keyRange, ValueProvider values) {
+    super(PUT, REJECTED);
+    this.keyRange = keyRange;
+    this.values = values;
+  }
+
+  @Override
+  public void setUp(BenchmarkConfiguration cfg) throws Exception {
+    super.setUp(cfg);
+    final ClientCache cache = ClientCacheFactory.getAnyInstance();
+    region = cache.getRegion("region");
+    values.setUp(cache);
+  }
+
+  @Override
+  public boolean test(Map<Object, Object> ctx) throws Exception {
+    final long key = keyRange.random();
+    try {
+      region.put(key, values.get(key));
+      ranOperation(PUT_OPERATION);
+    } catch (RuntimeException e) {
+      if (!isLowMemory(e)) {
+        throw e;
+      }
+      ranOperation(REJECTED_OPERATION);
+    }
+    return true;
+  }
+
+  /**
+   * Whether the exception is, or was caused by, a {@link LowMemoryException}, which reaches a
+   * client wrapped in the exception of the operation that failed on the server.
+   */
+  static boolean isLowMemory(Throwable exception) {
+    for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+      if (cause instanceof LowMemoryException) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import benchmark.geode.data.FunctionGetAll;
+import org.yardstickframework.BenchmarkConfiguration;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionService;
+
+/**
+ * Task workload to read batches of random keys within the keyRange with {@link FunctionGetAll},
+ * to compare a data-aware function with {@link GetAllTask}.
+ */
+public class ExecuteGetAllFunction extends AbstractGetAllTask {
+
+  private final Function<Object> function;
+
+  public ExecuteGetAllFunction(LongRange keyRange, int batchSize, boolean isValidationEnabled) {
+    super(keyRange, batchSize, isValidationEnabled);
+    function = new FunctionGetAll();
+  }
+
+  @Override
+  public void setUp(BenchmarkConfiguration cfg) throws Exception {
+    super.setUp(cfg);
+    FunctionService.registerFunction(function);
+  }
+
+  @Override
+  int getAll(Region<Long, Object> region, Set<Long> keys, boolean isValidationEnabled) {
+    @SuppressWarnings("unchecked")
+    final List<Map<Long, Object>> results = (List<Map<Long, Object>>) FunctionService
+        .onRegion(region)
+        .withFilter(keys)
+        .execute(function)
+        .getResult();
+
+    int entries = 0;
+    for (Map<Long, Object> result : results) {
+      if (isValidationEnabled) {
+        assertThat(result.values()).doesNotContainNull();
+      }
+      entries += result.size();
+    }
+    return entries;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.cache.Region;
+
+/**
+ * Task workload to perform getAll operations on batches of random keys within the keyRange.
+ */
+public class GetAllTask extends AbstractGetAllTask {
+
+  public GetAllTask(LongRange keyRange, int batchSize, boolean isValidationEnabled) {
+    super(keyRange, batchSize, isValidationEnabled);
+  }
+
+  @Override
+  int getAll(Region<Long, Object> region, Set<Long> keys, boolean isValidationEnabled) {
+    final Map<Long, Object> result = region.getAll(keys);
+
+    if (isValidationEnabled) {
+      assertThat(result.values()).doesNotContainNull();
+    }
+
+    return result.size();
+  }
+}
@@ -17,19 +17,18 @@
 
 package org.apache.geode.benchmark.tasks;
 
-import static org.apache.geode.benchmark.topology.Roles.LOCATOR;
-
 import java.net.InetAddress;
 import java.util.Set;
 
+import org.apache.geode.benchmark.topology.Roles;
 import org.apache.geode.perftest.TestContext;
 
 /**
  * Util class to get the locator address string
  */
 public class LocatorUtil {
-  static String getLocatorString(TestContext context, int locatorPort) {
-    Set<InetAddress> locators = context.getHostsForRole(LOCATOR.name());
+  static String getLocatorString(TestContext context, Roles locatorRole, int locatorPort) {
+    Set<InetAddress> locators = context.getHostsForRole(locatorRole.name());
 
     return locators.iterator().next().getHostAddress() + "[" + locatorPort + "]";
   }
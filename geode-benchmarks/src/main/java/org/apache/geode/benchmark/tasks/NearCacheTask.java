@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.yardstickframework.BenchmarkConfiguration;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.values.ValueProvider;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+/**
+ * Task workload to get and put keys within the keyRange on a client region that caches entries
+ * locally. A read is recorded as a {@value #HIT} if it found the value in the client's cache and
+ * a {@value #MISS} if it had to get it from the servers, so the ratio of their throughputs is the
+ * hit ratio of the near cache. Every invalidation the servers send the client is recorded as an
+ * {@value #INVALIDATION}, with a latency of 0, so its throughput is the rate of invalidations.
+ */
+public class NearCacheTask extends AbstractMultiOperationTask {
+  static final String HIT = "hit";
+  static final String MISS = "miss";
+  static final String PUT = "put";
+  static final String INVALIDATION = "invalidation";
+
+  private static final int HIT_OPERATION = 0;
+  private static final int MISS_OPERATION = 1;
+  private static final int PUT_OPERATION = 2;
+  private static final int INVALIDATION_OPERATION = 3;
+
+  private final LongRange keyRange;
+  private final int readPercentage;
+  private final ValueProvider values;
+  private final boolean isValidationEnabled;
+
+  private Region<Object, Object> region;
+  private CacheListener<Object, Object> invalidationListener;
+
+  public NearCacheTask(LongRange keyRange, int readPercentage, ValueProvider values,
+      boolean isValidationEnabled) {
+    super(HIT, MISS, PUT, INVALIDATION);
+    if (readPercentage < 0 || readPercentage > 100) {
+      throw new IllegalArgumentException("readPercentage must be between 0 and 100");
+    }
+    this.keyRange = keyRange;
+    this.readPercentage = readPercentage;
+    this.values = values;
+    this.isValidationEnabled = isValidationEnabled;
+  }
+
+  @Override
+  public void setUp(BenchmarkConfiguration cfg) throws Exception {
+    super.setUp(cfg);
+    final ClientCache cache = ClientCacheFactory.getAnyInstance();
+    region = cache.getRegion("region");
+    values.setUp(cache);
+    invalidationListener = new CacheListenerAdapter<Object, Object>() {
+      @Override
+      public void afterInvalidate(EntryEvent<Object, Object> event) {
+        if (event.isOriginRemote()) {
+          recordOperation(INVALIDATION_OPERATION, 0);
+        }
+      }
+    };
+    region.getAttributesMutator().addCacheListener(invalidationListener);
+  }
+
+  @Override
+  public void tearDown() throws Exception {
+    region.getAttributesMutator().removeCacheListener(invalidationListener);
+    super.tearDown();
+  }
+
+  @Override
+  public boolean test(Map<Object, Object> ctx) throws Exception {
+    final long key = keyRange.random();
+    if (ThreadLocalRandom.current().nextInt(100) < readPercentage) {
+      // Classified by the value the read returns, so an invalidation between looking in the
+      // client's cache and reading can't count a miss as a hit.
+      final Region.Entry<Object, Object> entry = region.getEntry(key);
+      Object value = entry == null ? null : entry.getValue();
+      if (value != null) {
+        ranOperation(HIT_OPERATION);
+      } else {
+        ranOperation(MISS_OPERATION);
+        value = region.get(key);
+      }
+      if (isValidationEnabled) {
+        assertThat(value).isNotNull();
+      }
+    } else {
+      ranOperation(PUT_OPERATION);
+      region.put(key, values.get(key));
+    }
+    return true;
+  }
+}
@@ -16,7 +16,6 @@ package org.apache.geode.benchmark.tasks;
 
 import java.io.Serializable;
 import java.util.Map;
-import java.util.concurrent.ThreadLocalRandom;
 
 import benchmark.geode.data.Portfolio;
 import org.slf4j.Logger;
@@ -34,8 +33,8 @@ import org.apache.geode.perftest.jvms.RemoteJVMFactory;
 public class OQLQuery extends BenchmarkDriverAdapter implements Serializable {
   private static final Logger logger = LoggerFactory.getLogger(RemoteJVMFactory.class);
 
-  private final LongRange keyRange;
   private final long queryRange;
+  private final LongRange minIdRange;
   private final boolean isValidationEnabled;
 
   private Query query;
@@ -43,8 +42,9 @@ public class OQLQuery extends BenchmarkDriverAdapter implements Serializable {
 
   public OQLQuery(final LongRange keyRange, final long queryRange,
       final boolean isValidationEnabled) {
-    this.keyRange = keyRange;
     this.queryRange = queryRange;
+    minIdRange = new LongRange(keyRange.getMin(), keyRange.getMax() - queryRange,
+        keyRange.getDistribution());
     this.isValidationEnabled = isValidationEnabled;
   }
 
@@ -59,8 +59,7 @@ public class OQLQuery extends BenchmarkDriverAdapter implements Serializable {
   @Override
   @SuppressWarnings("unchecked")
   public boolean test(final Map<Object, Object> ctx) throws Exception {
-    final long minId =
-        ThreadLocalRandom.current().nextLong(keyRange.getMin(), keyRange.getMax() - queryRange);
+    final long minId = minIdRange.random();
     final long maxId = minId + queryRange;
 
     final Object result = query.execute(minId, maxId);
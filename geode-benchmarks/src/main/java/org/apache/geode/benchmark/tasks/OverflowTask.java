@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.yardstickframework.BenchmarkConfiguration;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCacheFactory;
+
+/**
+ * Task workload to get keys from a region that overflows to disk. Each get is of one of a few hot
+ * keys, which are read so often that the servers keep their values in memory, or of any key of
+ * the keyRange, most of whose values the servers have evicted to disk and must read back. They
+ * are recorded as {@value #HOT} and {@value #COLD} gets respectively.
+ */
+public class OverflowTask extends AbstractMultiOperationTask {
+  static final String HOT = "hot";
+  static final String COLD = "cold";
+
+  private static final int HOT_OPERATION = 0;
+  private static final int COLD_OPERATION = 1;
+
+  private final LongRange keyRange;
+  private final LongRange hotKeyRange;
+  private final int hotPercentage;
+  private final boolean isValidationEnabled;
+
+  private Region<Object, Object> region;
+
+  public OverflowTask(LongRange keyRange, LongRange hotKeyRange, int hotPercentage,
+      boolean isValidationEnabled) {
+    super(HOT, COLD);
+    if (hotPercentage < 0 || hotPercentage > 100) {
+      throw new IllegalArgumentException("hotPercentage must be between 0 and 100");
+    }
+    this.keyRange = keyRange;
+    this.hotKeyRange = hotKeyRange;
+    this.hotPercentage = hotPercentage;
+    this.isValidationEnabled = isValidationEnabled;
+  }
+
+  @Override
+  public void setUp(BenchmarkConfiguration cfg) throws Exception {
+    super.setUp(cfg);
+    region = ClientCacheFactory.getAnyInstance().getRegion("region");
+  }
+
+  @Override
+  public boolean test(Map<Object, Object> ctx) throws Exception {
+    final long key;
+    if (ThreadLocalRandom.current().nextInt(100) < hotPercentage) {
+      ranOperation(HOT_OPERATION);
+      key = hotKeyRange.random();
+    } else {
+      ranOperation(COLD_OPERATION);
+      key = keyRange.random();
+    }
+    final Object value = region.get(key);
+    if (isValidationEnabled) {
+      assertThat(value).isNotNull();
+    }
+    return true;
+  }
+}
@@ -18,21 +18,37 @@
 package org.apache.geode.benchmark.tasks;
 
 import benchmark.geode.data.Portfolio;
+import benchmark.geode.data.PortfolioShape;
 
 import org.apache.geode.benchmark.LongRange;
 import org.apache.geode.benchmark.topology.Roles;
 
 public class PrePopulateRegion extends AbstractPrePopulateRegion<Long, Portfolio> {
 
-  public PrePopulateRegion() {}
+  private final PortfolioShape shape;
+
+  public PrePopulateRegion() {
+    shape = PortfolioShape.MEDIUM;
+  }
 
   public PrePopulateRegion(LongRange keyRangeToPrepopulate) {
+    this(keyRangeToPrepopulate, PortfolioShape.MEDIUM);
+  }
+
+  public PrePopulateRegion(LongRange keyRangeToPrepopulate, PortfolioShape shape) {
     super(keyRangeToPrepopulate);
+    this.shape = shape;
   }
 
   public PrePopulateRegion(LongRange keyRangeToPrepopulate,
       Roles targetRole) {
+    this(keyRangeToPrepopulate, targetRole, PortfolioShape.MEDIUM);
+  }
+
+  public PrePopulateRegion(LongRange keyRangeToPrepopulate, Roles targetRole,
+      PortfolioShape shape) {
     super(keyRangeToPrepopulate, targetRole);
+    this.shape = shape;
   }
 
   @Override
@@ -42,7 +58,7 @@ public class PrePopulateRegion extends AbstractPrePopulateRegion<Long, Portfolio
 
   @Override
   protected Portfolio getValue(final long i) {
-    return new Portfolio(i);
+    return shape.create(i);
   }
 
 }
@@ -19,18 +19,40 @@ package org.apache.geode.benchmark.tasks;
 
 import org.apache.geode.benchmark.LongRange;
 import org.apache.geode.benchmark.topology.Roles;
+import org.apache.geode.benchmark.values.FixedValueSize;
+import org.apache.geode.benchmark.values.PayloadContent;
+import org.apache.geode.benchmark.values.PayloadPoolValueProvider;
+import org.apache.geode.benchmark.values.ValueProvider;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.perftest.TestContext;
 
+/**
+ * Prepopulates the region with byte array values from a {@link ValueProvider}, 1KB of random
+ * bytes unless given.
+ */
 public class PrePopulateRegionBytes extends AbstractPrePopulateRegion<Long, byte[]> {
 
-  public PrePopulateRegionBytes() {}
+  private final ValueProvider values;
+
+  public PrePopulateRegionBytes() {
+    values = new PayloadPoolValueProvider(new FixedValueSize(1024), PayloadContent.RANDOM);
+  }
 
-  public PrePopulateRegionBytes(LongRange keyRangeToPrepopulate) {
+  public PrePopulateRegionBytes(LongRange keyRangeToPrepopulate, ValueProvider values) {
     super(keyRangeToPrepopulate);
+    this.values = values;
   }
 
-  public PrePopulateRegionBytes(LongRange keyRangeToPrepopulate,
+  public PrePopulateRegionBytes(LongRange keyRangeToPrepopulate, ValueProvider values,
       Roles targetRole) {
     super(keyRangeToPrepopulate, targetRole);
+    this.values = values;
+  }
+
+  @Override
+  public void run(TestContext context) throws Exception {
+    values.setUp(CacheFactory.getAnyInstance());
+    super.run(context);
   }
 
   @Override
@@ -40,7 +62,7 @@ public class PrePopulateRegionBytes extends AbstractPrePopulateRegion<Long, byte
 
   @Override
   protected byte[] getValue(final long i) {
-    return new byte[1204];
+    return (byte[]) values.get(i);
   }
 
 }
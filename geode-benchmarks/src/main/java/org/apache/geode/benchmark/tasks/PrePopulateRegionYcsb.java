@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import java.util.HashMap;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.topology.Roles;
+
+/**
+ * Loads the records of the YCSB core workloads, see {@link AbstractYcsbTask}.
+ */
+public class PrePopulateRegionYcsb
+    extends AbstractPrePopulateRegion<Long, HashMap<String, byte[]>> {
+
+  private final int fieldCount;
+  private final int fieldLength;
+
+  public PrePopulateRegionYcsb(final LongRange keyRangeToPrepopulate, final int fieldCount,
+      final int fieldLength) {
+    super(keyRangeToPrepopulate);
+    this.fieldCount = fieldCount;
+    this.fieldLength = fieldLength;
+  }
+
+  public PrePopulateRegionYcsb(final LongRange keyRangeToPrepopulate, final int fieldCount,
+      final int fieldLength, final Roles targetRole) {
+    super(keyRangeToPrepopulate, targetRole);
+    this.fieldCount = fieldCount;
+    this.fieldLength = fieldLength;
+  }
+
+  @Override
+  protected Long getKey(final long i) {
+    return i;
+  }
+
+  @Override
+  protected HashMap<String, byte[]> getValue(final long i) {
+    return AbstractYcsbTask.newRecord(fieldCount, fieldLength);
+  }
+}
@@ -21,11 +21,11 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
-import benchmark.geode.data.Portfolio;
 import org.yardstickframework.BenchmarkConfiguration;
 import org.yardstickframework.BenchmarkDriverAdapter;
 
 import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.values.ValueProvider;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientCacheFactory;
@@ -34,15 +34,17 @@ public class PutAllTask extends BenchmarkDriverAdapter implements Serializable {
 
   private final LongRange keyRange;
   private final int batchSize;
+  private final ValueProvider values;
 
   private Region<Object, Object> region;
 
   private ThreadLocal<HashMap<Object, Object>> batches;
 
 
-  public PutAllTask(LongRange keyRange, int batchSize) {
+  public PutAllTask(LongRange keyRange, int batchSize, ValueProvider values) {
     this.keyRange = keyRange;
     this.batchSize = batchSize;
+    this.values = values;
   }
 
   @Override
@@ -50,12 +52,13 @@ public class PutAllTask extends BenchmarkDriverAdapter implements Serializable {
     super.setUp(cfg);
     ClientCache cache = ClientCacheFactory.getAnyInstance();
     region = cache.getRegion("region");
+    values.setUp(cache);
 
     batches = ThreadLocal.withInitial(() -> {
       final HashMap<Object, Object> batch = new HashMap<>(batchSize);
       for (int i = 0; i < batchSize; i++) {
         long key = keyRange.random();
-        batch.put(key, new Portfolio(key));
+        batch.put(key, values.get(key));
       }
       return batch;
     });
@@ -24,6 +24,7 @@ import org.yardstickframework.BenchmarkConfiguration;
 import org.yardstickframework.BenchmarkDriverAdapter;
 
 import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.values.ValueProvider;
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheFactory;
 import org.apache.geode.cache.Region;
@@ -34,8 +35,11 @@ public class PutBytesTask extends BenchmarkDriverAdapter implements Serializable
 
   private LongRange keyRange;
 
-  public PutBytesTask(LongRange keyRange) {
+  private final ValueProvider values;
+
+  public PutBytesTask(LongRange keyRange, ValueProvider values) {
     this.keyRange = keyRange;
+    this.values = values;
   }
 
   @Override
@@ -43,13 +47,13 @@ public class PutBytesTask extends BenchmarkDriverAdapter implements Serializable
     super.setUp(cfg);
     final Cache cache = CacheFactory.getAnyInstance();
     region = cache.getRegion("region");
+    values.setUp(cache);
   }
 
   @Override
   public boolean test(Map<Object, Object> ctx) {
     long key = keyRange.random();
-    byte[] bytes = new byte[1024];
-    region.put(key, bytes);
+    region.put(key, values.get(key));
     return true;
   }
 }
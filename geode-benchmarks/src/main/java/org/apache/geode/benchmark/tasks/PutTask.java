@@ -20,11 +20,11 @@ package org.apache.geode.benchmark.tasks;
 import java.io.Serializable;
 import java.util.Map;
 
-import benchmark.geode.data.Portfolio;
 import org.yardstickframework.BenchmarkConfiguration;
 import org.yardstickframework.BenchmarkDriverAdapter;
 
 import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.values.ValueProvider;
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheFactory;
 import org.apache.geode.cache.Region;
@@ -35,8 +35,11 @@ public class PutTask extends BenchmarkDriverAdapter implements Serializable {
 
   private LongRange keyRange;
 
-  public PutTask(LongRange keyRange) {
+  private final ValueProvider values;
+
+  public PutTask(LongRange keyRange, ValueProvider values) {
     this.keyRange = keyRange;
+    this.values = values;
   }
 
   @Override
@@ -44,12 +47,13 @@ public class PutTask extends BenchmarkDriverAdapter implements Serializable {
     super.setUp(cfg);
     final Cache cache = CacheFactory.getAnyInstance();
     region = cache.getRegion("region");
+    values.setUp(cache);
   }
 
   @Override
   public boolean test(Map<Object, Object> ctx) {
     long key = keyRange.random();
-    region.put(key, new Portfolio(key));
+    region.put(key, values.get(key));
     return true;
   }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.apache.geode.benchmark.tasks.StartServer.SERVER_CACHE;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.perftest.RecoveryTimes;
+import org.apache.geode.perftest.Task;
+import org.apache.geode.perftest.TestContext;
+
+/**
+ * Task to restart a server that was stopped with {@link StopServer}, by running the given tasks to
+ * start it and recreate its disk store and persistent region, and time its recovery. The time
+ * until the region is online, and the time until a partitioned region has all of its redundant
+ * copies, are written to {@value RecoveryTimes#RESULT_FILE} in the server's output directory.
+ * Both are timed from the start of the first task, so they include creating the cache and any
+ * disk stores it declares, such as the PDX disk store of {@link StartServer}.
+ */
+public class RecoverServer implements Task {
+  public static final String REGION_ONLINE = "regionOnlineMillis";
+  public static final String FULL_REDUNDANCY = "fullRedundancyMillis";
+
+  private static final Logger logger = LoggerFactory.getLogger(RecoverServer.class);
+
+  private final List<Task> restartTasks;
+
+  public RecoverServer(Task... restartTasks) {
+    this.restartTasks = Arrays.asList(restartTasks);
+  }
+
+  @Override
+  public void run(TestContext context) throws Exception {
+    final long start = System.nanoTime();
+    for (Task task : restartTasks) {
+      task.run(context);
+    }
+    final long online = System.nanoTime();
+
+    final Cache cache = (Cache) context.getAttribute(SERVER_CACHE);
+    final Region<?, ?> region = cache.getRegion("region");
+    if (PartitionRegionHelper.isPartitionedRegion(region)) {
+      while (PartitionRegionHelper.getPartitionRegionInfo(region)
+          .getLowRedundancyBucketCount() > 0) {
+        Thread.sleep(10);
+      }
+    }
+    final long redundant = System.nanoTime();
+
+    final Properties properties = new Properties();
+    properties.setProperty(REGION_ONLINE, toMillis(online - start));
+    properties.setProperty(FULL_REDUNDANCY, toMillis(redundant - start));
+    logger.info("Recovered {} entries: {}", region.size(), properties);
+    RecoveryTimes.storeResult(context.getOutputDir(), properties);
+  }
+
+  static String toMillis(long nanos) {
+    return Double.toString(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+  }
+}
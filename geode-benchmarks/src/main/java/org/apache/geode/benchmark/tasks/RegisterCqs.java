@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.query.CqAttributesFactory;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.perftest.Task;
+import org.apache.geode.perftest.TestContext;
+
+/**
+ * Registers continuous queries on a client, whose pool must have subscriptions enabled. The key
+ * range is sliced between the queries, and each selects the portfolios whose IDs are in its slice,
+ * so every update matches one of the queries however many there are. There can't be more queries
+ * than keys, since some would select no portfolios. The queries have no
+ * listeners, the workload adds its own.
+ */
+public class RegisterCqs implements Task {
+
+  private final LongRange keyRange;
+  private final int cqCount;
+
+  public RegisterCqs(LongRange keyRange, int cqCount) {
+    if (cqCount < 1 || cqCount > keyRange.size()) {
+      throw new IllegalArgumentException(
+          "cqCount must be between 1 and the " + keyRange.size() + " keys of " + keyRange);
+    }
+    this.keyRange = keyRange;
+    this.cqCount = cqCount;
+  }
+
+  @Override
+  public void run(TestContext context) throws Exception {
+    final ClientCache clientCache = (ClientCache) context.getAttribute("CLIENT_CACHE");
+    final QueryService queryService = clientCache.getQueryService();
+    for (int i = 0; i < cqCount; i++) {
+      final LongRange slice = keyRange.sliceFor(cqCount, i);
+      queryService.newCq("cq-" + i,
+          "SELECT * FROM /region r WHERE r.ID >= " + slice.getMin() + " AND r.ID < "
+              + slice.getMax(),
+          new CqAttributesFactory().create()).execute();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.topology.Roles;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.perftest.Task;
+import org.apache.geode.perftest.TestContext;
+
+/**
+ * Registers interest in the keys of the region of a client, whose pool must have subscriptions
+ * enabled. The client registers interest in all the keys, or, given a key range, in its slice of
+ * the range, which is split between the clients in the given role. If the client does not receive
+ * values, the servers send it invalidations instead of updates, otherwise it also loads the
+ * current values of the keys.
+ */
+public class RegisterInterest implements Task {
+
+  private final LongRange keyRange;
+  private final Roles targetRole;
+  private final boolean receiveValues;
+
+  public RegisterInterest(boolean receiveValues) {
+    this(null, null, receiveValues);
+  }
+
+  public RegisterInterest(LongRange keyRange, Roles targetRole, boolean receiveValues) {
+    this.keyRange = keyRange;
+    this.targetRole = targetRole;
+    this.receiveValues = receiveValues;
+  }
+
+  @Override
+  public void run(TestContext context) throws Exception {
+    final ClientCache clientCache = (ClientCache) context.getAttribute("CLIENT_CACHE");
+    final Region<Object, Object> region = clientCache.getRegion("region");
+    final InterestResultPolicy policy =
+        receiveValues ? InterestResultPolicy.KEYS_VALUES : InterestResultPolicy.NONE;
+    if (keyRange == null) {
+      region.registerInterestForAllKeys(policy, false, receiveValues);
+      return;
+    }
+
+    final List<Integer> hostIds = new ArrayList<>(context.getHostsIDsForRole(targetRole.name()));
+    final LongRange slice = keyRange.sliceFor(hostIds.size(), hostIds.indexOf(context.getJvmID()));
+    final List<Object> keys = new ArrayList<>((int) slice.size());
+    slice.forEach(keys::add);
+    region.registerInterestForKeys(keys, policy, false, receiveValues);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.asyncqueue.AsyncEventListener;
+import org.apache.geode.perftest.OperationRecorder;
+
+/**
+ * Writes the batches an async event queue dispatches to an {@link AsyncEventSink}. Once given an
+ * operation recorder by the workload, it records the time from each put to the listener, and the
+ * time the sink took to write each batch, see {@link AsyncEventTask}.
+ *
+ * The time from the put is measured from the time stamp the client put as the callback argument,
+ * so it compares the wall clocks of the client and server.
+ */
+public class SinkAsyncEventListener implements AsyncEventListener {
+  private final AsyncEventSink sink;
+
+  private volatile OperationRecorder operationRecorder;
+  private int eventOperation;
+  private int batchOperation;
+
+  public SinkAsyncEventListener(AsyncEventSink sink) {
+    this.sink = sink;
+  }
+
+  /**
+   * Record the events and batches the listener dispatches from now on.
+   *
+   * @param eventOperation The index of the operation for each event
+   * @param batchOperation The index of the operation for each batch
+   */
+  void setOperationRecorder(OperationRecorder operationRecorder, int eventOperation,
+      int batchOperation) {
+    this.eventOperation = eventOperation;
+    this.batchOperation = batchOperation;
+    this.operationRecorder = operationRecorder;
+  }
+
+  @Override
+  public boolean processEvents(List<AsyncEvent> events) {
+    final OperationRecorder operationRecorder = this.operationRecorder;
+    if (operationRecorder != null) {
+      final long dispatched = currentTimeNanos();
+      for (AsyncEvent event : events) {
+        // Prepopulated entries have no put time.
+        if (event.getCallbackArgument() instanceof Long) {
+          operationRecorder.recordOperation(eventOperation,
+              Math.max(0, dispatched - (Long) event.getCallbackArgument()));
+        }
+      }
+    }
+
+    final long start = System.nanoTime();
+    try {
+      sink.write(events);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+    if (operationRecorder != null) {
+      operationRecorder.recordOperation(batchOperation, System.nanoTime() - start);
+    }
+    return true;
+  }
+
+  @Override
+  public void close() {
+    try {
+      sink.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  static long currentTimeNanos() {
+    final Instant now = Instant.now();
+    return SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+  }
+}
@@ -19,6 +19,7 @@ package org.apache.geode.benchmark.tasks;
 
 import static org.apache.geode.benchmark.parameters.GeodeProperties.clientProperties;
 import static org.apache.geode.benchmark.topology.Roles.LOCATOR;
+import static org.apache.geode.benchmark.topology.Topology.WITH_SUBSCRIPTIONS_PROPERTY;
 
 import java.io.File;
 import java.lang.reflect.InvocationTargetException;
@@ -51,6 +52,7 @@ public class StartClient implements Task {
     Properties properties = clientProperties();
 
     ClientCache clientCache = createClientCacheFactory(locator, statsFile, properties, context)
+        .setPoolSubscriptionEnabled(Boolean.getBoolean(WITH_SUBSCRIPTIONS_PROPERTY))
         .create();
 
     context.setAttribute("CLIENT_CACHE", clientCache);
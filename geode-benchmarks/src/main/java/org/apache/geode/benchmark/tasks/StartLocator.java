@@ -17,6 +17,7 @@
 
 package org.apache.geode.benchmark.tasks;
 
+import static java.lang.String.valueOf;
 import static org.apache.geode.benchmark.parameters.GeodeProperties.locatorProperties;
 
 import java.io.File;
@@ -24,19 +25,32 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.util.Properties;
 
+import org.apache.geode.benchmark.topology.Roles;
 import org.apache.geode.distributed.ConfigurationProperties;
 import org.apache.geode.distributed.Locator;
 import org.apache.geode.perftest.Task;
 import org.apache.geode.perftest.TestContext;
 
 /**
- * Task to start the locator
+ * Task to start the locator, optionally of one site of a multi-site topology, which is given its
+ * distributed system id and the locators of the other site.
  */
 public class StartLocator implements Task {
   private int locatorPort;
+  private final int distributedSystemId;
+  private final Roles remoteLocatorRole;
+  private final int remoteLocatorPort;
 
   public StartLocator(int locatorPort) {
+    this(locatorPort, 0, null, 0);
+  }
+
+  public StartLocator(int locatorPort, int distributedSystemId, Roles remoteLocatorRole,
+      int remoteLocatorPort) {
     this.locatorPort = locatorPort;
+    this.distributedSystemId = distributedSystemId;
+    this.remoteLocatorRole = remoteLocatorRole;
+    this.remoteLocatorPort = remoteLocatorPort;
   }
 
   @Override
@@ -48,6 +62,13 @@ public class StartLocator implements Task {
 
     properties.setProperty(ConfigurationProperties.NAME, "locator-" + InetAddress.getLocalHost());
 
+    properties.setProperty(ConfigurationProperties.DISTRIBUTED_SYSTEM_ID,
+        valueOf(distributedSystemId));
+    if (remoteLocatorRole != null) {
+      properties.setProperty(ConfigurationProperties.REMOTE_LOCATORS,
+          LocatorUtil.getLocatorString(context, remoteLocatorRole, remoteLocatorPort));
+    }
+
     startLocator(properties, locatorPort, context);
   }
 
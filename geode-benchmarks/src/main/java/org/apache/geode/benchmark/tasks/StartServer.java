@@ -17,12 +17,19 @@
 
 package org.apache.geode.benchmark.tasks;
 
+import static java.lang.String.valueOf;
 import static org.apache.geode.benchmark.parameters.GeodeProperties.serverProperties;
+import static org.apache.geode.benchmark.topology.Roles.LOCATOR;
+import static org.apache.geode.benchmark.topology.Topology.WITH_PERSISTENT_PDX_PROPERTY;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
 import java.net.InetAddress;
 import java.util.Properties;
 
+import org.apache.geode.benchmark.topology.Roles;
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheFactory;
 import org.apache.geode.cache.server.CacheServer;
@@ -32,24 +39,44 @@ import org.apache.geode.perftest.Task;
 import org.apache.geode.perftest.TestContext;
 
 /**
- * Task to create the server cache and start the cache server.
+ * Task to create the server cache and start the cache server, optionally as a member of one site
+ * of a multi-site topology, which has its own locators and distributed system id.
  */
 public class StartServer implements Task {
 
   public static final String SERVER_CACHE = "SERVER_CACHE";
 
+  /**
+   * The disk store the server persists its PDX types to if
+   * {@value org.apache.geode.benchmark.topology.Topology#WITH_PERSISTENT_PDX_PROPERTY} is set, in
+   * the directory of the same name in the server's output directory.
+   */
+  public static final String PDX_DISK_STORE_NAME = "pdxDiskStore";
+  static final String PDX_CACHE_XML = "pdx-cache.xml";
+
+  private final Roles locatorRole;
   private final int locatorPort;
   private final int serverPort;
+  private final int distributedSystemId;
 
   public StartServer(final int locatorPort, final int serverPort) {
+    this(LOCATOR, locatorPort, serverPort, 0);
+  }
+
+  public StartServer(final Roles locatorRole, final int locatorPort, final int serverPort,
+      final int distributedSystemId) {
+    this.locatorRole = locatorRole;
     this.locatorPort = locatorPort;
     this.serverPort = serverPort;
+    this.distributedSystemId = distributedSystemId;
   }
 
   @Override
   public void run(TestContext context) throws Exception {
 
     Properties properties = serverProperties();
+    properties.setProperty(ConfigurationProperties.DISTRIBUTED_SYSTEM_ID,
+        valueOf(distributedSystemId));
 
     final CacheFactory cacheFactory = new CacheFactory(properties);
     configureCacheFactory(cacheFactory, context);
@@ -73,15 +100,49 @@ public class StartServer implements Task {
   protected CacheFactory configureCacheFactory(final CacheFactory cacheFactory,
       final TestContext context)
       throws Exception {
-    String locatorString = LocatorUtil.getLocatorString(context, locatorPort);
+    String locatorString = LocatorUtil.getLocatorString(context, locatorRole, locatorPort);
     String statsFile = new File(context.getOutputDir(), "stats.gfs").getAbsolutePath();
 
-    return cacheFactory
+    cacheFactory
         .setPdxSerializer(new ReflectionBasedAutoSerializer("benchmark.geode.data.*"))
         .set(ConfigurationProperties.LOCATORS, locatorString)
         .set(ConfigurationProperties.NAME,
             "server-" + context.getJvmID() + "-" + InetAddress.getLocalHost())
         .set(ConfigurationProperties.STATISTIC_ARCHIVE_FILE, statsFile);
+    if (Boolean.getBoolean(WITH_PERSISTENT_PDX_PROPERTY)) {
+      // The PDX registry is started while the cache is created, so its disk store is declared in
+      // the cache XML, whose disk stores are created before the registry.
+      cacheFactory.setPdxPersistent(true).setPdxDiskStore(PDX_DISK_STORE_NAME)
+          .set(ConfigurationProperties.CACHE_XML_FILE,
+              writePdxCacheXml(context.getOutputDir()).getAbsolutePath());
+    }
+    return cacheFactory;
+  }
+
+  /**
+   * Write a cache XML file that declares the {@value #PDX_DISK_STORE_NAME} disk store.
+   */
+  static File writePdxCacheXml(final File outputDir) throws IOException {
+    final File directory = new File(outputDir, PDX_DISK_STORE_NAME);
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IllegalStateException("Could not create " + directory);
+    }
+    final File cacheXml = new File(outputDir, PDX_CACHE_XML);
+    try (final BufferedWriter writer = new BufferedWriter(new FileWriter(cacheXml, false))) {
+      writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+          + "<cache xmlns=\"http://geode.apache.org/schema/cache\"\n"
+          + "    xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n"
+          + "    xsi:schemaLocation=\"http://geode.apache.org/schema/cache"
+          + " http://geode.apache.org/schema/cache/cache-1.0.xsd\"\n"
+          + "    version=\"1.0\">\n"
+          + "  <disk-store name=\"" + PDX_DISK_STORE_NAME + "\">\n"
+          + "    <disk-dirs>\n"
+          + "      <disk-dir>" + directory.getAbsolutePath() + "</disk-dir>\n"
+          + "    </disk-dirs>\n"
+          + "  </disk-store>\n"
+          + "</cache>\n");
+    }
+    return cacheXml;
   }
 
   /**
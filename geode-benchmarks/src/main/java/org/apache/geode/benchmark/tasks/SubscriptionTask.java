@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.geode.benchmark.topology.Roles.SUBSCRIBER;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import benchmark.geode.data.Portfolio;
+import benchmark.geode.data.PortfolioShape;
+import org.yardstickframework.BenchmarkConfiguration;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.apache.geode.perftest.jvms.RemoteJVMFactory;
+
+/**
+ * Task workload for writers and the subscribers that receive their updates. A writer puts
+ * portfolios within the keyRange, each stamped with the time it was written, and records them as
+ * {@value #PUT}s. A subscriber is a client in the {@link
+ * org.apache.geode.benchmark.topology.Roles#SUBSCRIBER} role that has registered interest in some
+ * of the keys with values, see {@link RegisterInterest}. It only observes the workload, recording
+ * every update delivered to it as a {@value #DELIVERY}, with the latency from the put to its
+ * listener.
+ *
+ * Unlike {@link CqTask}, which times the delivery of a client's own updates, the delivery latency
+ * compares the wall clocks of the writer and subscriber, since Geode does not send a client its
+ * own updates to the keys it is interested in. The latency is only valid if their hosts' clocks
+ * are synchronized, which the name of the operation says in the results, and its resolution is a
+ * millisecond on Java 8.
+ */
+public class SubscriptionTask extends AbstractMultiOperationTask {
+  static final String PUT = "put";
+  static final String DELIVERY = "delivery-synced-clocks";
+
+  private static final int PUT_OPERATION = 0;
+  private static final int DELIVERY_OPERATION = 1;
+
+  private final LongRange keyRange;
+  private final PortfolioShape shape;
+
+  private Region<Object, Object> region;
+  private CacheListener<Object, Object> deliveryListener;
+
+  public SubscriptionTask(LongRange keyRange, PortfolioShape shape) {
+    super(PUT, DELIVERY);
+    this.keyRange = keyRange;
+    this.shape = shape;
+  }
+
+  @Override
+  public Set<String> getObserverRoles() {
+    return Collections.singleton(SUBSCRIBER.name());
+  }
+
+  @Override
+  public void setUp(BenchmarkConfiguration cfg) throws Exception {
+    super.setUp(cfg);
+    region = ClientCacheFactory.getAnyInstance().getRegion("region");
+    if (!SUBSCRIBER.name().equals(System.getProperty(RemoteJVMFactory.ROLE))) {
+      return;
+    }
+
+    deliveryListener = new CacheListenerAdapter<Object, Object>() {
+      @Override
+      public void afterCreate(EntryEvent<Object, Object> event) {
+        delivered(event);
+      }
+
+      @Override
+      public void afterUpdate(EntryEvent<Object, Object> event) {
+        delivered(event);
+      }
+    };
+    region.getAttributesMutator().addCacheListener(deliveryListener);
+  }
+
+  @Override
+  public void tearDown() throws Exception {
+    if (deliveryListener != null) {
+      region.getAttributesMutator().removeCacheListener(deliveryListener);
+    }
+    super.tearDown();
+  }
+
+  @Override
+  public boolean test(Map<Object, Object> ctx) throws Exception {
+    final long key = keyRange.random();
+    final Portfolio value = shape.create(key);
+    ranOperation(PUT_OPERATION);
+    value.setCreateTime(currentTimeNanos());
+    region.put(key, value);
+    return true;
+  }
+
+  private void delivered(EntryEvent<Object, Object> event) {
+    final long delivered = currentTimeNanos();
+    final Object value = event.getNewValue();
+    // Prepopulated portfolios have no write time.
+    if (value instanceof Portfolio && ((Portfolio) value).getCreateTime() != 0) {
+      recordOperation(DELIVERY_OPERATION,
+          Math.max(0, delivered - ((Portfolio) value).getCreateTime()));
+    }
+  }
+
+  private static long currentTimeNanos() {
+    final Instant now = Instant.now();
+    return SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+  }
+}
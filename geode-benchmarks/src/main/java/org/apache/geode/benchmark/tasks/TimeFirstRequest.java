@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.perftest.RecoveryTimes;
+import org.apache.geode.perftest.Task;
+import org.apache.geode.perftest.TestContext;
+
+/**
+ * Task to time the first get from the client after the servers were restarted, which connects to
+ * them anew, and write it to {@value RecoveryTimes#RESULT_FILE} in the client's output
+ * directory.
+ */
+public class TimeFirstRequest implements Task {
+  public static final String FIRST_REQUEST = "firstRequestMillis";
+
+  private static final Logger logger = LoggerFactory.getLogger(TimeFirstRequest.class);
+
+  private final LongRange keyRange;
+
+  public TimeFirstRequest(LongRange keyRange) {
+    this.keyRange = keyRange;
+  }
+
+  @Override
+  public void run(TestContext context) throws Exception {
+    final ClientCache cache = (ClientCache) context.getAttribute("CLIENT_CACHE");
+    final Region<Long, Object> region = cache.getRegion("region");
+
+    final long start = System.nanoTime();
+    final Object value = region.get(keyRange.random());
+    final long end = System.nanoTime();
+    if (value == null) {
+      throw new IllegalStateException("The servers did not recover the region's entries");
+    }
+
+    final Properties properties = new Properties();
+    properties.setProperty(FIRST_REQUEST, RecoverServer.toMillis(end - start));
+    logger.info("First request after recovery: {}", properties);
+    RecoveryTimes.storeResult(context.getOutputDir(), properties);
+  }
+}
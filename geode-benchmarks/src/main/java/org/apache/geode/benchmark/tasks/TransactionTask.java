@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.yardstickframework.BenchmarkConfiguration;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.values.ValueProvider;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.CommitConflictException;
+import org.apache.geode.cache.Region;
+
+/**
+ * Task workload to read and update a group of keys within the keyRange in a transaction. The keys
+ * of a group are consecutive, {@code transactionSize * n} to {@code transactionSize * (n + 1) - 1},
+ * so a partitioned region colocates them with a
+ * {@link benchmark.geode.data.KeyGroupPartitionResolver}. The given percentage of the
+ * transactions update one of the first {@value #HOT_GROUPS} groups, so they overlap and some
+ * conflict, and the rest a group chosen with the distribution of the keyRange.
+ *
+ * The latency of each commit is recorded as a {@value #COMMIT}, or as a {@value #CONFLICT} if it
+ * failed with a {@link CommitConflictException}, so the ratio of their throughputs is the conflict
+ * rate. Conflicting transactions are not retried.
+ */
+public class TransactionTask extends AbstractMultiOperationTask {
+  static final String COMMIT = "commit";
+  static final String CONFLICT = "conflict";
+
+  static final int HOT_GROUPS = 10;
+
+  private static final int COMMIT_OPERATION = 0;
+  private static final int CONFLICT_OPERATION = 1;
+
+  private final LongRange keyRange;
+  private final int transactionSize;
+  private final int overlapPercentage;
+  private final ValueProvider values;
+  private final boolean isValidationEnabled;
+  private final long firstGroup;
+  private final long groupCount;
+
+  private Region<Object, Object> region;
+  private CacheTransactionManager transactionManager;
+
+  public TransactionTask(LongRange keyRange, int transactionSize, int overlapPercentage,
+      ValueProvider values, boolean isValidationEnabled) {
+    super(COMMIT, CONFLICT);
+    if (transactionSize < 1) {
+      throw new IllegalArgumentException("transactionSize must be at least 1");
+    }
+    if (overlapPercentage < 0 || overlapPercentage > 100) {
+      throw new IllegalArgumentException("overlapPercentage must be between 0 and 100");
+    }
+    this.keyRange = keyRange;
+    this.transactionSize = transactionSize;
+    this.overlapPercentage = overlapPercentage;
+    this.values = values;
+    this.isValidationEnabled = isValidationEnabled;
+    firstGroup = Math.floorDiv(keyRange.getMin() + transactionSize - 1, transactionSize);
+    groupCount = Math.floorDiv(keyRange.getMax(), transactionSize) - firstGroup;
+    if (groupCount < 1) {
+      throw new IllegalArgumentException(
+          "keyRange " + keyRange + " holds no group of " + transactionSize + " keys");
+    }
+  }
+
+  @Override
+  public void setUp(BenchmarkConfiguration cfg) throws Exception {
+    super.setUp(cfg);
+    final Cache cache = CacheFactory.getAnyInstance();
+    region = cache.getRegion("region");
+    transactionManager = cache.getCacheTransactionManager();
+    values.setUp(cache);
+  }
+
+  @Override
+  public boolean test(Map<Object, Object> ctx) throws Exception {
+    final long firstKey = nextGroup() * transactionSize;
+    transactionManager.begin();
+    try {
+      for (long key = firstKey; key < firstKey + transactionSize; key++) {
+        final Object value = region.get(key);
+        if (isValidationEnabled) {
+          assertThat(value).isNotNull();
+        }
+        region.put(key, values.get(key));
+      }
+    } catch (RuntimeException e) {
+      transactionManager.rollback();
+      throw e;
+    }
+
+    final long start = System.nanoTime();
+    int operation = COMMIT_OPERATION;
+    try {
+      transactionManager.commit();
+    } catch (CommitConflictException e) {
+      operation = CONFLICT_OPERATION;
+    }
+    recordOperation(operation, System.nanoTime() - start);
+    return true;
+  }
+
+  long nextGroup() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    if (random.nextInt(100) < overlapPercentage) {
+      return firstGroup + random.nextLong(Math.min(HOT_GROUPS, groupCount));
+    }
+    return firstGroup + (keyRange.random() - keyRange.getMin()) % groupCount;
+  }
+}
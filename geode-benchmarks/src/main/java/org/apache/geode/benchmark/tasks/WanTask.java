@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.geode.benchmark.topology.Roles.REMOTE_SERVER;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import benchmark.geode.data.PortfolioShape;
+import org.yardstickframework.BenchmarkConfiguration;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.apache.geode.distributed.DistributedMember;
+import org.apache.geode.perftest.jvms.RemoteJVMFactory;
+
+/**
+ * Task workload for the clients of one site and the servers of the remote site it replicates to
+ * over a WAN gateway. A client puts portfolios within the keyRange, each with the time it was
+ * written as its callback argument, and records them as {@value #PUT}s. A server in the
+ * {@link org.apache.geode.benchmark.topology.Roles#REMOTE_SERVER} role only observes the workload,
+ * recording every update the gateway applies as a {@value #REPLICATION}, with the latency from the
+ * put to its listener, on the one server that applied it rather than those it was copied to, so
+ * each is recorded once.
+ *
+ * The replication latency compares the wall clocks of the client and remote server, so it is only
+ * as accurate as their hosts' clocks are synchronized, and its resolution is a millisecond on
+ * Java 8.
+ */
+public class WanTask extends AbstractMultiOperationTask {
+  static final String PUT = "put";
+  static final String REPLICATION = "replication";
+
+  private static final int PUT_OPERATION = 0;
+  private static final int REPLICATION_OPERATION = 1;
+
+  private final LongRange keyRange;
+  private final PortfolioShape shape;
+
+  private Cache cache;
+  private Region<Object, Object> region;
+  private CacheListener<Object, Object> replicationListener;
+
+  public WanTask(LongRange keyRange, PortfolioShape shape) {
+    super(PUT, REPLICATION);
+    this.keyRange = keyRange;
+    this.shape = shape;
+  }
+
+  @Override
+  public Set<String> getObserverRoles() {
+    return Collections.singleton(REMOTE_SERVER.name());
+  }
+
+  @Override
+  public void setUp(BenchmarkConfiguration cfg) throws Exception {
+    super.setUp(cfg);
+    if (!REMOTE_SERVER.name().equals(System.getProperty(RemoteJVMFactory.ROLE))) {
+      region = ClientCacheFactory.getAnyInstance().getRegion("region");
+      return;
+    }
+
+    cache = CacheFactory.getAnyInstance();
+    region = cache.getRegion("region");
+    replicationListener = new CacheListenerAdapter<Object, Object>() {
+      @Override
+      public void afterCreate(EntryEvent<Object, Object> event) {
+        replicated(event);
+      }
+
+      @Override
+      public void afterUpdate(EntryEvent<Object, Object> event) {
+        replicated(event);
+      }
+    };
+    region.getAttributesMutator().addCacheListener(replicationListener);
+  }
+
+  @Override
+  public void tearDown() throws Exception {
+    if (replicationListener != null) {
+      region.getAttributesMutator().removeCacheListener(replicationListener);
+    }
+    super.tearDown();
+  }
+
+  @Override
+  public boolean test(Map<Object, Object> ctx) throws Exception {
+    final long key = keyRange.random();
+    final Object value = shape.create(key);
+    ranOperation(PUT_OPERATION);
+    region.put(key, value, currentTimeNanos());
+    return true;
+  }
+
+  private void replicated(EntryEvent<Object, Object> event) {
+    final long replicated = currentTimeNanos();
+    // The server that applies an update from the gateway sees it originate in the sending site,
+    // and the servers it copies the update to see it originate in their own site.
+    final DistributedMember origin = event.getDistributedMember();
+    if (cache.getMembers().contains(origin)
+        || !(event.getCallbackArgument() instanceof Long)) {
+      return;
+    }
+    recordOperation(REPLICATION_OPERATION,
+        Math.max(0, replicated - (Long) event.getCallbackArgument()));
+  }
+
+  private static long currentTimeNanos() {
+    final Instant now = Instant.now();
+    return SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+  }
+}
@@ -17,15 +17,24 @@ package org.apache.geode.benchmark.tasks;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
 import org.yardstickframework.BenchmarkConfiguration;
 import org.yardstickframework.BenchmarkDriver;
 
-public class WeightedTasks implements BenchmarkDriver, Serializable {
+import org.apache.geode.perftest.MultiOperationDriver;
+import org.apache.geode.perftest.OperationRecorder;
+
+/**
+ * Runs one of its tasks on each call, chosen at random in proportion to the weights of the
+ * tasks. The latency of each task is recorded as a separate operation.
+ */
+public class WeightedTasks implements MultiOperationDriver, Serializable {
 
   private final int totalWeight;
+  private transient OperationRecorder operationRecorder;
 
   public static class WeightedTask implements Serializable {
     int weight;
@@ -52,15 +61,30 @@ public class WeightedTasks implements BenchmarkDriver, Serializable {
     }
   }
 
+  @Override
+  public List<String> getOperationNames() {
+    return MultiOperationDriver.getOperationNames(
+        Arrays.stream(weightedTasks).map(wt -> wt.task).toArray(BenchmarkDriver[]::new));
+  }
+
+  @Override
+  public void setOperationRecorder(final OperationRecorder operationRecorder) {
+    this.operationRecorder = operationRecorder;
+  }
+
   @Override
   public boolean test(final Map<Object, Object> context) throws Exception {
     int weight = ThreadLocalRandom.current().nextInt(totalWeight) + 1;
-    for (final WeightedTask weightedTask : weightedTasks) {
+    for (int i = 0; i < weightedTasks.length; i++) {
+      final WeightedTask weightedTask = weightedTasks[i];
       weight -= weightedTask.weight;
       if (weight > 0) {
         continue;
       }
 
+      if (operationRecorder != null) {
+        operationRecorder.ranOperation(i);
+      }
       return weightedTask.task.test(context);
     }
 
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import java.util.Map;
+
+import org.yardstickframework.BenchmarkConfiguration;
+
+import org.apache.geode.benchmark.LatestKeyDistribution;
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.ZipfianKeyDistribution;
+import org.apache.geode.perftest.yardstick.YardstickTask;
+
+/**
+ * Writes a new record, the insert operation of the YCSB core workloads.
+ *
+ * The key range is fixed, so rather than growing the region, each insert writes the key after the
+ * last one inserted, wrapping around to the oldest record at the end of the range. If the range
+ * follows a {@link LatestKeyDistribution}, as in workload D, the inserted keys become the latest
+ * keys read by the other tasks sharing the range.
+ *
+ * Each JVM running the workload inserts every nth key of the range, offset by its
+ * {@link BenchmarkConfiguration#memberId() member id}, where n is the number of JVMs, so that
+ * inserts from different clients never overwrite each other.
+ */
+public class YcsbInsertTask extends AbstractYcsbTask {
+
+  private final LatestKeyDistribution insertedKeys;
+  private int offset;
+  private int stride = 1;
+
+  public YcsbInsertTask(final LongRange keyRange, final int fieldCount, final int fieldLength) {
+    super(keyRange, fieldCount, fieldLength);
+    insertedKeys = keyRange.getDistribution() instanceof LatestKeyDistribution
+        ? (LatestKeyDistribution) keyRange.getDistribution()
+        : new LatestKeyDistribution(ZipfianKeyDistribution.DEFAULT_THETA);
+  }
+
+  @Override
+  public void setUp(final BenchmarkConfiguration cfg) throws Exception {
+    super.setUp(cfg);
+    offset = cfg.memberId();
+    stride = YardstickTask.getMemberCount(cfg);
+  }
+
+  @Override
+  public boolean test(final Map<Object, Object> ctx) throws Exception {
+    region.put(insertedKeys.nextInsert(keyRange.getMin(), keyRange.getMax(), offset, stride),
+        newRecord());
+    return true;
+  }
+}
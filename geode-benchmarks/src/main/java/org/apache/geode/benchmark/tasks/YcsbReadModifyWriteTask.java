@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.geode.benchmark.LongRange;
+
+/**
+ * Reads a record, changes one of its fields and writes it back, the read-modify-write operation of
+ * the YCSB core workloads.
+ */
+public class YcsbReadModifyWriteTask extends AbstractYcsbTask {
+
+  public YcsbReadModifyWriteTask(final LongRange keyRange, final int fieldCount,
+      final int fieldLength) {
+    super(keyRange, fieldCount, fieldLength);
+  }
+
+  @Override
+  public boolean test(final Map<Object, Object> ctx) throws Exception {
+    final long key = keyRange.random();
+    final HashMap<String, byte[]> existing = region.get(key);
+    // A peer may be handed the cached value itself, so never change it in place.
+    final HashMap<String, byte[]> record =
+        existing == null ? newRecord() : new HashMap<>(existing);
+    record.put(fieldName(ThreadLocalRandom.current().nextInt(fieldCount)), newField(fieldLength));
+    region.put(key, record);
+    return true;
+  }
+}
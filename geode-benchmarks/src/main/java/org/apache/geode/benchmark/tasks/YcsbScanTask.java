@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.geode.benchmark.LongRange;
+
+/**
+ * Reads a run of consecutive records, the scan operation of the YCSB core workloads. Geode
+ * regions are not ordered, so the run of keys is read with a single getAll. The length of the run
+ * is uniform between 1 and the maximum scan length, as in YCSB.
+ */
+public class YcsbScanTask extends AbstractYcsbTask {
+
+  private final int maxScanLength;
+  private final boolean isValidationEnabled;
+
+  public YcsbScanTask(final LongRange keyRange, final int fieldCount, final int fieldLength,
+      final int maxScanLength, final boolean isValidationEnabled) {
+    super(keyRange, fieldCount, fieldLength);
+    this.maxScanLength = maxScanLength;
+    this.isValidationEnabled = isValidationEnabled;
+  }
+
+  @Override
+  public boolean test(final Map<Object, Object> ctx) throws Exception {
+    final long start = keyRange.random();
+    final long end = Math.min(start + ThreadLocalRandom.current().nextInt(maxScanLength) + 1,
+        keyRange.getMax());
+    final List<Long> keys = new ArrayList<>((int) (end - start));
+    for (long key = start; key < end; key++) {
+      keys.add(key);
+    }
+
+    final Map<Long, ?> records = region.getAll(keys);
+
+    if (isValidationEnabled) {
+      assertThat(records).hasSize(keys.size()).doesNotContainValue(null);
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import java.util.Map;
+
+import org.apache.geode.benchmark.LongRange;
+
+/**
+ * Replaces an existing record, the update operation of the YCSB core workloads. YCSB updates a
+ * single field by default, but without a delta a Geode put always sends the whole record.
+ */
+public class YcsbUpdateTask extends AbstractYcsbTask {
+
+  public YcsbUpdateTask(final LongRange keyRange, final int fieldCount, final int fieldLength) {
+    super(keyRange, fieldCount, fieldLength);
+  }
+
+  @Override
+  public boolean test(final Map<Object, Object> ctx) throws Exception {
+    region.put(keyRange.random(), newRecord());
+    return true;
+  }
+}
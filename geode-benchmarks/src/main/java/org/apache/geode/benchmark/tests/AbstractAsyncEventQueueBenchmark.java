@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static org.apache.geode.benchmark.Config.before;
+import static org.apache.geode.benchmark.Config.workload;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_AEQ_BATCH_SIZE;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_AEQ_DISPATCHERS;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_AEQ_SINK;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.portfolioShape;
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Roles.SERVER;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.tasks.AsyncEventSink;
+import org.apache.geode.benchmark.tasks.AsyncEventTask;
+import org.apache.geode.benchmark.tasks.CreateAsyncEventQueue;
+import org.apache.geode.benchmark.tasks.CreateClientProxyRegion;
+import org.apache.geode.cache.wan.GatewaySender;
+import org.apache.geode.perftest.TestConfig;
+
+/**
+ * Puts portfolios from the clients to a region with an async event queue, which dispatches them
+ * to a sink on the servers, {@value #DEFAULT_SINK} unless set with
+ * {@value GeodeBenchmark#WITH_AEQ_SINK}, see {@link AsyncEventSink#parse(String)}. The queue
+ * dispatches batches of {@value GatewaySender#DEFAULT_BATCH_SIZE} events from
+ * {@value GatewaySender#DEFAULT_DISPATCHER_THREADS} threads unless set with
+ * {@value GeodeBenchmark#WITH_AEQ_BATCH_SIZE} and {@value GeodeBenchmark#WITH_AEQ_DISPATCHERS}.
+ * The results are reported for the puts, the time each event spent in the queue and the time the
+ * sink took to write each batch, under the {@code put}, {@code event} and {@code batch}
+ * operations. The servers only observe the workload, so an open loop target rate is split between
+ * the clients.
+ */
+abstract class AbstractAsyncEventQueueBenchmark extends AbstractPerformanceTest {
+  static final String DEFAULT_SINK = "noop";
+
+  private LongRange keyRange =
+      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000), keyDistribution());
+
+  public final void setKeyRange(LongRange keyRange) {
+    this.keyRange = keyRange;
+  }
+
+  public final LongRange getKeyRange() {
+    return keyRange;
+  }
+
+  @Override
+  public TestConfig configure() {
+    final TestConfig config = ClientServerBenchmark.createConfig();
+    configureRegion(config);
+    before(config, new CreateAsyncEventQueue(
+        AsyncEventSink.parse(System.getProperty(WITH_AEQ_SINK, DEFAULT_SINK)), isParallel(),
+        getInteger(WITH_AEQ_BATCH_SIZE, GatewaySender.DEFAULT_BATCH_SIZE),
+        getInteger(WITH_AEQ_DISPATCHERS, GatewaySender.DEFAULT_DISPATCHER_THREADS)), SERVER);
+    before(config, new CreateClientProxyRegion(), CLIENT);
+    workload(config, new AsyncEventTask(keyRange, portfolioShape()), CLIENT, SERVER);
+    return config;
+  }
+
+  protected abstract void configureRegion(TestConfig config);
+
+  /**
+   * Whether the queue is parallel, rather than serial.
+   */
+  protected abstract boolean isParallel();
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static java.lang.Long.getLong;
+import static org.apache.geode.benchmark.Config.before;
+import static org.apache.geode.benchmark.Config.workload;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.portfolioShape;
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.tasks.CqTask;
+import org.apache.geode.benchmark.tasks.CreateClientProxyRegion;
+import org.apache.geode.benchmark.tasks.PrePopulateRegion;
+import org.apache.geode.benchmark.tasks.RegisterCqs;
+import org.apache.geode.benchmark.topology.Topology;
+import org.apache.geode.perftest.TestConfig;
+
+/**
+ * Updates portfolios from clients that have each registered a number of continuous queries on
+ * them. The {@code *Cq*Benchmark} benchmarks sweep the number of queries from 1 to 100,000. Every
+ * update matches one query of each client, so the number of events stays the same as the number
+ * of queries the servers evaluate for each update grows. The results are reported for the puts,
+ * for the events the clients receive and for the delivery latency of each client's own updates,
+ * under the {@code put}, {@code event} and {@code delivery} operations.
+ */
+abstract class AbstractCqBenchmark extends AbstractPerformanceTest {
+
+  private final int cqCount;
+  private LongRange keyRange =
+      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000), keyDistribution());
+
+  AbstractCqBenchmark(int cqCount) {
+    this.cqCount = cqCount;
+  }
+
+  public final void setKeyRange(LongRange keyRange) {
+    this.keyRange = keyRange;
+  }
+
+  public final LongRange getKeyRange() {
+    return keyRange;
+  }
+
+  public final int getCqCount() {
+    return cqCount;
+  }
+
+  @Override
+  public TestConfig configure() {
+    final TestConfig config = ClientServerBenchmark.createConfig();
+    Topology.enableSubscriptions(config);
+    configureRegion(config);
+    before(config, new CreateClientProxyRegion(), CLIENT);
+    before(config, new PrePopulateRegion(keyRange, portfolioShape()), CLIENT);
+    before(config, new RegisterCqs(keyRange, cqCount), CLIENT);
+    workload(config, new CqTask(keyRange, portfolioShape()), CLIENT);
+    return config;
+  }
+
+  protected abstract void configureRegion(TestConfig config);
+}
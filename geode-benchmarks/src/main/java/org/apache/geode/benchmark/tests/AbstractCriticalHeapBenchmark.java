@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static org.apache.geode.benchmark.Config.before;
+import static org.apache.geode.benchmark.Config.workload;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_CRITICAL_HEAP;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_EVICTION_HEAP;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.byteArrayValues;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Roles.SERVER;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.tasks.ConfigureHeapThresholds;
+import org.apache.geode.benchmark.tasks.CreateClientProxyRegion;
+import org.apache.geode.benchmark.tasks.CriticalHeapTask;
+import org.apache.geode.perftest.TestConfig;
+
+/**
+ * Puts {@value #DEFAULT_VALUE_SIZE} byte arrays, unless set with
+ * {@value GeodeBenchmark#WITH_VALUE_SIZE}, from the clients to random keys of a heap LRU region,
+ * drawn from so many keys, 100,000,000 unless set with {@value GeodeBenchmark#WITH_MAX_KEY}, that
+ * most puts create an entry and the servers' heaps fill up. The servers evict entries above
+ * {@value #DEFAULT_EVICTION_HEAP}% of their heap and reject puts above
+ * {@value #DEFAULT_CRITICAL_HEAP}%, unless set with {@value GeodeBenchmark#WITH_EVICTION_HEAP} and
+ * {@value GeodeBenchmark#WITH_CRITICAL_HEAP}. The results are reported for the accepted and the
+ * rejected puts, see {@link CriticalHeapTask}.
+ */
+abstract class AbstractCriticalHeapBenchmark extends AbstractPerformanceTest {
+  static final String DEFAULT_VALUE_SIZE = "10k";
+  static final int DEFAULT_EVICTION_HEAP = 70;
+  static final int DEFAULT_CRITICAL_HEAP = 90;
+
+  private LongRange keyRange = new LongRange(getLong(WITH_MIN_KEY, 0),
+      getLong(WITH_MAX_KEY, 100_000_000), keyDistribution());
+
+  public final void setKeyRange(LongRange keyRange) {
+    this.keyRange = keyRange;
+  }
+
+  public final LongRange getKeyRange() {
+    return keyRange;
+  }
+
+  @Override
+  public TestConfig configure() {
+    final TestConfig config = ClientServerBenchmark.createConfig();
+    before(config, new ConfigureHeapThresholds(
+        getInteger(WITH_EVICTION_HEAP, DEFAULT_EVICTION_HEAP),
+        getInteger(WITH_CRITICAL_HEAP, DEFAULT_CRITICAL_HEAP)), SERVER);
+    configureRegion(config);
+    before(config, new CreateClientProxyRegion(), CLIENT);
+    workload(config, new CriticalHeapTask(keyRange, byteArrayValues(DEFAULT_VALUE_SIZE)), CLIENT);
+    return config;
+  }
+
+  protected abstract void configureRegion(TestConfig config);
+}
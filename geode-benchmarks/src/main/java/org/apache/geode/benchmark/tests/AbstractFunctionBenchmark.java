@@ -19,6 +19,8 @@ import static java.lang.Long.getLong;
 import static org.apache.geode.benchmark.Config.before;
 import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
 import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.portfolioShape;
 import static org.apache.geode.benchmark.topology.Roles.CLIENT;
 import static org.apache.geode.benchmark.topology.Roles.SERVER;
 
@@ -32,7 +34,7 @@ import org.apache.geode.perftest.TestConfig;
 
 abstract class AbstractFunctionBenchmark extends AbstractPerformanceTest {
   private LongRange keyRange =
-      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000));
+      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000), keyDistribution());
 
   public final void setKeyRange(LongRange keyRange) {
     this.keyRange = keyRange;
@@ -48,7 +50,7 @@ abstract class AbstractFunctionBenchmark extends AbstractPerformanceTest {
     config.threads(Runtime.getRuntime().availableProcessors() * 3);
     configureRegion(config);
     before(config, new CreateClientProxyRegion(), CLIENT);
-    before(config, new PrePopulateRegion(getKeyRange()), CLIENT);
+    before(config, new PrePopulateRegion(getKeyRange(), portfolioShape()), CLIENT);
     before(config, new RegisterFunction(new BenchmarkFunction(getKeyRange())), SERVER);
     return config;
   }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static java.lang.Long.getLong;
+import static org.apache.geode.benchmark.Config.before;
+import static org.apache.geode.benchmark.Config.workload;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.portfolioShape;
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Roles.SERVER;
+
+import benchmark.geode.data.FunctionGetAll;
+import org.yardstickframework.BenchmarkDriver;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.tasks.CreateClientProxyRegion;
+import org.apache.geode.benchmark.tasks.GetAllTask;
+import org.apache.geode.benchmark.tasks.PrePopulateRegion;
+import org.apache.geode.benchmark.tasks.RegisterFunction;
+import org.apache.geode.perftest.TestConfig;
+
+/**
+ * Reads batches of keys of one size from the clients. The {@code *GetAll*Benchmark} benchmarks
+ * sweep the batch size from 1 to 10,000 keys. As well as per call, the results are reported per
+ * entry read, under the {@code entry} operation.
+ */
+abstract class AbstractGetAllBenchmark extends AbstractPerformanceTest {
+
+  private final int batchSize;
+  private LongRange keyRange =
+      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000), keyDistribution());
+
+  AbstractGetAllBenchmark(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public final void setKeyRange(LongRange keyRange) {
+    this.keyRange = keyRange;
+  }
+
+  public final LongRange getKeyRange() {
+    return keyRange;
+  }
+
+  public final int getBatchSize() {
+    return batchSize;
+  }
+
+  @Override
+  public TestConfig configure() {
+    final TestConfig config = ClientServerBenchmark.createConfig();
+    configureRegion(config);
+    before(config, new CreateClientProxyRegion(), CLIENT);
+    before(config, new PrePopulateRegion(keyRange, portfolioShape()), CLIENT);
+    before(config, new RegisterFunction(new FunctionGetAll()), SERVER);
+    workload(config, createTask(keyRange, batchSize), CLIENT);
+    return config;
+  }
+
+  protected abstract void configureRegion(TestConfig config);
+
+  /**
+   * Create the workload, which reads batches of the given size, by default with getAll.
+   */
+  protected BenchmarkDriver createTask(LongRange keyRange, int batchSize) {
+    return new GetAllTask(keyRange, batchSize, isValidationEnabled());
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static org.apache.geode.benchmark.Config.before;
+import static org.apache.geode.benchmark.Config.role;
+import static org.apache.geode.benchmark.Config.workload;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_NEAR_CACHE_ENTRIES;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_READ_PERCENTAGE;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.portfolioShape;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.valueProvider;
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Topology.WITH_CLIENT_COUNT_PROPERTY;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.tasks.CreateClientCachingProxyRegion;
+import org.apache.geode.benchmark.tasks.NearCacheTask;
+import org.apache.geode.benchmark.tasks.PrePopulateRegion;
+import org.apache.geode.benchmark.tasks.RegisterInterest;
+import org.apache.geode.benchmark.topology.Topology;
+import org.apache.geode.perftest.TestConfig;
+
+/**
+ * Runs a mix of gets and puts from clients with a near cache, a
+ * {@link org.apache.geode.cache.client.ClientRegionShortcut#CACHING_PROXY CACHING_PROXY} region
+ * that keeps up to {@value #DEFAULT_NEAR_CACHE_ENTRIES} entries, unless set with
+ * {@value GeodeBenchmark#WITH_NEAR_CACHE_ENTRIES}. The clients register interest in all keys
+ * without values, so every put by one client invalidates the entry in the near caches of the
+ * others. {@value #DEFAULT_READ_PERCENTAGE}% of the operations are gets unless set with
+ * {@value GeodeBenchmark#WITH_READ_PERCENTAGE}, and keys are chosen from a zipfian distribution,
+ * so the writers invalidate the hot keys the readers cache.
+ *
+ * There are {@value #DEFAULT_CLIENT_COUNT} clients unless set with
+ * {@value org.apache.geode.benchmark.topology.Topology#WITH_CLIENT_COUNT_PROPERTY}.
+ */
+abstract class AbstractNearCacheBenchmark extends AbstractPerformanceTest {
+  static final int DEFAULT_NEAR_CACHE_ENTRIES = 100_000;
+  static final int DEFAULT_READ_PERCENTAGE = 90;
+  static final int DEFAULT_CLIENT_COUNT = 2;
+
+  private LongRange keyRange = new LongRange(getLong(WITH_MIN_KEY, 0),
+      getLong(WITH_MAX_KEY, 1_000_000), keyDistribution("zipfian"));
+
+  public final void setKeyRange(LongRange keyRange) {
+    this.keyRange = keyRange;
+  }
+
+  public final LongRange getKeyRange() {
+    return keyRange;
+  }
+
+  @Override
+  public TestConfig configure() {
+    final TestConfig config = ClientServerBenchmark.createConfig();
+    if (!System.getProperties().containsKey(WITH_CLIENT_COUNT_PROPERTY)) {
+      role(config, CLIENT, DEFAULT_CLIENT_COUNT);
+    }
+    Topology.enableSubscriptions(config);
+    configureRegion(config);
+    before(config,
+        new CreateClientCachingProxyRegion(
+            getInteger(WITH_NEAR_CACHE_ENTRIES, DEFAULT_NEAR_CACHE_ENTRIES)),
+        CLIENT);
+    before(config, new PrePopulateRegion(keyRange, portfolioShape()), CLIENT);
+    before(config, new RegisterInterest(false), CLIENT);
+    workload(config,
+        new NearCacheTask(keyRange, getInteger(WITH_READ_PERCENTAGE, DEFAULT_READ_PERCENTAGE),
+            valueProvider(), isValidationEnabled()),
+        CLIENT);
+    return config;
+  }
+
+  protected abstract void configureRegion(TestConfig config);
+}
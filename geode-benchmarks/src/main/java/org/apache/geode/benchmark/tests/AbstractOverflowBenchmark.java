@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static org.apache.geode.benchmark.Config.before;
+import static org.apache.geode.benchmark.Config.workload;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_EVICTION_ENTRIES;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_EVICTION_MEMORY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_HOT_KEYS;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_HOT_PERCENTAGE;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.diskStore;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.portfolioShape;
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Roles.SERVER;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.tasks.CreateClientProxyRegion;
+import org.apache.geode.benchmark.tasks.OverflowTask;
+import org.apache.geode.benchmark.tasks.PrePopulateRegion;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.perftest.TestConfig;
+
+/**
+ * Gets from the clients on a region of {@value #DEFAULT_MAX_KEY} entries, more than the servers'
+ * heaps hold, whose servers keep the values of up to {@value #DEFAULT_EVICTION_ENTRIES} entries in
+ * memory unless set with {@value GeodeBenchmark#WITH_EVICTION_ENTRIES}, or up to the given
+ * megabytes of them if {@value GeodeBenchmark#WITH_EVICTION_MEMORY} is set, and overflow the least
+ * recently used to disk. {@value #DEFAULT_HOT_PERCENTAGE}% of the gets are of the first
+ * {@value #DEFAULT_HOT_KEYS} keys, whose values stay in memory, unless set with
+ * {@value GeodeBenchmark#WITH_HOT_PERCENTAGE} and {@value GeodeBenchmark#WITH_HOT_KEYS}, and the
+ * rest of any key, see {@link OverflowTask}.
+ */
+abstract class AbstractOverflowBenchmark extends AbstractPerformanceTest {
+  static final long DEFAULT_MAX_KEY = 10_000_000;
+  static final int DEFAULT_EVICTION_ENTRIES = 1_000_000;
+  static final int DEFAULT_HOT_KEYS = 10_000;
+  static final int DEFAULT_HOT_PERCENTAGE = 50;
+
+  private LongRange keyRange = new LongRange(getLong(WITH_MIN_KEY, 0),
+      getLong(WITH_MAX_KEY, DEFAULT_MAX_KEY), keyDistribution());
+
+  public final void setKeyRange(LongRange keyRange) {
+    this.keyRange = keyRange;
+  }
+
+  public final LongRange getKeyRange() {
+    return keyRange;
+  }
+
+  @Override
+  public TestConfig configure() {
+    final TestConfig config = ClientServerBenchmark.createConfig();
+    before(config, diskStore(), SERVER);
+    configureRegion(config, evictionAttributes());
+    before(config, new CreateClientProxyRegion(), CLIENT);
+    before(config, new PrePopulateRegion(keyRange, portfolioShape()), CLIENT);
+
+    final long hotKeys = Math.min(getLong(WITH_HOT_KEYS, DEFAULT_HOT_KEYS), keyRange.size());
+    final LongRange hotKeyRange =
+        new LongRange(keyRange.getMin(), keyRange.getMin() + hotKeys);
+    workload(config, new OverflowTask(keyRange, hotKeyRange,
+        getInteger(WITH_HOT_PERCENTAGE, DEFAULT_HOT_PERCENTAGE), isValidationEnabled()), CLIENT);
+    return config;
+  }
+
+  private static EvictionAttributes evictionAttributes() {
+    final Integer megabytes = getInteger(WITH_EVICTION_MEMORY);
+    if (megabytes != null) {
+      return EvictionAttributes.createLRUMemoryAttributes(megabytes, null,
+          EvictionAction.OVERFLOW_TO_DISK);
+    }
+    return EvictionAttributes.createLRUEntryAttributes(
+        getInteger(WITH_EVICTION_ENTRIES, DEFAULT_EVICTION_ENTRIES),
+        EvictionAction.OVERFLOW_TO_DISK);
+  }
+
+  protected abstract void configureRegion(TestConfig config,
+      EvictionAttributes evictionAttributes);
+}
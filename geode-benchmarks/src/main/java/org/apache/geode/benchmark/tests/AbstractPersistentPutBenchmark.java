@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static java.lang.Long.getLong;
+import static org.apache.geode.benchmark.Config.before;
+import static org.apache.geode.benchmark.Config.workload;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_DISK_ASYNC;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.diskStore;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.portfolioShape;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.valueProvider;
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Roles.SERVER;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.tasks.CreateClientProxyRegion;
+import org.apache.geode.benchmark.tasks.PrePopulateRegion;
+import org.apache.geode.benchmark.tasks.PutTask;
+import org.apache.geode.benchmark.topology.Topology;
+import org.apache.geode.cache.DiskStoreFactory;
+import org.apache.geode.perftest.TestConfig;
+
+/**
+ * Puts from the clients to a persistent region, whose servers write each update to a disk store.
+ * The writes are synchronous unless {@value GeodeBenchmark#WITH_DISK_ASYNC} is set, in which case
+ * they are queued, without a limit unless set with {@value GeodeBenchmark#WITH_DISK_QUEUE_SIZE},
+ * for at most {@value DiskStoreFactory#DEFAULT_TIME_INTERVAL} ms unless set with
+ * {@value GeodeBenchmark#WITH_DISK_INTERVAL}. The disk store rolls over to a new oplog every 1024
+ * MB unless set with {@value GeodeBenchmark#WITH_MAX_OPLOG_SIZE}.
+ */
+abstract class AbstractPersistentPutBenchmark extends AbstractPerformanceTest {
+
+  private LongRange keyRange =
+      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000), keyDistribution());
+
+  public final void setKeyRange(LongRange keyRange) {
+    this.keyRange = keyRange;
+  }
+
+  public final LongRange getKeyRange() {
+    return keyRange;
+  }
+
+  @Override
+  public TestConfig configure() {
+    final TestConfig config = ClientServerBenchmark.createConfig();
+    Topology.enablePersistentPdx(config);
+    before(config, diskStore(), SERVER);
+    configureRegion(config, !Boolean.getBoolean(WITH_DISK_ASYNC));
+    before(config, new CreateClientProxyRegion(), CLIENT);
+    before(config, new PrePopulateRegion(keyRange, portfolioShape()), CLIENT);
+    workload(config, new PutTask(keyRange, valueProvider()), CLIENT);
+    return config;
+  }
+
+  protected abstract void configureRegion(TestConfig config, boolean diskSynchronous);
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static java.lang.Long.getLong;
+import static org.apache.geode.benchmark.Config.before;
+import static org.apache.geode.benchmark.Config.jvmArgs;
+import static org.apache.geode.benchmark.Config.workload;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_LAZY_RECOVERY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.diskStore;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.portfolioShape;
+import static org.apache.geode.benchmark.topology.Ports.EPHEMERAL_PORT;
+import static org.apache.geode.benchmark.topology.Ports.LOCATOR_PORT;
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Roles.SERVER;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.tasks.CreateClientProxyRegion;
+import org.apache.geode.benchmark.tasks.GetTask;
+import org.apache.geode.benchmark.tasks.PrePopulateRegion;
+import org.apache.geode.benchmark.tasks.RecoverServer;
+import org.apache.geode.benchmark.tasks.StartServer;
+import org.apache.geode.benchmark.tasks.StopServer;
+import org.apache.geode.benchmark.tasks.TimeFirstRequest;
+import org.apache.geode.benchmark.topology.Topology;
+import org.apache.geode.perftest.Task;
+import org.apache.geode.perftest.TestConfig;
+
+/**
+ * Populates a persistent region, stops the servers and restarts them, then gets from the
+ * clients. The time each server took to bring its region back online, and to restore the
+ * redundancy of a partitioned region, and the time of the client's first get after the restart,
+ * are written to {@value org.apache.geode.perftest.RecoveryTimes#RESULT_FILE} in their output
+ * directories. The servers recover the values from disk in the background once the region is
+ * online, unless {@value GeodeBenchmark#WITH_LAZY_RECOVERY} is set, in which case they only
+ * recover the keys and read each value from disk when it is first requested. The disk store
+ * spreads its oplogs across one directory unless set with {@value GeodeBenchmark#WITH_DISK_DIRS}.
+ *
+ * The servers persist their PDX types to a disk store of their own, which is recovered while the
+ * cache is created, before the region's disk store, so the time until the region is online
+ * includes recovering both.
+ */
+abstract class AbstractRecoveryBenchmark extends AbstractPerformanceTest {
+  static final String LAZY_RECOVERY_ARGUMENT = "-Dgemfire.disk.recoverValues=false";
+
+  private LongRange keyRange =
+      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000), keyDistribution());
+
+  public final void setKeyRange(LongRange keyRange) {
+    this.keyRange = keyRange;
+  }
+
+  public final LongRange getKeyRange() {
+    return keyRange;
+  }
+
+  @Override
+  public TestConfig configure() {
+    final TestConfig config = ClientServerBenchmark.createConfig();
+    Topology.enablePersistentPdx(config);
+    if (Boolean.getBoolean(WITH_LAZY_RECOVERY)) {
+      jvmArgs(config, SERVER, LAZY_RECOVERY_ARGUMENT);
+    }
+
+    final Task createDiskStore = diskStore();
+    final Task createRegion = createRegion();
+    before(config, createDiskStore, SERVER);
+    before(config, createRegion, SERVER);
+    before(config, new CreateClientProxyRegion(), CLIENT);
+    before(config, new PrePopulateRegion(keyRange, portfolioShape()), CLIENT);
+
+    before(config, new StopServer(), SERVER);
+    before(config, new RecoverServer(new StartServer(LOCATOR_PORT, EPHEMERAL_PORT),
+        createDiskStore, createRegion), SERVER);
+    before(config, new TimeFirstRequest(keyRange), CLIENT);
+    workload(config, new GetTask(keyRange, isValidationEnabled()), CLIENT);
+    return config;
+  }
+
+  /**
+   * The task that creates the persistent region, both before and after the restart.
+   */
+  protected abstract Task createRegion();
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static java.lang.Long.getLong;
+import static org.apache.geode.benchmark.Config.before;
+import static org.apache.geode.benchmark.Config.workload;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.portfolioShape;
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Roles.SUBSCRIBER;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.tasks.CreateClientCachingProxyRegion;
+import org.apache.geode.benchmark.tasks.CreateClientProxyRegion;
+import org.apache.geode.benchmark.tasks.PrePopulateRegion;
+import org.apache.geode.benchmark.tasks.RegisterInterest;
+import org.apache.geode.benchmark.tasks.SubscriptionTask;
+import org.apache.geode.benchmark.topology.ClientServerTopology;
+import org.apache.geode.perftest.TestConfig;
+
+/**
+ * Updates portfolios from the clients, which are delivered to subscribers, clients in the
+ * {@link org.apache.geode.benchmark.topology.Roles#SUBSCRIBER} role that have registered interest
+ * in them with values. There are {@value #DEFAULT_SUBSCRIBER_COUNT} subscribers unless set with
+ * {@value org.apache.geode.benchmark.topology.Topology#WITH_SUBSCRIBER_COUNT_PROPERTY}. Either
+ * every subscriber registers interest in all the keys, so every update is queued for all of them,
+ * or each registers interest in its own slice of the keys, so every update is queued for one.
+ * The results are reported for the puts and the delivery latency of the updates, under the
+ * {@code put} and {@code delivery} operations. The subscribers only observe the workload, so an
+ * open loop target rate is split between the clients.
+ */
+abstract class AbstractRegisterInterestBenchmark extends AbstractPerformanceTest {
+  static final int DEFAULT_SUBSCRIBER_COUNT = 4;
+
+  private final boolean allKeys;
+  private LongRange keyRange =
+      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 100_000), keyDistribution());
+
+  AbstractRegisterInterestBenchmark(boolean allKeys) {
+    this.allKeys = allKeys;
+  }
+
+  public final void setKeyRange(LongRange keyRange) {
+    this.keyRange = keyRange;
+  }
+
+  public final LongRange getKeyRange() {
+    return keyRange;
+  }
+
+  @Override
+  public TestConfig configure() {
+    final TestConfig config = ClientServerBenchmark.createConfig();
+    ClientServerTopology.configureSubscribers(config, DEFAULT_SUBSCRIBER_COUNT);
+    configureRegion(config);
+    before(config, new CreateClientProxyRegion(), CLIENT);
+    before(config, new CreateClientCachingProxyRegion((int) keyRange.size()), SUBSCRIBER);
+    before(config, new PrePopulateRegion(keyRange, portfolioShape()), CLIENT);
+    before(config, allKeys ? new RegisterInterest(true)
+        : new RegisterInterest(keyRange, SUBSCRIBER, true), SUBSCRIBER);
+    workload(config, new SubscriptionTask(keyRange, portfolioShape()), CLIENT, SUBSCRIBER);
+    return config;
+  }
+
+  protected abstract void configureRegion(TestConfig config);
+}
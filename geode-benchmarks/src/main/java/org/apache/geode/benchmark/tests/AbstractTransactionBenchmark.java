@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static org.apache.geode.benchmark.Config.before;
+import static org.apache.geode.benchmark.Config.workload;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_TX_OVERLAP;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_TX_SIZE;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.portfolioShape;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.valueProvider;
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Roles.SERVER;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.tasks.CreateClientProxyRegion;
+import org.apache.geode.benchmark.tasks.PrePopulateRegion;
+import org.apache.geode.benchmark.tasks.TransactionTask;
+import org.apache.geode.perftest.TestConfig;
+
+/**
+ * Reads and updates groups of {@value #DEFAULT_TRANSACTION_SIZE} keys in transactions, unless set
+ * with {@value GeodeBenchmark#WITH_TX_SIZE}. {@value #DEFAULT_TRANSACTION_OVERLAP}% of the
+ * transactions update a small set of shared groups, unless set with
+ * {@value GeodeBenchmark#WITH_TX_OVERLAP}, so they conflict with each other. The results are
+ * reported for the commits that succeed and those that conflict, under the {@code commit} and
+ * {@code conflict} operations.
+ *
+ * The workload runs on the clients, or on the servers if the benchmark is peer to peer.
+ */
+abstract class AbstractTransactionBenchmark extends AbstractPerformanceTest {
+  static final int DEFAULT_TRANSACTION_SIZE = 4;
+  static final int DEFAULT_TRANSACTION_OVERLAP = 10;
+
+  private LongRange keyRange =
+      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000), keyDistribution());
+
+  public final void setKeyRange(LongRange keyRange) {
+    this.keyRange = keyRange;
+  }
+
+  public final LongRange getKeyRange() {
+    return keyRange;
+  }
+
+  @Override
+  public TestConfig configure() {
+    final int transactionSize = getInteger(WITH_TX_SIZE, DEFAULT_TRANSACTION_SIZE);
+    final TransactionTask task = new TransactionTask(keyRange, transactionSize,
+        getInteger(WITH_TX_OVERLAP, DEFAULT_TRANSACTION_OVERLAP), valueProvider(),
+        isValidationEnabled());
+    final TestConfig config;
+    if (isPeerToPeer()) {
+      config = P2pBenchmark.createConfig();
+      configureRegion(config, transactionSize);
+      before(config, new PrePopulateRegion(keyRange, SERVER, portfolioShape()), SERVER);
+      workload(config, task, SERVER);
+    } else {
+      config = ClientServerBenchmark.createConfig();
+      configureRegion(config, transactionSize);
+      before(config, new CreateClientProxyRegion(), CLIENT);
+      before(config, new PrePopulateRegion(keyRange, portfolioShape()), CLIENT);
+      workload(config, task, CLIENT);
+    }
+    return config;
+  }
+
+  /**
+   * Create the region on the servers, colocating each group of keys updated by a transaction.
+   */
+  protected abstract void configureRegion(TestConfig config, int transactionSize);
+
+  /**
+   * Whether the workload runs on the servers, rather than on clients.
+   */
+  protected boolean isPeerToPeer() {
+    return false;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static java.lang.Long.getLong;
+import static org.apache.geode.benchmark.Config.before;
+import static org.apache.geode.benchmark.Config.workload;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.byteArrayValues;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Roles.SERVER;
+
+import org.yardstickframework.BenchmarkDriver;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.tasks.CreateClientProxyRegion;
+import org.apache.geode.benchmark.tasks.CreatePartitionedRegion;
+import org.apache.geode.benchmark.tasks.PrePopulateRegionBytes;
+import org.apache.geode.benchmark.values.FixedValueSize;
+import org.apache.geode.benchmark.values.ValueProvider;
+import org.apache.geode.perftest.TestConfig;
+
+/**
+ * Runs a workload of byte array values of one size on a partitioned region, from the clients. The
+ * {@code PartitionedPutBytes*Benchmark} and {@code PartitionedGetBytes*Benchmark} benchmarks sweep
+ * the size from 100B to 10MB.
+ *
+ * Unless set with {@value GeodeBenchmark#WITH_MAX_KEY}, the number of keys shrinks as the values
+ * grow, so that the region holds about {@value #REGION_BYTES} bytes, and the region is
+ * prepopulated in batches of about {@value #BATCH_BYTES} bytes.
+ */
+abstract class AbstractValueSizeBenchmark extends AbstractPerformanceTest {
+  static final long REGION_BYTES = 1L << 30;
+  static final long BATCH_BYTES = 16L << 20;
+  static final long MAX_KEYS = 1_000_000;
+
+  private final int valueSize;
+  private LongRange keyRange;
+
+  AbstractValueSizeBenchmark(int valueSize) {
+    this.valueSize = valueSize;
+    keyRange = new LongRange(getLong(WITH_MIN_KEY, 0),
+        getLong(WITH_MAX_KEY, Math.min(MAX_KEYS, REGION_BYTES / valueSize)), keyDistribution());
+  }
+
+  public final void setKeyRange(LongRange keyRange) {
+    this.keyRange = keyRange;
+  }
+
+  public final LongRange getKeyRange() {
+    return keyRange;
+  }
+
+  @Override
+  public TestConfig configure() {
+    final TestConfig config = ClientServerBenchmark.createConfig();
+    final ValueProvider values = byteArrayValues(new FixedValueSize(valueSize));
+    final PrePopulateRegionBytes prePopulateRegion = new PrePopulateRegionBytes(keyRange, values);
+    prePopulateRegion.setBatchSize(
+        (int) Math.max(1, Math.min(prePopulateRegion.getBatchSize(), BATCH_BYTES / valueSize)));
+    before(config, new CreatePartitionedRegion(), SERVER);
+    before(config, new CreateClientProxyRegion(), CLIENT);
+    before(config, prePopulateRegion, CLIENT);
+    workload(config, createTask(keyRange, values), CLIENT);
+    return config;
+  }
+
+  /**
+   * Create the workload, which operates on keys in the range with values from the provider.
+   */
+  protected abstract BenchmarkDriver createTask(LongRange keyRange, ValueProvider values);
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static org.apache.geode.benchmark.Config.before;
+import static org.apache.geode.benchmark.Config.workload;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_WAN_BATCH_SIZE;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_WAN_BATCH_TIME;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.portfolioShape;
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Roles.REMOTE_SERVER;
+import static org.apache.geode.benchmark.topology.Roles.SERVER;
+import static org.apache.geode.benchmark.topology.WanTopology.REMOTE_DISTRIBUTED_SYSTEM_ID;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.tasks.CreateClientProxyRegion;
+import org.apache.geode.benchmark.tasks.CreateGatewayReceiver;
+import org.apache.geode.benchmark.tasks.CreateGatewaySender;
+import org.apache.geode.benchmark.tasks.WanTask;
+import org.apache.geode.benchmark.topology.WanTopology;
+import org.apache.geode.cache.wan.GatewaySender;
+import org.apache.geode.perftest.TestConfig;
+
+/**
+ * Puts portfolios from the clients of one site, which a gateway sender on its servers replicates
+ * to the servers of a remote site, see {@link WanTopology}. The sender sends batches of
+ * {@value GatewaySender#DEFAULT_BATCH_SIZE} updates, or as many as it queued within
+ * {@value GatewaySender#DEFAULT_BATCH_TIME_INTERVAL} ms, unless set with
+ * {@value GeodeBenchmark#WITH_WAN_BATCH_SIZE} and {@value GeodeBenchmark#WITH_WAN_BATCH_TIME}.
+ * The results are reported for the puts and the latency from each put to the remote site, under
+ * the {@code put} and {@code replication} operations. The remote servers only observe the
+ * workload, so an open loop target rate is split between the clients.
+ */
+abstract class AbstractWanBenchmark extends AbstractPerformanceTest {
+
+  private LongRange keyRange =
+      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000), keyDistribution());
+
+  public final void setKeyRange(LongRange keyRange) {
+    this.keyRange = keyRange;
+  }
+
+  public final LongRange getKeyRange() {
+    return keyRange;
+  }
+
+  @Override
+  public TestConfig configure() {
+    final TestConfig config = GeodeBenchmark.createConfig();
+    WanTopology.configure(config);
+    configureRegion(config);
+    before(config, new CreateGatewayReceiver(), REMOTE_SERVER);
+    before(config, new CreateGatewaySender(REMOTE_DISTRIBUTED_SYSTEM_ID, isParallel(),
+        getInteger(WITH_WAN_BATCH_SIZE, GatewaySender.DEFAULT_BATCH_SIZE),
+        getInteger(WITH_WAN_BATCH_TIME, GatewaySender.DEFAULT_BATCH_TIME_INTERVAL)), SERVER);
+    before(config, new CreateClientProxyRegion(), CLIENT);
+    workload(config, new WanTask(keyRange, portfolioShape()), CLIENT, REMOTE_SERVER);
+    return config;
+  }
+
+  /**
+   * Create the region on the servers of both sites.
+   */
+  protected abstract void configureRegion(TestConfig config);
+
+  /**
+   * Whether the gateway sender is parallel, rather than serial.
+   */
+  protected abstract boolean isParallel();
+}
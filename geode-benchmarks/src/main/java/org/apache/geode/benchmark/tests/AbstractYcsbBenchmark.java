@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static org.apache.geode.benchmark.Config.before;
+import static org.apache.geode.benchmark.Config.workload;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_YCSB_FIELD_COUNT;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_YCSB_FIELD_LENGTH;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Roles.SERVER;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.tasks.CreateClientProxyRegion;
+import org.apache.geode.benchmark.tasks.PrePopulateRegionYcsb;
+import org.apache.geode.perftest.TestConfig;
+
+/**
+ * Runs one of the {@link YcsbWorkload YCSB core workloads}. The records have
+ * {@value #DEFAULT_FIELD_COUNT} fields of {@value #DEFAULT_FIELD_LENGTH} bytes unless set with
+ * {@value GeodeBenchmark#WITH_YCSB_FIELD_COUNT} and {@value GeodeBenchmark#WITH_YCSB_FIELD_LENGTH}.
+ *
+ * The workload runs on the clients, or on the servers if the benchmark is peer to peer.
+ */
+abstract class AbstractYcsbBenchmark extends AbstractPerformanceTest {
+  static final int DEFAULT_FIELD_COUNT = 10;
+  static final int DEFAULT_FIELD_LENGTH = 100;
+
+  private final YcsbWorkload ycsbWorkload;
+  private LongRange keyRange;
+
+  AbstractYcsbBenchmark(YcsbWorkload ycsbWorkload) {
+    this.ycsbWorkload = ycsbWorkload;
+    keyRange = new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000),
+        keyDistribution(ycsbWorkload.getKeyDistribution()));
+  }
+
+  public final void setKeyRange(LongRange keyRange) {
+    this.keyRange = keyRange;
+  }
+
+  public final LongRange getKeyRange() {
+    return keyRange;
+  }
+
+  @Override
+  public TestConfig configure() {
+    final int fieldCount = getInteger(WITH_YCSB_FIELD_COUNT, DEFAULT_FIELD_COUNT);
+    final int fieldLength = getInteger(WITH_YCSB_FIELD_LENGTH, DEFAULT_FIELD_LENGTH);
+    final TestConfig config;
+    if (isPeerToPeer()) {
+      config = P2pBenchmark.createConfig();
+      configureRegion(config);
+      before(config, new PrePopulateRegionYcsb(keyRange, fieldCount, fieldLength, SERVER),
+          SERVER);
+      workload(config,
+          ycsbWorkload.createTasks(keyRange, fieldCount, fieldLength, isValidationEnabled()),
+          SERVER);
+    } else {
+      config = ClientServerBenchmark.createConfig();
+      configureRegion(config);
+      before(config, new CreateClientProxyRegion(), CLIENT);
+      before(config, new PrePopulateRegionYcsb(keyRange, fieldCount, fieldLength), CLIENT);
+      workload(config,
+          ycsbWorkload.createTasks(keyRange, fieldCount, fieldLength, isValidationEnabled()),
+          CLIENT);
+    }
+    return config;
+  }
+
+  /**
+   * Create the region on the servers.
+   */
+  protected abstract void configureRegion(TestConfig config);
+
+  /**
+   * Whether the workload runs on the servers, rather than on clients.
+   */
+  protected boolean isPeerToPeer() {
+    return false;
+  }
+}
@@ -15,8 +15,19 @@
 
 package org.apache.geode.benchmark.tests;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
 import static java.util.concurrent.TimeUnit.MINUTES;
 
+import benchmark.geode.data.PortfolioShape;
+
+import org.apache.geode.benchmark.KeyDistribution;
+import org.apache.geode.benchmark.tasks.CreateDiskStore;
+import org.apache.geode.benchmark.values.PayloadContent;
+import org.apache.geode.benchmark.values.PayloadPoolValueProvider;
+import org.apache.geode.benchmark.values.ValueProvider;
+import org.apache.geode.benchmark.values.ValueSize;
+import org.apache.geode.cache.DiskStoreFactory;
 import org.apache.geode.perftest.TestConfig;
 
 public class GeodeBenchmark {
@@ -36,21 +47,136 @@ public class GeodeBenchmark {
    */
   private static final int THREADS = Runtime.getRuntime().availableProcessors() * 10;
 
+  /**
+   * Target operations per second for each workload role. Zero runs the threads in a closed loop.
+   */
+  private static final long OPS_PER_SECOND = 0;
+
   public static final String WITH_MIN_KEY = "benchmark.withMinKey";
   public static final String WITH_MAX_KEY = "benchmark.withMaxKey";
+  public static final String WITH_KEY_DISTRIBUTION = "benchmark.withKeyDistribution";
+  public static final String WITH_VALUE_PROVIDER = "benchmark.withValueProvider";
+  public static final String WITH_VALUE_SIZE = "benchmark.withValueSize";
+  public static final String WITH_VALUE_CONTENT = "benchmark.withValueContent";
+  public static final String WITH_PORTFOLIO_SHAPE = "benchmark.withPortfolioShape";
   public static final String WITH_VALIDATION_PROPERTY = "benchmark.withValidation";
   public static final String WITH_REPLICAS = "benchmark.withReplicas";
   public static final String WITH_BUCKETS = "benchmark.withBuckets";
+  public static final String WITH_YCSB_FIELD_COUNT = "benchmark.withYcsbFieldCount";
+  public static final String WITH_YCSB_FIELD_LENGTH = "benchmark.withYcsbFieldLength";
+  public static final String WITH_NEAR_CACHE_ENTRIES = "benchmark.withNearCacheEntries";
+  public static final String WITH_READ_PERCENTAGE = "benchmark.withReadPercentage";
+  public static final String WITH_TX_SIZE = "benchmark.withTxSize";
+  public static final String WITH_TX_OVERLAP = "benchmark.withTxOverlap";
+  public static final String WITH_WAN_BATCH_SIZE = "benchmark.withWanBatchSize";
+  public static final String WITH_WAN_BATCH_TIME = "benchmark.withWanBatchTime";
+  public static final String WITH_AEQ_SINK = "benchmark.withAeqSink";
+  public static final String WITH_AEQ_BATCH_SIZE = "benchmark.withAeqBatchSize";
+  public static final String WITH_AEQ_DISPATCHERS = "benchmark.withAeqDispatchers";
+  public static final String WITH_DISK_ASYNC = "benchmark.withDiskAsync";
+  public static final String WITH_DISK_QUEUE_SIZE = "benchmark.withDiskQueueSize";
+  public static final String WITH_DISK_INTERVAL = "benchmark.withDiskInterval";
+  public static final String WITH_MAX_OPLOG_SIZE = "benchmark.withMaxOplogSize";
+  public static final String WITH_DISK_DIRS = "benchmark.withDiskDirs";
+  public static final String WITH_LAZY_RECOVERY = "benchmark.withLazyRecovery";
+  public static final String WITH_EVICTION_ENTRIES = "benchmark.withEvictionEntries";
+  public static final String WITH_EVICTION_MEMORY = "benchmark.withEvictionMemory";
+  public static final String WITH_HOT_KEYS = "benchmark.withHotKeys";
+  public static final String WITH_HOT_PERCENTAGE = "benchmark.withHotPercentage";
+  public static final String WITH_EVICTION_HEAP = "benchmark.withEvictionHeap";
+  public static final String WITH_CRITICAL_HEAP = "benchmark.withCriticalHeap";
 
   public static TestConfig createConfig() {
     TestConfig config = new TestConfig();
     config.warmupSeconds(WARM_UP_TIME);
     config.durationSeconds(BENCHMARK_DURATION);
     config.threads(THREADS);
+    config.opsPerSecond(OPS_PER_SECOND);
+    config.virtualThreads(false);
+    config.nativeEngine(false);
+    config.loadSteps("");
+    config.sloSearch("");
     return config;
   }
 
   public static boolean isValidationEnabled() {
     return Boolean.getBoolean(WITH_VALIDATION_PROPERTY);
   }
+
+  /**
+   * How workload tasks choose keys from their key range, uniform unless set with
+   * {@value #WITH_KEY_DISTRIBUTION}. See {@link KeyDistribution#parse(String)} for the format.
+   */
+  public static KeyDistribution keyDistribution() {
+    return keyDistribution("uniform");
+  }
+
+  /**
+   * How workload tasks choose keys from their key range, as given unless set with
+   * {@value #WITH_KEY_DISTRIBUTION}.
+   */
+  public static KeyDistribution keyDistribution(String defaultSpecification) {
+    return KeyDistribution.parse(System.getProperty(WITH_KEY_DISTRIBUTION, defaultSpecification));
+  }
+
+  /**
+   * Where put tasks get their values from, a new portfolio of the {@link #portfolioShape() shape}
+   * for each put unless set with {@value #WITH_VALUE_PROVIDER}. See
+   * {@link ValueProvider#parse(String)} for the format. If {@value #WITH_VALUE_SIZE} is set
+   * instead, the values are {@link #byteArrayValues(String) byte arrays} of that size.
+   */
+  public static ValueProvider valueProvider() {
+    final String valueSize = System.getProperty(WITH_VALUE_SIZE);
+    if (valueSize != null) {
+      if (System.getProperty(WITH_VALUE_PROVIDER) != null) {
+        throw new IllegalArgumentException(
+            "Only one of " + WITH_VALUE_PROVIDER + " and " + WITH_VALUE_SIZE + " can be set");
+      }
+      return byteArrayValues(valueSize);
+    }
+    return ValueProvider.parse(System.getProperty(WITH_VALUE_PROVIDER, "new"), portfolioShape());
+  }
+
+  /**
+   * The shape of the portfolios benchmarks store, medium unless set with
+   * {@value #WITH_PORTFOLIO_SHAPE}. See {@link PortfolioShape#parse(String)} for the format.
+   */
+  public static PortfolioShape portfolioShape() {
+    return PortfolioShape.parse(System.getProperty(WITH_PORTFOLIO_SHAPE, "medium"));
+  }
+
+  /**
+   * Byte array values whose sizes are chosen as given, unless set with {@value #WITH_VALUE_SIZE}.
+   * See {@link ValueSize#parse(String)} for the format.
+   */
+  public static ValueProvider byteArrayValues(String defaultSize) {
+    return byteArrayValues(ValueSize.parse(System.getProperty(WITH_VALUE_SIZE, defaultSize)));
+  }
+
+  /**
+   * Byte array values whose sizes are chosen by the given distribution.
+   */
+  public static ValueProvider byteArrayValues(ValueSize valueSize) {
+    return new PayloadPoolValueProvider(valueSize, valueContent());
+  }
+
+  /**
+   * The content of byte array values, random unless set with {@value #WITH_VALUE_CONTENT}.
+   */
+  public static PayloadContent valueContent() {
+    return PayloadContent.parse(System.getProperty(WITH_VALUE_CONTENT, "random"));
+  }
+
+  /**
+   * The disk store of persistent and overflowing regions, with Geode's defaults unless set with
+   * {@value #WITH_DISK_QUEUE_SIZE}, {@value #WITH_DISK_INTERVAL}, {@value #WITH_MAX_OPLOG_SIZE}
+   * and {@value #WITH_DISK_DIRS}.
+   */
+  public static CreateDiskStore diskStore() {
+    return new CreateDiskStore(
+        getInteger(WITH_DISK_QUEUE_SIZE, DiskStoreFactory.DEFAULT_QUEUE_SIZE),
+        getLong(WITH_DISK_INTERVAL, DiskStoreFactory.DEFAULT_TIME_INTERVAL),
+        getLong(WITH_MAX_OPLOG_SIZE, DiskStoreFactory.DEFAULT_MAX_OPLOG_SIZE),
+        getInteger(WITH_DISK_DIRS, 1));
+  }
 }
@@ -23,6 +23,8 @@ import static org.apache.geode.benchmark.Config.before;
 import static org.apache.geode.benchmark.Config.workload;
 import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
 import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.portfolioShape;
 import static org.apache.geode.benchmark.topology.Roles.SERVER;
 
 import org.junit.jupiter.api.Test;
@@ -40,7 +42,7 @@ import org.apache.geode.perftest.TestRunners;
 public class P2pPartitionedGetBenchmark extends AbstractPerformanceTest {
 
   private LongRange keyRange =
-      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000));
+      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000), keyDistribution());
 
   @Test
   public void run() throws Exception {
@@ -57,7 +59,7 @@ public class P2pPartitionedGetBenchmark extends AbstractPerformanceTest {
   public TestConfig configure() {
     final TestConfig config = P2pBenchmark.createConfig();
     before(config, new CreatePartitionedRegion(), SERVER);
-    before(config, new PrePopulateRegion(keyRange, SERVER), SERVER);
+    before(config, new PrePopulateRegion(keyRange, SERVER, portfolioShape()), SERVER);
     workload(config, new GetTask(keyRange, isValidationEnabled()), SERVER);
     return config;
 
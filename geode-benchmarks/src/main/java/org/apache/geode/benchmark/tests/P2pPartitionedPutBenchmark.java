@@ -22,6 +22,9 @@ import static org.apache.geode.benchmark.Config.before;
 import static org.apache.geode.benchmark.Config.workload;
 import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
 import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.portfolioShape;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.valueProvider;
 import static org.apache.geode.benchmark.topology.Roles.SERVER;
 
 import org.junit.jupiter.api.Test;
@@ -39,7 +42,7 @@ import org.apache.geode.perftest.TestRunners;
 public class P2pPartitionedPutBenchmark extends AbstractPerformanceTest {
 
   private LongRange keyRange =
-      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000));
+      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000), keyDistribution());
 
   public P2pPartitionedPutBenchmark() {}
 
@@ -57,8 +60,8 @@ public class P2pPartitionedPutBenchmark extends AbstractPerformanceTest {
     TestConfig config = P2pBenchmark.createConfig();
 
     before(config, new CreatePartitionedRegion(), SERVER);
-    before(config, new PrePopulateRegion(keyRange, SERVER), SERVER);
-    workload(config, new PutTask(keyRange), SERVER);
+    before(config, new PrePopulateRegion(keyRange, SERVER, portfolioShape()), SERVER);
+    workload(config, new PutTask(keyRange, valueProvider()), SERVER);
     return config;
   }
 }
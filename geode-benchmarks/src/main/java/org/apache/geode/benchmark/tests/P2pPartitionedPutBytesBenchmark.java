@@ -22,6 +22,8 @@ import static org.apache.geode.benchmark.Config.before;
 import static org.apache.geode.benchmark.Config.workload;
 import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
 import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.byteArrayValues;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
 import static org.apache.geode.benchmark.topology.Roles.SERVER;
 
 import org.junit.jupiter.api.Test;
@@ -30,6 +32,7 @@ import org.apache.geode.benchmark.LongRange;
 import org.apache.geode.benchmark.tasks.CreatePartitionedRegion;
 import org.apache.geode.benchmark.tasks.PrePopulateRegionBytes;
 import org.apache.geode.benchmark.tasks.PutBytesTask;
+import org.apache.geode.benchmark.values.ValueProvider;
 import org.apache.geode.perftest.TestConfig;
 import org.apache.geode.perftest.TestRunners;
 
@@ -39,7 +42,7 @@ import org.apache.geode.perftest.TestRunners;
 public class P2pPartitionedPutBytesBenchmark extends AbstractPerformanceTest {
 
   private LongRange keyRange =
-      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000));
+      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000), keyDistribution());
 
   public P2pPartitionedPutBytesBenchmark() {}
 
@@ -56,8 +59,9 @@ public class P2pPartitionedPutBytesBenchmark extends AbstractPerformanceTest {
   public TestConfig configure() {
     TestConfig config = P2pBenchmark.createConfig();
     before(config, new CreatePartitionedRegion(), SERVER);
-    before(config, new PrePopulateRegionBytes(keyRange, SERVER), SERVER);
-    workload(config, new PutBytesTask(keyRange), SERVER);
+    final ValueProvider values = byteArrayValues("1k");
+    before(config, new PrePopulateRegionBytes(keyRange, values, SERVER), SERVER);
+    workload(config, new PutBytesTask(keyRange, values), SERVER);
     return config;
   }
 }
@@ -22,6 +22,8 @@ import static org.apache.geode.benchmark.Config.before;
 import static org.apache.geode.benchmark.Config.workload;
 import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MAX_KEY;
 import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_MIN_KEY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.byteArrayValues;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.keyDistribution;
 import static org.apache.geode.benchmark.topology.Roles.CLIENT;
 import static org.apache.geode.benchmark.topology.Roles.SERVER;
 
@@ -32,6 +34,7 @@ import org.apache.geode.benchmark.tasks.CreateClientProxyRegion;
 import org.apache.geode.benchmark.tasks.CreatePartitionedRegion;
 import org.apache.geode.benchmark.tasks.PrePopulateRegionBytes;
 import org.apache.geode.benchmark.tasks.PutBytesTask;
+import org.apache.geode.benchmark.values.ValueProvider;
 import org.apache.geode.perftest.TestConfig;
 import org.apache.geode.perftest.TestRunners;
 
@@ -41,7 +44,7 @@ import org.apache.geode.perftest.TestRunners;
 public class PartitionedPutBytesBenchmark extends AbstractPerformanceTest {
 
   private LongRange keyRange =
-      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000));
+      new LongRange(getLong(WITH_MIN_KEY, 0), getLong(WITH_MAX_KEY, 1_000_000), keyDistribution());
 
   public PartitionedPutBytesBenchmark() {}
 
@@ -59,8 +62,9 @@ public class PartitionedPutBytesBenchmark extends AbstractPerformanceTest {
     TestConfig config = ClientServerBenchmark.createConfig();
     before(config, new CreatePartitionedRegion(), SERVER);
     before(config, new CreateClientProxyRegion(), CLIENT);
-    before(config, new PrePopulateRegionBytes(keyRange), CLIENT);
-    workload(config, new PutBytesTask(keyRange), CLIENT);
+    final ValueProvider values = byteArrayValues("1k");
+    before(config, new PrePopulateRegionBytes(keyRange, values), CLIENT);
+    workload(config, new PutBytesTask(keyRange, values), CLIENT);
     return config;
   }
 }
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.tasks.WeightedTasks;
+import org.apache.geode.benchmark.tasks.WeightedTasks.WeightedTask;
+import org.apache.geode.benchmark.tasks.YcsbInsertTask;
+import org.apache.geode.benchmark.tasks.YcsbReadModifyWriteTask;
+import org.apache.geode.benchmark.tasks.YcsbReadTask;
+import org.apache.geode.benchmark.tasks.YcsbScanTask;
+import org.apache.geode.benchmark.tasks.YcsbUpdateTask;
+
+/**
+ * The operation mixes and key distributions of the YCSB core workloads A to F.
+ */
+public enum YcsbWorkload {
+  /**
+   * Update heavy: 50% reads, 50% updates.
+   */
+  A("zipfian", 50, 50, 0, 0, 0),
+  /**
+   * Read mostly: 95% reads, 5% updates.
+   */
+  B("zipfian", 95, 5, 0, 0, 0),
+  /**
+   * Read only.
+   */
+  C("zipfian", 100, 0, 0, 0, 0),
+  /**
+   * Read latest: 95% reads, 5% inserts, reading recently inserted records most.
+   */
+  D("latest", 95, 0, 5, 0, 0),
+  /**
+   * Short ranges: 95% scans, 5% inserts.
+   */
+  E("zipfian", 0, 0, 5, 95, 0),
+  /**
+   * Read-modify-write: 50% reads, 50% read-modify-writes.
+   */
+  F("zipfian", 50, 0, 0, 0, 50);
+
+  /**
+   * The longest scan, in records.
+   */
+  public static final int MAX_SCAN_LENGTH = 100;
+
+  private final String keyDistribution;
+  private final int readWeight;
+  private final int updateWeight;
+  private final int insertWeight;
+  private final int scanWeight;
+  private final int readModifyWriteWeight;
+
+  YcsbWorkload(String keyDistribution, int readWeight, int updateWeight, int insertWeight,
+      int scanWeight, int readModifyWriteWeight) {
+    this.keyDistribution = keyDistribution;
+    this.readWeight = readWeight;
+    this.updateWeight = updateWeight;
+    this.insertWeight = insertWeight;
+    this.scanWeight = scanWeight;
+    this.readModifyWriteWeight = readModifyWriteWeight;
+  }
+
+  /**
+   * The key distribution YCSB uses for the workload.
+   */
+  public String getKeyDistribution() {
+    return keyDistribution;
+  }
+
+  /**
+   * The workload's operations, weighted by how often each is run. The tasks share the key range,
+   * so that with a latest distribution reads follow inserts.
+   */
+  public WeightedTasks createTasks(LongRange keyRange, int fieldCount, int fieldLength,
+      boolean isValidationEnabled) {
+    final List<WeightedTask> tasks = new ArrayList<>();
+    if (readWeight > 0) {
+      tasks.add(new WeightedTask(readWeight,
+          new YcsbReadTask(keyRange, fieldCount, fieldLength, isValidationEnabled)));
+    }
+    if (updateWeight > 0) {
+      tasks.add(
+          new WeightedTask(updateWeight, new YcsbUpdateTask(keyRange, fieldCount, fieldLength)));
+    }
+    if (insertWeight > 0) {
+      tasks.add(
+          new WeightedTask(insertWeight, new YcsbInsertTask(keyRange, fieldCount, fieldLength)));
+    }
+    if (scanWeight > 0) {
+      tasks.add(new WeightedTask(scanWeight, new YcsbScanTask(keyRange, fieldCount, fieldLength,
+          MAX_SCAN_LENGTH, isValidationEnabled)));
+    }
+    if (readModifyWriteWeight > 0) {
+      tasks.add(new WeightedTask(readModifyWriteWeight,
+          new YcsbReadModifyWriteTask(keyRange, fieldCount, fieldLength)));
+    }
+    return new WeightedTasks(tasks.toArray(new WeightedTask[0]));
+  }
+}
@@ -14,14 +14,17 @@
  */
 package org.apache.geode.benchmark.topology;
 
+import static java.lang.Boolean.getBoolean;
 import static org.apache.geode.benchmark.Config.after;
 import static org.apache.geode.benchmark.Config.before;
+import static org.apache.geode.benchmark.Config.jvmArgs;
 import static org.apache.geode.benchmark.Config.role;
 import static org.apache.geode.benchmark.topology.Ports.EPHEMERAL_PORT;
 import static org.apache.geode.benchmark.topology.Ports.LOCATOR_PORT;
 import static org.apache.geode.benchmark.topology.Roles.CLIENT;
 import static org.apache.geode.benchmark.topology.Roles.LOCATOR;
 import static org.apache.geode.benchmark.topology.Roles.SERVER;
+import static org.apache.geode.benchmark.topology.Roles.SUBSCRIBER;
 
 import org.apache.geode.benchmark.tasks.StartClient;
 import org.apache.geode.benchmark.tasks.StartLocator;
@@ -51,4 +54,27 @@ public class ClientServerTopology extends Topology {
     after(config, new StopServer(), SERVER);
     after(config, new StopLocator(), LOCATOR);
   }
+
+  /**
+   * Add clients in the {@link Roles#SUBSCRIBER} role, which have subscriptions enabled so they
+   * receive the events of the entries they register interest in. There are the given number
+   * unless set with {@value #WITH_SUBSCRIBER_COUNT_PROPERTY}. If {@value #WITH_CONFLATION_PROPERTY}
+   * is set, the servers conflate the updates queued for them. The subscribers are started after
+   * the other clients, and stopped after the rest of the topology.
+   */
+  public static void configureSubscribers(TestConfig config, int defaultSubscriberCount) {
+    final int subscriberCount =
+        Integer.getInteger(WITH_SUBSCRIBER_COUNT_PROPERTY, defaultSubscriberCount);
+    role(config, SUBSCRIBER, subscriberCount);
+    if (subscriberCount < 1) {
+      return;
+    }
+
+    jvmArgs(config, SUBSCRIBER, WITH_SUBSCRIPTIONS_ARGUMENT);
+    if (getBoolean(WITH_CONFLATION_PROPERTY)) {
+      jvmArgs(config, SUBSCRIBER, CONFLATE_EVENTS_ARGUMENT);
+    }
+    before(config, new StartClient(LOCATOR_PORT), SUBSCRIBER);
+    after(config, new StopClient(), SUBSCRIBER);
+  }
 }
@@ -25,6 +25,12 @@ public class Ports {
    */
   public static final int LOCATOR_PORT = 10334;
 
+  /**
+   * The port used to create the locator of the remote site of a multi-site topology, distinct
+   * from the local site's so both can run on one host.
+   */
+  public static final int REMOTE_LOCATOR_PORT = 10335;
+
   /**
    * The port used to create the servers for tests.
    */
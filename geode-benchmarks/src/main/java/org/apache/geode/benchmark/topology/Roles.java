@@ -26,7 +26,10 @@ import java.util.stream.Stream;
 public enum Roles {
   SERVER(GEODE_PRODUCT),
   CLIENT(GEODE_PRODUCT),
+  SUBSCRIBER(GEODE_PRODUCT),
   LOCATOR(GEODE_PRODUCT),
+  REMOTE_SERVER(GEODE_PRODUCT),
+  REMOTE_LOCATOR(GEODE_PRODUCT),
   PROXY(SUPPORTING),
   ROUTER(SUPPORTING);
 
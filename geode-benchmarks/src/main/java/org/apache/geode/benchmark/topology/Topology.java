@@ -17,6 +17,8 @@ package org.apache.geode.benchmark.topology;
 
 import static java.lang.Boolean.getBoolean;
 import static org.apache.geode.benchmark.parameters.Utils.addToTestConfig;
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Roles.REMOTE_SERVER;
 import static org.apache.geode.benchmark.topology.Roles.SERVER;
 
 import org.apache.geode.benchmark.parameters.GcLoggingParameters;
@@ -25,6 +27,7 @@ import org.apache.geode.benchmark.parameters.HeapParameters;
 import org.apache.geode.benchmark.parameters.JvmParameters;
 import org.apache.geode.benchmark.parameters.ProfilerParameters;
 import org.apache.geode.benchmark.parameters.SafepointLoggingParameters;
+import org.apache.geode.benchmark.tasks.StartServer;
 import org.apache.geode.perftest.TestConfig;
 
 public abstract class Topology {
@@ -40,7 +43,19 @@ public abstract class Topology {
   public static final String WITH_LOCATOR_COUNT_PROPERTY = "benchmark.withLocatorCount";
   public static final String WITH_SERVER_COUNT_PROPERTY = "benchmark.withServerCount";
   public static final String WITH_CLIENT_COUNT_PROPERTY = "benchmark.withClientCount";
+  public static final String WITH_SUBSCRIBER_COUNT_PROPERTY = "benchmark.withSubscriberCount";
   public static final String WITH_ASYNC_REPLICATION = "benchmark.withAsyncReplication";
+  static final String ASYNC_REPLICATION_ARGUMENT =
+      "-Dgemfire.disablePartitionedRegionBucketAck=true";
+
+  public static final String WITH_SUBSCRIPTIONS_PROPERTY = "benchmark.withSubscriptions";
+  static final String WITH_SUBSCRIPTIONS_ARGUMENT = "-Dbenchmark.withSubscriptions=true";
+
+  public static final String WITH_CONFLATION_PROPERTY = "benchmark.withConflation";
+  static final String CONFLATE_EVENTS_ARGUMENT = "-Dgemfire.conflate-events=true";
+
+  public static final String WITH_PERSISTENT_PDX_PROPERTY = "benchmark.withPersistentPdx";
+  static final String WITH_PERSISTENT_PDX_ARGUMENT = "-Dbenchmark.withPersistentPdx=true";
 
   protected static void configureCommon(TestConfig config) {
     JvmParameters.configure(config);
@@ -54,11 +69,32 @@ public abstract class Topology {
     addToTestConfig(config, WITH_SSL_PROTOCOLS_PROPERTY);
     addToTestConfig(config, WITH_SSL_CIPHERS_PROPERTY);
     addToTestConfig(config, WITH_SECURITY_MANAGER_PROPERTY, WITH_SECURITY_MANAGER_ARGUMENT);
+    addToTestConfig(config, WITH_SUBSCRIPTIONS_PROPERTY, WITH_SUBSCRIPTIONS_ARGUMENT);
 
     if (getBoolean(WITH_ASYNC_REPLICATION)) {
-      config.jvmArgs(SERVER.name(), "-Dgemfire.disablePartitionedRegionBucketAck=true");
+      config.jvmArgs(SERVER.name(), ASYNC_REPLICATION_ARGUMENT);
     }
 
   }
 
+  /**
+   * Start the clients with subscriptions enabled on their pool, so the servers send them the
+   * events they register interest in.
+   */
+  public static void enableSubscriptions(TestConfig config) {
+    config.jvmArgs(CLIENT.name(), WITH_SUBSCRIPTIONS_ARGUMENT);
+  }
+
+  /**
+   * Start the servers with their PDX types persisted to a disk store of their own, see
+   * {@link StartServer#PDX_DISK_STORE_NAME}, which Geode requires of members with persistent
+   * regions. The servers of a remote site, see {@link WanTopology}, are started the same way.
+   */
+  public static void enablePersistentPdx(TestConfig config) {
+    config.jvmArgs(SERVER.name(), WITH_PERSISTENT_PDX_ARGUMENT);
+    if (config.getRoles().containsKey(REMOTE_SERVER.name())) {
+      config.jvmArgs(REMOTE_SERVER.name(), WITH_PERSISTENT_PDX_ARGUMENT);
+    }
+  }
+
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.topology;
+
+import static java.lang.Boolean.getBoolean;
+import static org.apache.geode.benchmark.Config.after;
+import static org.apache.geode.benchmark.Config.before;
+import static org.apache.geode.benchmark.Config.jvmArgs;
+import static org.apache.geode.benchmark.Config.role;
+import static org.apache.geode.benchmark.topology.Ports.EPHEMERAL_PORT;
+import static org.apache.geode.benchmark.topology.Ports.LOCATOR_PORT;
+import static org.apache.geode.benchmark.topology.Ports.REMOTE_LOCATOR_PORT;
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Roles.LOCATOR;
+import static org.apache.geode.benchmark.topology.Roles.REMOTE_LOCATOR;
+import static org.apache.geode.benchmark.topology.Roles.REMOTE_SERVER;
+import static org.apache.geode.benchmark.topology.Roles.SERVER;
+
+import org.apache.geode.benchmark.tasks.StartClient;
+import org.apache.geode.benchmark.tasks.StartLocator;
+import org.apache.geode.benchmark.tasks.StartServer;
+import org.apache.geode.benchmark.tasks.StopClient;
+import org.apache.geode.benchmark.tasks.StopLocator;
+import org.apache.geode.benchmark.tasks.StopServer;
+import org.apache.geode.perftest.TestConfig;
+
+/**
+ * Two sites, each a cluster with its own locator and servers and a distinct distributed system id,
+ * whose locators know each other so the sites can be connected by WAN gateways. The clients
+ * connect to the local site, {@value #LOCAL_DISTRIBUTED_SYSTEM_ID}. The remote site,
+ * {@value #REMOTE_DISTRIBUTED_SYSTEM_ID}, has as many servers as the local site, in the
+ * {@link Roles#REMOTE_LOCATOR} and {@link Roles#REMOTE_SERVER} roles, and its locator listens on
+ * a different port so both sites can run on one host. The remote servers are started with the
+ * same options as the local ones.
+ */
+public class WanTopology extends Topology {
+  public static final int LOCAL_DISTRIBUTED_SYSTEM_ID = 1;
+  public static final int REMOTE_DISTRIBUTED_SYSTEM_ID = 2;
+
+  private static final int NUM_SERVERS = Integer.getInteger(WITH_SERVER_COUNT_PROPERTY, 2);
+  private static final int NUM_CLIENTS = Integer.getInteger(WITH_CLIENT_COUNT_PROPERTY, 1);
+
+  public static void configure(TestConfig config) {
+    role(config, LOCATOR, 1);
+    role(config, SERVER, NUM_SERVERS);
+    role(config, CLIENT, NUM_CLIENTS);
+    role(config, REMOTE_LOCATOR, 1);
+    role(config, REMOTE_SERVER, NUM_SERVERS);
+
+    configureCommon(config);
+    if (getBoolean(WITH_ASYNC_REPLICATION)) {
+      jvmArgs(config, REMOTE_SERVER, ASYNC_REPLICATION_ARGUMENT);
+    }
+
+    before(config, new StartLocator(LOCATOR_PORT, LOCAL_DISTRIBUTED_SYSTEM_ID, REMOTE_LOCATOR,
+        REMOTE_LOCATOR_PORT), LOCATOR);
+    before(config, new StartLocator(REMOTE_LOCATOR_PORT, REMOTE_DISTRIBUTED_SYSTEM_ID, LOCATOR,
+        LOCATOR_PORT), REMOTE_LOCATOR);
+    before(config,
+        new StartServer(LOCATOR, LOCATOR_PORT, EPHEMERAL_PORT, LOCAL_DISTRIBUTED_SYSTEM_ID),
+        SERVER);
+    before(config, new StartServer(REMOTE_LOCATOR, REMOTE_LOCATOR_PORT, EPHEMERAL_PORT,
+        REMOTE_DISTRIBUTED_SYSTEM_ID), REMOTE_SERVER);
+    before(config, new StartClient(LOCATOR_PORT), CLIENT);
+
+    after(config, new StopClient(), CLIENT);
+    after(config, new StopServer(), SERVER);
+    after(config, new StopServer(), REMOTE_SERVER);
+    after(config, new StopLocator(), LOCATOR);
+    after(config, new StopLocator(), REMOTE_LOCATOR);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import java.util.Random;
+
+/**
+ * Most values are small and a fraction are large, like counters stored alongside documents.
+ */
+public class BimodalValueSize extends ValueSize {
+  private static final long serialVersionUID = 1L;
+
+  static final double DEFAULT_LARGE_FRACTION = 0.1;
+
+  private final int small;
+  private final int large;
+  private final double largeFraction;
+
+  public BimodalValueSize(int small, int large, double largeFraction) {
+    if (small < 0 || large < small) {
+      throw new IllegalArgumentException("sizes must be 0 <= small <= large");
+    }
+    if (largeFraction < 0 || largeFraction > 1) {
+      throw new IllegalArgumentException("largeFraction must be between 0 and 1");
+    }
+    this.small = small;
+    this.large = large;
+    this.largeFraction = largeFraction;
+  }
+
+  @Override
+  public int next(Random random) {
+    return random.nextDouble() < largeFraction ? large : small;
+  }
+
+  @Override
+  public double mean() {
+    return small * (1 - largeFraction) + large * largeFraction;
+  }
+
+  @Override
+  public String toString() {
+    return "bimodal:" + small + ":" + large + ":" + largeFraction;
+  }
+}
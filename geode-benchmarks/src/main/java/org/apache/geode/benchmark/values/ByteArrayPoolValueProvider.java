@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import benchmark.geode.data.Portfolio;
+import benchmark.geode.data.PortfolioShape;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.RegionService;
+
+/**
+ * Pools {@link Portfolio portfolios} serialized into byte arrays, which Geode stores as they are.
+ * This measures the cost of Geode without any serialization on the client, but the region holds
+ * byte arrays rather than portfolios, so queries and functions cannot see their fields.
+ */
+public class ByteArrayPoolValueProvider extends PortfolioPoolValueProvider {
+  private static final long serialVersionUID = 1L;
+
+  public ByteArrayPoolValueProvider(int size, long seed) {
+    this(size, seed, PortfolioShape.MEDIUM);
+  }
+
+  public ByteArrayPoolValueProvider(int size, long seed, PortfolioShape shape) {
+    super(size, seed, shape);
+  }
+
+  @Override
+  Object create(RegionService cache, Random random) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      DataSerializer.writeObject(newPortfolio(random), out);
+    }
+    return bytes.toByteArray();
+  }
+
+  @Override
+  public String toString() {
+    return "bytes:" + getSize() + ":" + getSeed();
+  }
+}
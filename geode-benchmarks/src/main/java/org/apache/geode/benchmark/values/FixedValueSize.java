@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import java.util.Random;
+
+/**
+ * Every value is the same size.
+ */
+public class FixedValueSize extends ValueSize {
+  private static final long serialVersionUID = 1L;
+
+  private final int size;
+
+  public FixedValueSize(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("size must not be negative");
+    }
+    this.size = size;
+  }
+
+  @Override
+  public int next(Random random) {
+    return size;
+  }
+
+  @Override
+  public double mean() {
+    return size;
+  }
+
+  @Override
+  public String toString() {
+    return "fixed:" + size;
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import java.util.Random;
+
+/**
+ * Sizes follow a log-normal distribution, so most values are near the median but a long tail is
+ * much larger, as with documents. {@code sigma} is the standard deviation of the natural log of
+ * the size; 1 puts about 1 value in 20 more than 5 times the median. Sizes are capped at a
+ * maximum.
+ */
+public class LogNormalValueSize extends ValueSize {
+  private static final long serialVersionUID = 1L;
+
+  static final double DEFAULT_SIGMA = 1;
+  static final int DEFAULT_MAX = 10 * MB;
+
+  private final int median;
+  private final double sigma;
+  private final int max;
+
+  public LogNormalValueSize(int median, double sigma, int max) {
+    if (median < 1 || sigma < 0 || max < median) {
+      throw new IllegalArgumentException("expected median >= 1, sigma >= 0 and max >= median");
+    }
+    this.median = median;
+    this.sigma = sigma;
+    this.max = max;
+  }
+
+  @Override
+  public int next(Random random) {
+    return (int) Math.min(max, Math.round(median * Math.exp(sigma * random.nextGaussian())));
+  }
+
+  @Override
+  public double mean() {
+    return Math.min(max, median * Math.exp(sigma * sigma / 2));
+  }
+
+  @Override
+  public String toString() {
+    return "lognormal:" + median + ":" + sigma + ":" + max;
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import benchmark.geode.data.Portfolio;
+import benchmark.geode.data.PortfolioShape;
+
+/**
+ * Creates a new {@link Portfolio} of a given {@link PortfolioShape} for every value, with the key
+ * as its ID.
+ */
+public class NewValueProvider extends ValueProvider {
+  private static final long serialVersionUID = 1L;
+
+  private final PortfolioShape shape;
+
+  public NewValueProvider() {
+    this(PortfolioShape.MEDIUM);
+  }
+
+  public NewValueProvider(PortfolioShape shape) {
+    this.shape = shape;
+  }
+
+  @Override
+  public Object get(long key) {
+    return shape.create(key);
+  }
+
+  public PortfolioShape getShape() {
+    return shape;
+  }
+
+  @Override
+  public String toString() {
+    return "new";
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import java.util.Random;
+
+import benchmark.geode.data.Portfolio;
+import benchmark.geode.data.PortfolioShape;
+
+import org.apache.geode.cache.RegionService;
+
+/**
+ * Pools {@link Portfolio} objects, which are still serialized on every put, but are not
+ * allocated.
+ */
+public class ObjectPoolValueProvider extends PortfolioPoolValueProvider {
+  private static final long serialVersionUID = 1L;
+
+  public ObjectPoolValueProvider(int size, long seed) {
+    this(size, seed, PortfolioShape.MEDIUM);
+  }
+
+  public ObjectPoolValueProvider(int size, long seed, PortfolioShape shape) {
+    super(size, seed, shape);
+  }
+
+  @Override
+  Object create(RegionService cache, Random random) {
+    return newPortfolio(random);
+  }
+
+  @Override
+  public String toString() {
+    return "pool:" + getSize() + ":" + getSeed();
+  }
+}
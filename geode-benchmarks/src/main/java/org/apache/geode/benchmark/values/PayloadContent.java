@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * What the bytes of a payload contain. Content only matters where something compresses the
+ * values, like a region compressor.
+ */
+public enum PayloadContent {
+  /**
+   * Random bytes, which do not compress.
+   */
+  RANDOM {
+    @Override
+    void fill(byte[] payload, Random random) {
+      random.nextBytes(payload);
+    }
+  },
+
+  /**
+   * Text made of a few hundred distinct words, which compresses well, like JSON or XML
+   * documents.
+   */
+  COMPRESSIBLE {
+    @Override
+    void fill(byte[] payload, Random random) {
+      int i = 0;
+      while (i < payload.length) {
+        final byte[] word = WORDS[random.nextInt(WORDS.length)];
+        final int length = Math.min(word.length, payload.length - i);
+        System.arraycopy(word, 0, payload, i, length);
+        i += length;
+      }
+    }
+  };
+
+  private static final byte[][] WORDS = createWords(256);
+
+  abstract void fill(byte[] payload, Random random);
+
+  /**
+   * Create a payload of the given size.
+   */
+  public byte[] create(int size, Random random) {
+    final byte[] payload = new byte[size];
+    fill(payload, random);
+    return payload;
+  }
+
+  /**
+   * Parse the content from its name, ignoring case.
+   *
+   * @throws IllegalArgumentException if the name is not valid
+   */
+  public static PayloadContent parse(String name) {
+    try {
+      return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown payload content \"" + name + "\"", e);
+    }
+  }
+
+  private static byte[][] createWords(int count) {
+    final Random random = new Random(0);
+    final byte[][] words = new byte[count][];
+    for (int i = 0; i < count; i++) {
+      final StringBuilder word = new StringBuilder();
+      final int length = 3 + random.nextInt(8);
+      for (int j = 0; j < length; j++) {
+        word.append((char) ('a' + random.nextInt(26)));
+      }
+      words[i] = word.append(' ').toString().getBytes(StandardCharsets.US_ASCII);
+    }
+    return words;
+  }
+}
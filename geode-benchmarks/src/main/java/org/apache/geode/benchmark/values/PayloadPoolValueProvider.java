@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import java.util.Locale;
+import java.util.Random;
+
+import org.apache.geode.cache.RegionService;
+
+/**
+ * Pools byte array payloads whose sizes are chosen by a {@link ValueSize}. Unless given, the pool
+ * holds up to {@value #DEFAULT_SIZE} payloads, fewer if they would take more than
+ * {@value #MAX_POOL_BYTES} bytes on average, so pools of large values still fit in the heap.
+ */
+public class PayloadPoolValueProvider extends PooledValueProvider {
+  private static final long serialVersionUID = 1L;
+
+  static final long MAX_POOL_BYTES = 64L * ValueSize.MB;
+
+  private final ValueSize valueSize;
+  private final PayloadContent content;
+
+  public PayloadPoolValueProvider(ValueSize valueSize, PayloadContent content) {
+    this(valueSize, content, defaultSize(valueSize), DEFAULT_SEED);
+  }
+
+  public PayloadPoolValueProvider(ValueSize valueSize, PayloadContent content, int size,
+      long seed) {
+    super(size, seed);
+    this.valueSize = valueSize;
+    this.content = content;
+  }
+
+  private static int defaultSize(ValueSize valueSize) {
+    final double poolSize = MAX_POOL_BYTES / Math.max(1, valueSize.mean());
+    return (int) Math.max(1, Math.min(DEFAULT_SIZE, poolSize));
+  }
+
+  @Override
+  Object create(RegionService cache, Random random) {
+    return content.create(valueSize.next(random), random);
+  }
+
+  @Override
+  public String toString() {
+    return "payload:" + valueSize + ":" + content.name().toLowerCase(Locale.ROOT) + ":"
+        + getSize() + ":" + getSeed();
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import java.util.Random;
+
+import benchmark.geode.data.Portfolio;
+import benchmark.geode.data.PortfolioShape;
+
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.pdx.PdxInstance;
+
+/**
+ * Pools {@link PdxInstance PdxInstances} of {@link Portfolio portfolios}. A PdxInstance holds its
+ * serialized form, so a put sends it without serializing the portfolio again, and the region
+ * still holds PDX portfolios that queries and functions can read.
+ *
+ * The fields are written the way the {@link org.apache.geode.pdx.ReflectionBasedAutoSerializer}
+ * of the benchmarks writes them.
+ */
+public class PdxInstancePoolValueProvider extends PortfolioPoolValueProvider {
+  private static final long serialVersionUID = 1L;
+
+  public PdxInstancePoolValueProvider(int size, long seed) {
+    this(size, seed, PortfolioShape.MEDIUM);
+  }
+
+  public PdxInstancePoolValueProvider(int size, long seed, PortfolioShape shape) {
+    super(size, seed, shape);
+  }
+
+  @Override
+  Object create(RegionService cache, Random random) {
+    final Portfolio portfolio = newPortfolio(random);
+    return cache.createPdxInstanceFactory(Portfolio.class.getName())
+        .writeObject("aDay", portfolio.aDay)
+        .writeShort("shortID", portfolio.shortID)
+        .writeLong("ID", portfolio.getID())
+        .writeString("pkid", portfolio.pkid)
+        .writeObject("position1", portfolio.position1)
+        .writeObject("position2", portfolio.position2)
+        .writeObjectArray("position3", portfolio.position3)
+        .writeInt("position3Size", portfolio.getPosition3Size())
+        .writeString("description", portfolio.description)
+        .writeLong("createTime", portfolio.createTime)
+        .writeObject("positions", portfolio.positions)
+        .writeObject("collectionHolderMap", portfolio.collectionHolderMap)
+        .writeString("type", portfolio.getType())
+        .writeString("status", portfolio.status)
+        .writeStringArray("names", portfolio.names)
+        .writeString("unicodeṤtring", portfolio.unicodeṤtring)
+        .create();
+  }
+
+  @Override
+  public String toString() {
+    return "pdx:" + getSize() + ":" + getSeed();
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import java.util.Random;
+
+import org.apache.geode.cache.RegionService;
+
+/**
+ * Builds a fixed number of values once, from a seeded random, and then returns the same value
+ * for a key every time. The same size and seed always give the same values, and a key always maps
+ * to the same one.
+ */
+public abstract class PooledValueProvider extends ValueProvider {
+  private static final long serialVersionUID = 1L;
+
+  static final int DEFAULT_SIZE = 1024;
+  static final long DEFAULT_SEED = 0;
+
+  private final int size;
+  private final long seed;
+  private transient Object[] values;
+
+  PooledValueProvider(int size, long seed) {
+    if (size < 1) {
+      throw new IllegalArgumentException("size must be at least 1");
+    }
+    this.size = size;
+    this.seed = seed;
+  }
+
+  @Override
+  public void setUp(RegionService cache) throws Exception {
+    final Random random = new Random(seed);
+    final Object[] values = new Object[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = create(cache, random);
+    }
+    this.values = values;
+  }
+
+  /**
+   * Create the next value to pool, from the pool's random.
+   */
+  abstract Object create(RegionService cache, Random random) throws Exception;
+
+  @Override
+  public Object get(long key) {
+    return values[(int) Math.floorMod(key, (long) values.length)];
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+}
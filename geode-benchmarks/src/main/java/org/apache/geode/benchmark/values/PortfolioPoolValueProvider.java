@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import java.util.Random;
+
+import benchmark.geode.data.Portfolio;
+import benchmark.geode.data.PortfolioShape;
+
+/**
+ * Pools values built from {@link Portfolio portfolios} of a given {@link PortfolioShape}.
+ */
+public abstract class PortfolioPoolValueProvider extends PooledValueProvider {
+  private static final long serialVersionUID = 1L;
+
+  private final PortfolioShape shape;
+
+  PortfolioPoolValueProvider(int size, long seed, PortfolioShape shape) {
+    super(size, seed);
+    this.shape = shape;
+  }
+
+  /**
+   * A portfolio whose ID is the next from the pool's random.
+   */
+  Portfolio newPortfolio(Random random) {
+    return shape.create(random.nextInt(Integer.MAX_VALUE));
+  }
+
+  public PortfolioShape getShape() {
+    return shape;
+  }
+}
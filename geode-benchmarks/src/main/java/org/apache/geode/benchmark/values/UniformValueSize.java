@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import java.util.Random;
+
+/**
+ * Sizes are chosen uniformly between a minimum and a maximum, inclusive.
+ */
+public class UniformValueSize extends ValueSize {
+  private static final long serialVersionUID = 1L;
+
+  private final int min;
+  private final int max;
+
+  public UniformValueSize(int min, int max) {
+    if (min < 0 || max < min) {
+      throw new IllegalArgumentException("sizes must be 0 <= min <= max");
+    }
+    this.min = min;
+    this.max = max;
+  }
+
+  @Override
+  public int next(Random random) {
+    return min + (int) (random.nextDouble() * ((long) max - min + 1));
+  }
+
+  @Override
+  public double mean() {
+    return (min + (double) max) / 2;
+  }
+
+  @Override
+  public String toString() {
+    return "uniform:" + min + ":" + max;
+  }
+}
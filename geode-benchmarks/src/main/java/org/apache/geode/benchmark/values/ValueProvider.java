@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import java.io.Serializable;
+import java.util.Locale;
+
+import benchmark.geode.data.PortfolioShape;
+
+import org.apache.geode.cache.RegionService;
+
+/**
+ * Provides the value a workload task writes for a key. A provider is serialized with its task, so
+ * anything it builds must be built in {@link #setUp(RegionService)}, in the workload JVM.
+ *
+ * Values are provided on the workload hot path, so implementations must be thread safe, and
+ * providers that pool their values do not allocate.
+ */
+public abstract class ValueProvider implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Build any values in the workload JVM, before the first call to {@link #get(long)}.
+   */
+  public void setUp(RegionService cache) throws Exception {}
+
+  /**
+   * The value to write for the given key.
+   */
+  public abstract Object get(long key);
+
+  /**
+   * Parse a provider from a specification of the form {@code name[:parameter...]}.
+   * <ul>
+   * <li>{@code new}, see {@link NewValueProvider}</li>
+   * <li>{@code pool[:size[:seed]]}, see {@link ObjectPoolValueProvider}</li>
+   * <li>{@code pdx[:size[:seed]]}, see {@link PdxInstancePoolValueProvider}</li>
+   * <li>{@code bytes[:size[:seed]]}, see {@link ByteArrayPoolValueProvider}</li>
+   * </ul>
+   *
+   * @throws IllegalArgumentException if the specification is not valid
+   */
+  public static ValueProvider parse(String specification) {
+    return parse(specification, PortfolioShape.MEDIUM);
+  }
+
+  /**
+   * Parse a provider as {@link #parse(String)} does, whose portfolios are of the given shape.
+   *
+   * @throws IllegalArgumentException if the specification is not valid
+   */
+  public static ValueProvider parse(String specification, PortfolioShape shape) {
+    final String[] parts = specification.trim().split(":");
+    final String name = parts[0].toLowerCase(Locale.ROOT);
+    try {
+      switch (name) {
+        case "new":
+          checkParameters(parts, 0);
+          return new NewValueProvider(shape);
+        case "pool":
+          checkParameters(parts, 2);
+          return new ObjectPoolValueProvider(size(parts), seed(parts), shape);
+        case "pdx":
+          checkParameters(parts, 2);
+          return new PdxInstancePoolValueProvider(size(parts), seed(parts), shape);
+        case "bytes":
+          checkParameters(parts, 2);
+          return new ByteArrayPoolValueProvider(size(parts), seed(parts), shape);
+        default:
+          throw new IllegalArgumentException("Unknown value provider " + name);
+      }
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          "Invalid value provider \"" + specification + "\": " + e.getMessage(), e);
+    }
+  }
+
+  private static void checkParameters(String[] parts, int maxParameters) {
+    if (parts.length - 1 > maxParameters) {
+      throw new IllegalArgumentException("expected at most " + maxParameters + " parameters");
+    }
+  }
+
+  private static int size(String[] parts) {
+    return parts.length > 1 ? Integer.parseInt(parts[1]) : PooledValueProvider.DEFAULT_SIZE;
+  }
+
+  private static long seed(String[] parts) {
+    return parts.length > 2 ? Long.parseLong(parts[2]) : PooledValueProvider.DEFAULT_SEED;
+  }
+}
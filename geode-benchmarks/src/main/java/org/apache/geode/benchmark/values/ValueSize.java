@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import java.io.Serializable;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Chooses the sizes, in bytes, of the values a workload writes.
+ */
+public abstract class ValueSize implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  static final int KB = 1024;
+  static final int MB = 1024 * KB;
+
+  /**
+   * Choose the size of the next value.
+   */
+  public abstract int next(Random random);
+
+  /**
+   * The mean of the sizes chosen.
+   */
+  public abstract double mean();
+
+  /**
+   * Parse a distribution from a specification of the form {@code name[:parameter...]}, where
+   * sizes are in bytes, or in kilobytes or megabytes with a {@code k} or {@code m} suffix.
+   * <ul>
+   * <li>{@code size} or {@code fixed:size}</li>
+   * <li>{@code uniform:min:max}, see {@link UniformValueSize}</li>
+   * <li>{@code lognormal:median[:sigma[:max]]}, see {@link LogNormalValueSize}</li>
+   * <li>{@code bimodal:small:large[:largeFraction]}, see {@link BimodalValueSize}</li>
+   * </ul>
+   *
+   * @throws IllegalArgumentException if the specification is not valid
+   */
+  public static ValueSize parse(String specification) {
+    final String[] parts = specification.trim().split(":");
+    final String name = parts[0].toLowerCase(Locale.ROOT);
+    try {
+      if (!name.isEmpty() && Character.isDigit(name.charAt(0))) {
+        checkParameters(parts, 0);
+        return new FixedValueSize(parseSize(name));
+      }
+      switch (name) {
+        case "fixed":
+          checkParameters(parts, 1, 1);
+          return new FixedValueSize(parseSize(parts[1]));
+        case "uniform":
+          checkParameters(parts, 2, 2);
+          return new UniformValueSize(parseSize(parts[1]), parseSize(parts[2]));
+        case "lognormal":
+          checkParameters(parts, 1, 3);
+          final int median = parseSize(parts[1]);
+          return new LogNormalValueSize(median,
+              parts.length > 2 ? Double.parseDouble(parts[2]) : LogNormalValueSize.DEFAULT_SIGMA,
+              parts.length > 3 ? parseSize(parts[3])
+                  : Math.max(median, LogNormalValueSize.DEFAULT_MAX));
+        case "bimodal":
+          checkParameters(parts, 2, 3);
+          return new BimodalValueSize(parseSize(parts[1]), parseSize(parts[2]),
+              parts.length > 3 ? Double.parseDouble(parts[3])
+                  : BimodalValueSize.DEFAULT_LARGE_FRACTION);
+        default:
+          throw new IllegalArgumentException("Unknown value size " + name);
+      }
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          "Invalid value size \"" + specification + "\": " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Parse a size in bytes, or in kilobytes or megabytes with a {@code k} or {@code m} suffix,
+   * optionally followed by {@code b}.
+   */
+  static int parseSize(String size) {
+    String digits = size.trim().toLowerCase(Locale.ROOT);
+    if (digits.endsWith("b")) {
+      digits = digits.substring(0, digits.length() - 1);
+    }
+    int unit = 1;
+    if (digits.endsWith("k")) {
+      unit = KB;
+    } else if (digits.endsWith("m")) {
+      unit = MB;
+    }
+    if (unit != 1) {
+      digits = digits.substring(0, digits.length() - 1);
+    }
+    return Math.multiplyExact(Integer.parseInt(digits), unit);
+  }
+
+  private static void checkParameters(String[] parts, int maxParameters) {
+    checkParameters(parts, 0, maxParameters);
+  }
+
+  private static void checkParameters(String[] parts, int minParameters, int maxParameters) {
+    if (parts.length - 1 < minParameters) {
+      throw new IllegalArgumentException("expected at least " + minParameters + " parameters");
+    }
+    if (parts.length - 1 > maxParameters) {
+      throw new IllegalArgumentException("expected at most " + maxParameters + " parameters");
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package benchmark.geode.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class PortfolioShapeTest {
+
+  @Test
+  void mediumBuildsTheDefaultPortfolio() {
+    final Portfolio expected = new Portfolio(7);
+    final Portfolio portfolio = PortfolioShape.MEDIUM.create(7);
+
+    assertThat(portfolio.getPositions()).hasSameSizeAs(expected.getPositions());
+    assertThat(portfolio.getCollectionHolderMap()).isEqualTo(expected.getCollectionHolderMap());
+    assertThat(portfolio.getPosition3()).isNull();
+  }
+
+  @Test
+  void buildsTheGivenShape() {
+    final Portfolio portfolio = new PortfolioShape(5, 3, 20, 2, 4).create(7);
+
+    assertThat(portfolio.getID()).isEqualTo(7);
+    assertThat(portfolio.getPositions()).hasSize(5);
+    assertThat(portfolio.getCollectionHolderMap()).hasSize(3);
+    assertThat(portfolio.getCollectionHolderMap().values())
+        .allSatisfy(holder -> assertThat(holder.getArr()).hasSize(20).doesNotHaveDuplicates());
+    assertThat(portfolio.getPosition3()).hasSize(4)
+        .allSatisfy(child -> assertThat((Object[]) child).hasSize(4)
+            .hasOnlyElementsOfType(Position.class));
+  }
+
+  @Test
+  void keepsEveryPositionOfALargeShape() {
+    final Portfolio portfolio = new PortfolioShape(40, 0, 0, 0, 0).create(7);
+
+    assertThat(portfolio.getPositions()).hasSize(40);
+    assertThat(portfolio.getCollectionHolderMap()).isEmpty();
+  }
+
+  @Test
+  void keepsTheQueriedFields() {
+    for (PortfolioShape shape : new PortfolioShape[] {PortfolioShape.SHALLOW,
+        PortfolioShape.MEDIUM, PortfolioShape.DEEP}) {
+      final Portfolio portfolio = shape.create(8);
+
+      assertThat(portfolio.getID()).isEqualTo(8);
+      assertThat(portfolio.getStatus()).isEqualTo("active");
+      assertThat(portfolio.getType()).isNotNull();
+      assertThat(portfolio.getPosition1()).isNotNull();
+      assertThat(portfolio.getPositions()).isNotEmpty();
+    }
+  }
+
+  @Test
+  void parsesShapes() {
+    assertThat(PortfolioShape.parse("shallow")).isSameAs(PortfolioShape.SHALLOW);
+    assertThat(PortfolioShape.parse("Medium")).isSameAs(PortfolioShape.MEDIUM);
+    assertThat(PortfolioShape.parse("deep")).isSameAs(PortfolioShape.DEEP);
+    assertThat(PortfolioShape.parse("1:2:3:4:5")).hasToString("1:2:3:4:5");
+  }
+
+  @Test
+  void rejectsInvalidShapes() {
+    assertThatThrownBy(() -> PortfolioShape.parse("wide"))
+        .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("wide");
+    assertThatThrownBy(() -> PortfolioShape.parse("deep:1"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PortfolioShape.parse("1:2:3:-1:5"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PortfolioShape.parse("1:2:3:1:0"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.ZipfianKeyDistribution;
+import org.apache.geode.cache.Region;
+import org.apache.geode.perftest.OperationRecorder;
+
+class AbstractGetAllTaskTest {
+
+  @Test
+  public void readsABatchOfDistinctKeys() throws Exception {
+    final Set<?>[] read = new Set<?>[1];
+    final AbstractGetAllTask task = new AbstractGetAllTask(new LongRange(0, 1000), 10, true) {
+      @Override
+      int getAll(Region<Long, Object> region, Set<Long> keys, boolean isValidationEnabled) {
+        read[0] = keys;
+        return keys.size();
+      }
+    };
+    task.createBatches();
+
+    assertThat(task.test(Collections.emptyMap())).isTrue();
+    assertThat(read[0]).hasSize(10);
+  }
+
+  @Test
+  public void drawsEveryKeyOfASkewedRangeInOneBatch() throws Exception {
+    final Set<?>[] read = new Set<?>[1];
+    final AbstractGetAllTask task =
+        new AbstractGetAllTask(new LongRange(0, 1000, new ZipfianKeyDistribution(0.99)), 1000,
+            true) {
+          @Override
+          int getAll(Region<Long, Object> region, Set<Long> keys, boolean isValidationEnabled) {
+            read[0] = keys;
+            return keys.size();
+          }
+        };
+    task.createBatches();
+
+    task.test(Collections.emptyMap());
+    assertThat(read[0]).hasSize(1000);
+  }
+
+  @Test
+  public void recordsTheLatencyOfEachEntry() throws Exception {
+    final OperationRecorder operationRecorder = mock(OperationRecorder.class);
+    final AbstractGetAllTask task = new AbstractGetAllTask(new LongRange(0, 1000), 10, false) {
+      @Override
+      int getAll(Region<Long, Object> region, Set<Long> keys, boolean isValidationEnabled) {
+        return keys.size();
+      }
+    };
+    task.setOperationRecorder(operationRecorder);
+    task.createBatches();
+
+    task.test(Collections.emptyMap());
+
+    assertThat(task.getOperationNames()).containsExactly("entry");
+    verify(operationRecorder).recordOperations(eq(0), anyLong(), eq(10L));
+  }
+
+  @Test
+  public void rejectsABatchLargerThanTheKeyRange() {
+    assertThat(catchThrowable(() -> new AbstractGetAllTask(new LongRange(0, 10), 11, false) {
+      @Override
+      int getAll(Region<Long, Object> region, Set<Long> keys, boolean isValidationEnabled) {
+        return keys.size();
+      }
+    })).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void failsValidationIfEntriesAreMissing() {
+    final AbstractGetAllTask task = new AbstractGetAllTask(new LongRange(0, 1000), 10, true) {
+      @Override
+      int getAll(Region<Long, Object> region, Set<Long> keys, boolean isValidationEnabled) {
+        return keys.size() - 1;
+      }
+    };
+    task.createBatches();
+
+    assertThat(catchThrowable(() -> task.test(Collections.emptyMap())))
+        .isInstanceOf(AssertionError.class);
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+
+class AsyncEventSinkTest {
+
+  @TempDir
+  File folder;
+
+  @Test
+  public void parsesEachSink() {
+    assertThat(AsyncEventSink.parse("noop")).isInstanceOf(AsyncEventSink.NoopSink.class);
+    assertThat(AsyncEventSink.parse("FILE")).isInstanceOf(AsyncEventSink.FileSink.class);
+    assertThat(((AsyncEventSink.LatencySink) AsyncEventSink.parse("latency")).getLatencyMillis())
+        .isEqualTo(AsyncEventSink.DEFAULT_LATENCY_MILLIS);
+    assertThat(((AsyncEventSink.LatencySink) AsyncEventSink.parse("latency:20"))
+        .getLatencyMillis()).isEqualTo(20);
+  }
+
+  @Test
+  public void rejectsAnInvalidSink() {
+    assertThat(catchThrowable(() -> AsyncEventSink.parse("database")))
+        .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("database");
+    assertThat(catchThrowable(() -> AsyncEventSink.parse("noop:1")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void fileSinkAppendsEachEvent() throws Exception {
+    final AsyncEvent<?, ?> event = mock(AsyncEvent.class);
+    when(event.getKey()).thenReturn(7L);
+    when(event.getSerializedValue()).thenReturn(new byte[] {1, 2, 3});
+    final AsyncEventSink sink = AsyncEventSink.parse("file");
+
+    sink.open(folder);
+    sink.write(Collections.nCopies(2, event));
+    sink.close();
+
+    try (DataInputStream input = new DataInputStream(
+        new FileInputStream(new File(folder, AsyncEventSink.FILE_NAME)))) {
+      for (int i = 0; i < 2; i++) {
+        assertThat(input.readUTF()).isEqualTo("7");
+        assertThat(input.readInt()).isEqualTo(3);
+        assertThat(input.read(new byte[3])).isEqualTo(3);
+      }
+      assertThat(input.read()).isEqualTo(-1);
+    }
+  }
+}
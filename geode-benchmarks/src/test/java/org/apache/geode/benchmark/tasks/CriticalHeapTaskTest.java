@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.geode.cache.LowMemoryException;
+import org.apache.geode.cache.client.ServerOperationException;
+
+class CriticalHeapTaskTest {
+
+  @Test
+  public void recognizesALowMemoryExceptionFromTheServer() {
+    final LowMemoryException lowMemory =
+        new LowMemoryException("critical", Collections.emptySet());
+    assertThat(CriticalHeapTask.isLowMemory(lowMemory)).isTrue();
+    assertThat(CriticalHeapTask.isLowMemory(new ServerOperationException(lowMemory))).isTrue();
+  }
+
+  @Test
+  public void doesNotRecognizeOtherExceptions() {
+    assertThat(CriticalHeapTask.isLowMemory(new ServerOperationException("failed"))).isFalse();
+    assertThat(CriticalHeapTask.isLowMemory(
+        new IllegalStateException(new IllegalArgumentException()))).isFalse();
+  }
+}
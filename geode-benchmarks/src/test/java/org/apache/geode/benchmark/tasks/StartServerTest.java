@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.apache.geode.benchmark.tasks.StartServer.PDX_DISK_STORE_NAME;
+import static org.apache.geode.benchmark.topology.Roles.LOCATOR;
+import static org.apache.geode.benchmark.topology.Topology.WITH_PERSISTENT_PDX_PROPERTY;
+import static org.apache.geode.distributed.ConfigurationProperties.LOCATORS;
+import static org.apache.geode.distributed.ConfigurationProperties.MCAST_PORT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.net.InetAddress;
+import java.util.Collections;
+
+import benchmark.geode.data.Portfolio;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junitpioneer.jupiter.SetSystemProperty;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.perftest.TestContext;
+
+class StartServerTest {
+
+  @TempDir
+  File folder;
+
+  @Test
+  @SetSystemProperty(key = WITH_PERSISTENT_PDX_PROPERTY, value = "true")
+  void persistsPdxTypesAcrossARestart() throws Exception {
+    Cache cache = createCache();
+    try {
+      assertThat(cache.getPdxPersistent()).isTrue();
+      assertThat(cache.getPdxDiskStore()).isEqualTo(PDX_DISK_STORE_NAME);
+      assertThat(cache.findDiskStore(PDX_DISK_STORE_NAME).getDiskDirs())
+          .containsExactly(new File(folder, PDX_DISK_STORE_NAME).getAbsoluteFile());
+      createRegion(cache).put(1L, new Portfolio(1));
+    } finally {
+      cache.close();
+    }
+
+    cache = createCache();
+    try {
+      assertThat(createRegion(cache).get(1L)).isEqualTo(new Portfolio(1));
+    } finally {
+      cache.close();
+    }
+  }
+
+  private Cache createCache() throws Exception {
+    final TestContext context = mock(TestContext.class);
+    when(context.getOutputDir()).thenReturn(folder);
+    when(context.getHostsForRole(LOCATOR.name()))
+        .thenReturn(Collections.singleton(InetAddress.getLoopbackAddress()));
+
+    return new StartServer(0, 0).configureCacheFactory(new CacheFactory(), context)
+        .set(LOCATORS, "")
+        .set(MCAST_PORT, "0")
+        .create();
+  }
+
+  private Region<Long, Portfolio> createRegion(Cache cache) {
+    cache.createDiskStoreFactory().setDiskDirs(new File[] {folder}).create("regionStore");
+    return cache.<Long, Portfolio>createRegionFactory(RegionShortcut.REPLICATE_PERSISTENT)
+        .setDiskStoreName("regionStore")
+        .create("region");
+  }
+}
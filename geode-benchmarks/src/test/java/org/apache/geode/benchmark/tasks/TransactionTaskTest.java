@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.values.ValueProvider;
+
+class TransactionTaskTest {
+
+  @Test
+  public void choosesGroupsWhollyWithinTheKeyRange() {
+    final TransactionTask task =
+        new TransactionTask(new LongRange(3, 103), 4, 0, mock(ValueProvider.class), false);
+
+    for (int i = 0; i < 10_000; i++) {
+      assertThat(task.nextGroup() * 4).isBetween(3L, 99L);
+    }
+  }
+
+  @Test
+  public void choosesOnlyHotGroupsWhenFullyOverlapping() {
+    final TransactionTask task =
+        new TransactionTask(new LongRange(0, 1000), 4, 100, mock(ValueProvider.class), false);
+
+    for (int i = 0; i < 10_000; i++) {
+      assertThat(task.nextGroup()).isBetween(0L, TransactionTask.HOT_GROUPS - 1L);
+    }
+  }
+
+  @Test
+  public void rejectsAKeyRangeSmallerThanAGroup() {
+    assertThat(catchThrowable(
+        () -> new TransactionTask(new LongRange(0, 3), 4, 0, mock(ValueProvider.class), false)))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -21,8 +21,10 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -30,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.yardstickframework.BenchmarkDriver;
 
 import org.apache.geode.benchmark.tasks.WeightedTasks.WeightedTask;
+import org.apache.geode.perftest.OperationRecorder;
 
 class WeightedTasksTest {
 
@@ -80,4 +83,32 @@ class WeightedTasksTest {
     assertThat(count2 / iterations).isCloseTo(0.20, offset(0.01));
   }
 
+  @Test
+  public void tellsTheRecorderWhichTaskRan() throws Exception {
+    final BenchmarkDriver task1 = mock(BenchmarkDriver.class);
+    final BenchmarkDriver task2 = mock(BenchmarkDriver.class);
+    when(task2.test(same(Collections.emptyMap()))).thenReturn(true);
+    final OperationRecorder operationRecorder = mock(OperationRecorder.class);
+
+    final WeightedTasks weightedTasks =
+        new WeightedTasks(new WeightedTask(0, task1), new WeightedTask(1, task2));
+    weightedTasks.setOperationRecorder(operationRecorder);
+
+    assertThat(weightedTasks.test(Collections.emptyMap())).isTrue();
+    verify(operationRecorder).ranOperation(1);
+  }
+
+  @Test
+  public void namesEachTaskUniquely() {
+    final BenchmarkDriver task = mock(BenchmarkDriver.class);
+    final String name = task.getClass().getSimpleName();
+
+    final WeightedTasks weightedTasks =
+        new WeightedTasks(new WeightedTask(1, task), new WeightedTask(1, task),
+            new WeightedTask(1, new NoopTask()));
+
+    assertThat(weightedTasks.getOperationNames())
+        .containsExactly(name, name + "-2", "NoopTask");
+  }
+
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_DISK_DIRS;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_LAZY_RECOVERY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junitpioneer.jupiter.SetSystemProperty;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.benchmark.tasks.RecoverServer;
+import org.apache.geode.perftest.RecoveryTimes;
+import org.apache.geode.perftest.TestRunners;
+
+public class PartitionedRecoveryBenchmarkTest {
+
+  @TempDir
+  File folder;
+
+  @Test
+  public void benchmarkRunsSuccessfully() throws Exception {
+    PartitionedRecoveryBenchmark test = new PartitionedRecoveryBenchmark();
+    test.setKeyRange(new LongRange(0, 100, test.getKeyRange().getDistribution()));
+    test.setValidationEnabled(true);
+    TestRunners.minimalRunner(folder).runTest(test);
+
+    assertThat(loadRecoveryTimes()).isNotEmpty()
+        .allSatisfy(times -> assertThat(times).containsKeys(RecoverServer.REGION_ONLINE,
+            RecoverServer.FULL_REDUNDANCY));
+  }
+
+  @Test
+  @SetSystemProperty(key = WITH_LAZY_RECOVERY, value = "true")
+  @SetSystemProperty(key = WITH_DISK_DIRS, value = "2")
+  public void benchmarkRunsSuccessfullyWithLazyRecoveryFromTwoDirectories() throws Exception {
+    PartitionedRecoveryBenchmark test = new PartitionedRecoveryBenchmark();
+    test.setKeyRange(new LongRange(0, 100, test.getKeyRange().getDistribution()));
+    test.setValidationEnabled(true);
+    TestRunners.minimalRunner(folder).runTest(test);
+  }
+
+  /**
+   * The recovery times the servers wrote.
+   */
+  private List<Properties> loadRecoveryTimes() throws IOException {
+    try (Stream<Path> files = Files.walk(folder.toPath())) {
+      return files.filter(file -> file.endsWith(RecoveryTimes.RESULT_FILE))
+          .map(file -> {
+            try {
+              return RecoveryTimes.loadResult(file.getParent().toFile());
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          })
+          .filter(times -> times.containsKey(RecoverServer.REGION_ONLINE))
+          .collect(Collectors.toList());
+    }
+  }
+}
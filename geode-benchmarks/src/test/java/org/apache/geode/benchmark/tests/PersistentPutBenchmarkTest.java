@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_DISK_ASYNC;
+
+import java.io.File;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junitpioneer.jupiter.SetSystemProperty;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.perftest.TestRunners;
+
+public class PersistentPutBenchmarkTest {
+
+  @TempDir
+  File folder;
+
+  @ParameterizedTest
+  @ValueSource(
+      classes = {PartitionedPersistentPutBenchmark.class, ReplicatedPersistentPutBenchmark.class})
+  public void benchmarkRunsSuccessfully(Class<? extends AbstractPersistentPutBenchmark> benchmark)
+      throws Exception {
+    final AbstractPersistentPutBenchmark test = benchmark.newInstance();
+    test.setKeyRange(new LongRange(0, 100, test.getKeyRange().getDistribution()));
+    test.setValidationEnabled(true);
+    TestRunners.minimalRunner(folder).runTest(test);
+  }
+
+  @Test
+  @SetSystemProperty(key = WITH_DISK_ASYNC, value = "true")
+  public void benchmarkRunsSuccessfullyWithAsynchronousWrites() throws Exception {
+    final PartitionedPersistentPutBenchmark test = new PartitionedPersistentPutBenchmark();
+    test.setKeyRange(new LongRange(0, 100, test.getKeyRange().getDistribution()));
+    test.setValidationEnabled(true);
+    TestRunners.minimalRunner(folder).runTest(test);
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.tests;
+
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_EVICTION_ENTRIES;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_EVICTION_MEMORY;
+import static org.apache.geode.benchmark.tests.GeodeBenchmark.WITH_HOT_KEYS;
+
+import java.io.File;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junitpioneer.jupiter.SetSystemProperty;
+
+import org.apache.geode.benchmark.LongRange;
+import org.apache.geode.perftest.TestRunners;
+
+@SetSystemProperty(key = WITH_HOT_KEYS, value = "10")
+public class ReplicatedOverflowBenchmarkTest {
+
+  @TempDir
+  File folder;
+
+  @Test
+  @SetSystemProperty(key = WITH_EVICTION_ENTRIES, value = "20")
+  public void benchmarkRunsSuccessfully() throws Exception {
+    runBenchmark();
+  }
+
+  @Test
+  @SetSystemProperty(key = WITH_EVICTION_MEMORY, value = "1")
+  public void benchmarkRunsSuccessfullyEvictingByMemory() throws Exception {
+    runBenchmark();
+  }
+
+  private void runBenchmark() throws Exception {
+    ReplicatedOverflowBenchmark test = new ReplicatedOverflowBenchmark();
+    test.setKeyRange(new LongRange(0, 100, test.getKeyRange().getDistribution()));
+    test.setValidationEnabled(true);
+    TestRunners.minimalRunner(folder).runTest(test);
+  }
+}
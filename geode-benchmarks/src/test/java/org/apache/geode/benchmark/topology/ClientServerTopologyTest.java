@@ -19,15 +19,21 @@ package org.apache.geode.benchmark.topology;
 import static org.apache.geode.benchmark.Constants.JAVA_RUNTIME_VERSION;
 import static org.apache.geode.benchmark.Constants.JAVA_VERSION_11;
 import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Roles.SUBSCRIBER;
+import static org.apache.geode.benchmark.topology.Topology.WITH_CONFLATION_PROPERTY;
 import static org.apache.geode.benchmark.topology.Topology.WITH_SECURITY_MANAGER_PROPERTY;
 import static org.apache.geode.benchmark.topology.Topology.WITH_SSL_PROPERTY;
+import static org.apache.geode.benchmark.topology.Topology.WITH_SUBSCRIBER_COUNT_PROPERTY;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 import org.junitpioneer.jupiter.ClearSystemProperty;
 import org.junitpioneer.jupiter.SetSystemProperty;
 
 import org.apache.geode.perftest.TestConfig;
+import org.apache.geode.perftest.TestStep;
 
 public class ClientServerTopologyTest {
 
@@ -79,4 +85,47 @@ public class ClientServerTopologyTest {
         .contains("-Dbenchmark.withSecurityManager=true");
     assertThat(testConfig.getJvmArgs().get(CLIENT.name())).contains("-Dbenchmark.withSsl=true");
   }
+
+  @Test
+  @ClearSystemProperty(key = WITH_SUBSCRIBER_COUNT_PROPERTY)
+  @ClearSystemProperty(key = WITH_CONFLATION_PROPERTY)
+  public void configWithSubscribers() {
+    TestConfig testConfig = new TestConfig();
+    ClientServerTopology.configure(testConfig);
+    ClientServerTopology.configureSubscribers(testConfig, 4);
+    assertThat(testConfig.getRoles()).containsEntry(SUBSCRIBER.name(), 4);
+    assertThat(testConfig.getJvmArgs().get(SUBSCRIBER.name()))
+        .contains("-Dbenchmark.withSubscriptions=true")
+        .doesNotContain("-Dgemfire.conflate-events=true");
+    assertThat(testConfig.getJvmArgs().get(CLIENT.name()))
+        .doesNotContain("-Dbenchmark.withSubscriptions=true");
+    assertThat(testConfig.getBefore()).anyMatch(ClientServerTopologyTest::runsOnSubscribers);
+    assertThat(testConfig.getAfter()).anyMatch(ClientServerTopologyTest::runsOnSubscribers);
+  }
+
+  @Test
+  @SetSystemProperty(key = WITH_SUBSCRIBER_COUNT_PROPERTY, value = "0")
+  public void configWithoutSubscribers() {
+    TestConfig testConfig = new TestConfig();
+    ClientServerTopology.configure(testConfig);
+    ClientServerTopology.configureSubscribers(testConfig, 4);
+    assertThat(testConfig.getBefore()).noneMatch(ClientServerTopologyTest::runsOnSubscribers);
+    assertThat(testConfig.getAfter()).noneMatch(ClientServerTopologyTest::runsOnSubscribers);
+  }
+
+  @Test
+  @SetSystemProperty(key = WITH_SUBSCRIBER_COUNT_PROPERTY, value = "100")
+  @SetSystemProperty(key = WITH_CONFLATION_PROPERTY, value = "true")
+  public void configWithSubscriberCountAndConflation() {
+    TestConfig testConfig = new TestConfig();
+    ClientServerTopology.configure(testConfig);
+    ClientServerTopology.configureSubscribers(testConfig, 4);
+    assertThat(testConfig.getRoles()).containsEntry(SUBSCRIBER.name(), 100);
+    assertThat(testConfig.getJvmArgs().get(SUBSCRIBER.name()))
+        .contains("-Dgemfire.conflate-events=true");
+  }
+
+  private static boolean runsOnSubscribers(TestStep step) {
+    return Arrays.asList(step.getRoles()).contains(SUBSCRIBER.name());
+  }
 }
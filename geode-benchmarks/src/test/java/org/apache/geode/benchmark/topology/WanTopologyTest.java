@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.topology;
+
+import static org.apache.geode.benchmark.topology.Roles.CLIENT;
+import static org.apache.geode.benchmark.topology.Roles.LOCATOR;
+import static org.apache.geode.benchmark.topology.Roles.REMOTE_LOCATOR;
+import static org.apache.geode.benchmark.topology.Roles.REMOTE_SERVER;
+import static org.apache.geode.benchmark.topology.Roles.SERVER;
+import static org.apache.geode.benchmark.topology.Topology.WITH_ASYNC_REPLICATION;
+import static org.apache.geode.benchmark.topology.Topology.WITH_SERVER_COUNT_PROPERTY;
+import static org.apache.geode.benchmark.topology.Topology.WITH_SSL_PROPERTY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.junit.jupiter.api.Test;
+import org.junitpioneer.jupiter.ClearSystemProperty;
+import org.junitpioneer.jupiter.SetSystemProperty;
+
+import org.apache.geode.perftest.TestConfig;
+
+public class WanTopologyTest {
+
+  @Test
+  @ClearSystemProperty(key = WITH_SERVER_COUNT_PROPERTY)
+  public void configuresTwoSitesWithAsManyServers() {
+    TestConfig testConfig = new TestConfig();
+    WanTopology.configure(testConfig);
+    assertThat(testConfig.getRoles()).containsOnly(entry(LOCATOR.name(), 1),
+        entry(SERVER.name(), 2), entry(CLIENT.name(), 1), entry(REMOTE_LOCATOR.name(), 1),
+        entry(REMOTE_SERVER.name(), 2));
+  }
+
+  @Test
+  @SetSystemProperty(key = WITH_SSL_PROPERTY, value = "true")
+  public void configWithSslOnBothSites() {
+    TestConfig testConfig = new TestConfig();
+    WanTopology.configure(testConfig);
+    assertThat(testConfig.getJvmArgs().get(SERVER.name())).contains("-Dbenchmark.withSsl=true");
+    assertThat(testConfig.getJvmArgs().get(REMOTE_SERVER.name()))
+        .contains("-Dbenchmark.withSsl=true");
+  }
+
+  @Test
+  @SetSystemProperty(key = WITH_ASYNC_REPLICATION, value = "true")
+  public void configWithAsyncReplicationOnBothSites() {
+    TestConfig testConfig = new TestConfig();
+    WanTopology.configure(testConfig);
+    assertThat(testConfig.getJvmArgs().get(SERVER.name()))
+        .contains("-Dgemfire.disablePartitionedRegionBucketAck=true");
+    assertThat(testConfig.getJvmArgs().get(REMOTE_SERVER.name()))
+        .contains("-Dgemfire.disablePartitionedRegionBucketAck=true");
+  }
+
+  @Test
+  public void configWithPersistentPdxOnBothSites() {
+    TestConfig testConfig = new TestConfig();
+    WanTopology.configure(testConfig);
+    Topology.enablePersistentPdx(testConfig);
+    assertThat(testConfig.getJvmArgs().get(SERVER.name()))
+        .contains("-Dbenchmark.withPersistentPdx=true");
+    assertThat(testConfig.getJvmArgs().get(REMOTE_SERVER.name()))
+        .contains("-Dbenchmark.withPersistentPdx=true");
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOCATORS;
+import static org.apache.geode.distributed.ConfigurationProperties.MCAST_PORT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import benchmark.geode.data.Portfolio;
+import benchmark.geode.data.PortfolioShape;
+import org.junit.jupiter.api.Test;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.ReflectionBasedAutoSerializer;
+
+class ValueProviderTest {
+
+  @Test
+  void parsesEachProvider() {
+    assertThat(ValueProvider.parse("new")).isInstanceOf(NewValueProvider.class);
+    assertThat(ValueProvider.parse("pool")).hasToString("pool:1024:0");
+    assertThat(ValueProvider.parse("PDX:10")).hasToString("pdx:10:0");
+    assertThat(ValueProvider.parse("bytes:10:7")).hasToString("bytes:10:7");
+  }
+
+  @Test
+  void rejectsInvalidSpecifications() {
+    assertThatThrownBy(() -> ValueProvider.parse("cloned"))
+        .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("cloned");
+    assertThatThrownBy(() -> ValueProvider.parse("new:1"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ValueProvider.parse("pool:0"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ValueProvider.parse("pool:1:2:3"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void createsANewPortfolioForEachKey() {
+    final ValueProvider provider = new NewValueProvider();
+
+    assertThat(provider.get(3)).isEqualTo(new Portfolio(3)).isNotSameAs(provider.get(3));
+  }
+
+  @Test
+  void buildsPortfoliosOfTheGivenShape() throws Exception {
+    final PortfolioShape shape = PortfolioShape.parse("3:0:0:0:0");
+    final ValueProvider provider = ValueProvider.parse("new", shape);
+    final ValueProvider pool = ValueProvider.parse("pool:2", shape);
+    pool.setUp(null);
+
+    assertThat(((Portfolio) provider.get(1)).getPositions()).hasSize(3);
+    assertThat(((Portfolio) pool.get(1)).getPositions()).hasSize(3);
+    assertThat(((Portfolio) pool.get(1)).getCollectionHolderMap()).isEmpty();
+  }
+
+  @Test
+  void reusesTheSameValueForAKey() throws Exception {
+    final ValueProvider provider = new ObjectPoolValueProvider(4, 0);
+    provider.setUp(null);
+
+    assertThat(provider.get(5)).isSameAs(provider.get(5)).isSameAs(provider.get(1));
+    assertThat(provider.get(5)).isNotSameAs(provider.get(6));
+    assertThat(provider.get(-3)).isSameAs(provider.get(1));
+  }
+
+  @Test
+  void buildsTheSamePoolFromTheSameSeed() throws Exception {
+    final ValueProvider provider = new ObjectPoolValueProvider(16, 42);
+    provider.setUp(null);
+    final ValueProvider copy = serializeAndDeserialize(provider);
+    copy.setUp(null);
+    final ValueProvider reseeded = new ObjectPoolValueProvider(16, 43);
+    reseeded.setUp(null);
+
+    for (long key = 0; key < 16; key++) {
+      assertThat(copy.get(key)).isEqualTo(provider.get(key));
+    }
+    assertThat(reseeded.get(0)).isNotEqualTo(provider.get(0));
+  }
+
+  @Test
+  void preSerializesPortfolios() throws Exception {
+    final Cache cache = new CacheFactory()
+        .set(LOCATORS, "")
+        .set(MCAST_PORT, "0")
+        .setPdxSerializer(new ReflectionBasedAutoSerializer("benchmark.geode.data.*"))
+        .create();
+    try {
+      final ValueProvider expected = new ObjectPoolValueProvider(2, 0);
+      expected.setUp(cache);
+      final ValueProvider pdx = new PdxInstancePoolValueProvider(2, 0);
+      pdx.setUp(cache);
+      final ValueProvider bytes = new ByteArrayPoolValueProvider(2, 0);
+      bytes.setUp(cache);
+
+      assertThat(pdx.get(1)).isInstanceOf(PdxInstance.class);
+      assertThat(((PdxInstance) pdx.get(1)).getObject()).isEqualTo(expected.get(1));
+      final Object deserialized = DataSerializer.readObject(
+          new DataInputStream(new ByteArrayInputStream((byte[]) bytes.get(1))));
+      assertThat(deserialized).isEqualTo(expected.get(1));
+    } finally {
+      cache.close();
+    }
+  }
+
+  @Test
+  void poolsPayloadsOfTheChosenSizes() throws Exception {
+    final ValueProvider provider =
+        new PayloadPoolValueProvider(new UniformValueSize(10, 20), PayloadContent.RANDOM, 8, 0);
+    provider.setUp(null);
+
+    for (long key = 0; key < 8; key++) {
+      assertThat((byte[]) provider.get(key)).hasSizeBetween(10, 20);
+    }
+    assertThat(provider.get(3)).isSameAs(provider.get(11));
+  }
+
+  @Test
+  void limitsTheBytesInADefaultPool() {
+    assertThat(new PayloadPoolValueProvider(new FixedValueSize(100), PayloadContent.RANDOM)
+        .getSize()).isEqualTo(PooledValueProvider.DEFAULT_SIZE);
+    assertThat(new PayloadPoolValueProvider(new FixedValueSize(1024 * 1024),
+        PayloadContent.RANDOM).getSize()).isEqualTo(64);
+    assertThat(new PayloadPoolValueProvider(new FixedValueSize(100 * 1024 * 1024),
+        PayloadContent.RANDOM).getSize()).isEqualTo(1);
+  }
+
+  @Test
+  void createsCompressibleAndRandomPayloads() {
+    final Random random = new Random(0);
+
+    assertThat(compressedSize(PayloadContent.COMPRESSIBLE.create(100_000, random)))
+        .isLessThan(50_000);
+    assertThat(compressedSize(PayloadContent.RANDOM.create(100_000, random)))
+        .isGreaterThan(99_000);
+  }
+
+  private static int compressedSize(byte[] payload) {
+    final Deflater deflater = new Deflater();
+    deflater.setInput(payload);
+    deflater.finish();
+    final byte[] buffer = new byte[payload.length * 2];
+    final int size = deflater.deflate(buffer);
+    deflater.end();
+    return size;
+  }
+
+  private static ValueProvider serializeAndDeserialize(ValueProvider provider) throws Exception {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(provider);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (ValueProvider) in.readObject();
+    }
+  }
+}
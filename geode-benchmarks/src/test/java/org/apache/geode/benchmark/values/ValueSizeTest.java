@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark.values;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ValueSizeTest {
+
+  private static final int SAMPLES = 100_000;
+
+  static Stream<ValueSize> sizes() {
+    return Stream.of(new FixedValueSize(100), new UniformValueSize(100, 1000),
+        new LogNormalValueSize(1000, 1, 100_000), new BimodalValueSize(10, 10_000, 0.1));
+  }
+
+  @Test
+  void parsesEachDistribution() {
+    assertThat(ValueSize.parse("100")).hasToString("fixed:100");
+    assertThat(ValueSize.parse("fixed:1k")).hasToString("fixed:1024");
+    assertThat(ValueSize.parse("uniform:100b:10KB")).hasToString("uniform:100:10240");
+    assertThat(ValueSize.parse("lognormal:4k")).hasToString("lognormal:4096:1.0:10485760");
+    assertThat(ValueSize.parse("lognormal:4k:2:1m")).hasToString("lognormal:4096:2.0:1048576");
+    assertThat(ValueSize.parse("bimodal:8:10m")).hasToString("bimodal:8:10485760:0.1");
+  }
+
+  @Test
+  void rejectsInvalidSpecifications() {
+    assertThatThrownBy(() -> ValueSize.parse("normal:10"))
+        .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("normal:10");
+    assertThatThrownBy(() -> ValueSize.parse("fixed"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ValueSize.parse("uniform:10:1"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ValueSize.parse("bimodal:1:10:2"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ValueSize.parse("4g"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @ParameterizedTest
+  @MethodSource("sizes")
+  void choosesSizesWithTheExpectedMean(ValueSize size) {
+    final Random random = new Random(0);
+    final double mean =
+        IntStream.range(0, SAMPLES).map(i -> size.next(random)).average().getAsDouble();
+
+    assertThat(mean).isCloseTo(size.mean(), withinPercentage(5));
+  }
+
+  @Test
+  void choosesUniformSizesInRange() {
+    final ValueSize size = new UniformValueSize(10, 20);
+    final Random random = new Random(0);
+
+    assertThat(IntStream.range(0, SAMPLES).map(i -> size.next(random)))
+        .allMatch(next -> next >= 10 && next <= 20).contains(10, 20);
+  }
+
+  @Test
+  void capsLogNormalSizes() {
+    final ValueSize size = new LogNormalValueSize(1000, 3, 2000);
+    final Random random = new Random(0);
+
+    assertThat(IntStream.range(0, SAMPLES).map(i -> size.next(random)).max().getAsInt())
+        .isEqualTo(2000);
+  }
+}
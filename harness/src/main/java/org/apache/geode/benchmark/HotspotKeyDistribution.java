@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Chooses keys from a hot set at the start of the range for a fraction of the operations, and
+ * from the rest of the range for the others. Within each set the keys are chosen uniformly.
+ */
+public class HotspotKeyDistribution extends KeyDistribution {
+  private static final long serialVersionUID = 1L;
+
+  public static final double DEFAULT_HOT_SET_FRACTION = 0.2;
+  public static final double DEFAULT_HOT_OPERATION_FRACTION = 0.8;
+
+  private final double hotSetFraction;
+  private final double hotOperationFraction;
+
+  /**
+   * @param hotSetFraction The fraction of the range that is hot
+   * @param hotOperationFraction The fraction of operations on the hot set
+   */
+  public HotspotKeyDistribution(double hotSetFraction, double hotOperationFraction) {
+    checkFraction("hotSetFraction", hotSetFraction);
+    checkFraction("hotOperationFraction", hotOperationFraction);
+    this.hotSetFraction = hotSetFraction;
+    this.hotOperationFraction = hotOperationFraction;
+  }
+
+  private static void checkFraction(String name, double fraction) {
+    if (!(fraction >= 0 && fraction <= 1)) {
+      throw new IllegalArgumentException(name + " must be between 0 and 1, was " + fraction);
+    }
+  }
+
+  @Override
+  public long next(long min, long max) {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final long items = max - min;
+    final long hotItems = Math.max(1, Math.min(items, (long) (items * hotSetFraction)));
+    if (hotItems == items || random.nextDouble() < hotOperationFraction) {
+      return min + random.nextLong(hotItems);
+    }
+    return min + hotItems + random.nextLong(items - hotItems);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final HotspotKeyDistribution that = (HotspotKeyDistribution) o;
+    return hotSetFraction == that.hotSetFraction
+        && hotOperationFraction == that.hotOperationFraction;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(hotSetFraction, hotOperationFraction);
+  }
+
+  @Override
+  public String toString() {
+    return "hotspot:" + hotSetFraction + ":" + hotOperationFraction;
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark;
+
+import java.io.Serializable;
+import java.util.Locale;
+
+/**
+ * Chooses the next key to operate on from a {@link LongRange}. A distribution is serialized with
+ * the range, so it must not hold on to anything that cannot be sent to the workload JVMs.
+ *
+ * Keys are chosen on the workload hot path, so implementations must be thread safe and should not
+ * allocate.
+ */
+public abstract class KeyDistribution implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Choose a key in the range [min, max).
+   */
+  public abstract long next(long min, long max);
+
+  /**
+   * Get a distribution that chooses keys the same way as this one, with anything that depends on
+   * the size of the range already set up for [min, max), so that it is not set up on the workload
+   * hot path. {@link LongRange} calls this for its range when it is created or deserialized.
+   *
+   * Distributions are equal if they choose keys the same way, regardless of their state.
+   */
+  public KeyDistribution forRange(long min, long max) {
+    return this;
+  }
+
+  /**
+   * Parse a distribution from a specification of the form {@code name[:parameter...]}.
+   * <ul>
+   * <li>{@code uniform}</li>
+   * <li>{@code zipfian[:theta]}, see {@link ZipfianKeyDistribution}</li>
+   * <li>{@code hotspot[:hotSetFraction[:hotOperationFraction]]}, see
+   * {@link HotspotKeyDistribution}</li>
+   * <li>{@code latest[:theta]}, see {@link LatestKeyDistribution}</li>
+   * <li>{@code sequential}, see {@link SequentialKeyDistribution}</li>
+   * </ul>
+   *
+   * @throws IllegalArgumentException if the specification is not valid
+   */
+  public static KeyDistribution parse(String specification) {
+    final String[] parts = specification.trim().split(":");
+    final String name = parts[0].toLowerCase(Locale.ROOT);
+    try {
+      switch (name) {
+        case "uniform":
+          checkParameters(parts, 0);
+          return new UniformKeyDistribution();
+        case "zipfian":
+          checkParameters(parts, 1);
+          return new ZipfianKeyDistribution(
+              parameter(parts, 1, ZipfianKeyDistribution.DEFAULT_THETA));
+        case "hotspot":
+          checkParameters(parts, 2);
+          return new HotspotKeyDistribution(
+              parameter(parts, 1, HotspotKeyDistribution.DEFAULT_HOT_SET_FRACTION),
+              parameter(parts, 2, HotspotKeyDistribution.DEFAULT_HOT_OPERATION_FRACTION));
+        case "latest":
+          checkParameters(parts, 1);
+          return new LatestKeyDistribution(
+              parameter(parts, 1, ZipfianKeyDistribution.DEFAULT_THETA));
+        case "sequential":
+          checkParameters(parts, 0);
+          return new SequentialKeyDistribution();
+        default:
+          throw new IllegalArgumentException("Unknown key distribution " + name);
+      }
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          "Invalid key distribution \"" + specification + "\": " + e.getMessage(), e);
+    }
+  }
+
+  private static void checkParameters(String[] parts, int maxParameters) {
+    if (parts.length - 1 > maxParameters) {
+      throw new IllegalArgumentException("expected at most " + maxParameters + " parameters");
+    }
+  }
+
+  private static double parameter(String[] parts, int index, double defaultValue) {
+    return parts.length > index ? Double.parseDouble(parts[index]) : defaultValue;
+  }
+}
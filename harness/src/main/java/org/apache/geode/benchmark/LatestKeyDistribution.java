@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Chooses recently written keys more often than older ones, following a Zipfian distribution
+ * back from the latest key, as in YCSB workload D. Keys written with {@link #nextInsert} become the
+ * latest. Until then the last key of the range is treated as the latest, since the range is
+ * usually populated in order.
+ *
+ * The latest key is tracked separately in each JVM, and is only shared by tasks that share this
+ * instance.
+ */
+public class LatestKeyDistribution extends KeyDistribution {
+  private static final long serialVersionUID = 1L;
+
+  private static final long UNSET = Long.MIN_VALUE;
+
+  private final double theta;
+  private final AtomicLong latest;
+
+  /**
+   * Set up by {@link #forRange(long, long)}, or on the first call for a range otherwise.
+   */
+  private transient volatile ZipfianGenerator generator;
+
+  /**
+   * @param theta The skew towards the latest key, between 0 and 1 exclusive
+   */
+  public LatestKeyDistribution(double theta) {
+    this(theta, new AtomicLong(UNSET), null);
+  }
+
+  private LatestKeyDistribution(double theta, AtomicLong latest, ZipfianGenerator generator) {
+    ZipfianGenerator.checkTheta(theta);
+    this.theta = theta;
+    this.latest = latest;
+    this.generator = generator;
+  }
+
+  @Override
+  public long next(long min, long max) {
+    final long items = max - min;
+    final long latestKey = latest(max);
+    return min + Math.floorMod(latestKey - min - generator(items).nextRank(), items);
+  }
+
+  /**
+   * Choose the key to write next, after the latest key and wrapping around at the end of the
+   * range, and make it the latest key.
+   */
+  public long nextInsert(long min, long max) {
+    return nextInsert(min, max, 0, 1);
+  }
+
+  /**
+   * Choose the key to write next from every {@code stride}th key of the range, starting
+   * {@code offset} keys after its first, and make it the latest key. The keys are taken in turn
+   * after the latest key, wrapping around at the end of the range, so that writers using the same
+   * stride with different offsets never write the same key.
+   */
+  public long nextInsert(long min, long max, int offset, int stride) {
+    final long first = min + offset % (max - min);
+    while (true) {
+      final long current = latest.get();
+      final long previous = current == UNSET ? max - 1 : current;
+      final long following = previous + 1 + Math.floorMod(first - previous - 1, stride);
+      final long next = following >= max ? first : following;
+      if (latest.compareAndSet(current, next)) {
+        return next;
+      }
+    }
+  }
+
+  private long latest(long max) {
+    final long latestKey = latest.get();
+    return latestKey == UNSET ? max - 1 : latestKey;
+  }
+
+  /**
+   * The distribution for the range shares the latest key with this one.
+   */
+  @Override
+  public KeyDistribution forRange(long min, long max) {
+    return new LatestKeyDistribution(theta, latest, new ZipfianGenerator(max - min, theta));
+  }
+
+  private ZipfianGenerator generator(long items) {
+    final ZipfianGenerator generator = this.generator;
+    if (generator != null && generator.items == items) {
+      return generator;
+    }
+    return createGenerator(items);
+  }
+
+  private synchronized ZipfianGenerator createGenerator(long items) {
+    if (generator == null || generator.items != items) {
+      generator = new ZipfianGenerator(items, theta);
+    }
+    return generator;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return theta == ((LatestKeyDistribution) o).theta;
+  }
+
+  @Override
+  public int hashCode() {
+    return Double.hashCode(theta);
+  }
+
+  @Override
+  public String toString() {
+    return "latest:" + theta;
+  }
+}
@@ -22,7 +22,6 @@ import static java.lang.Long.min;
 
 import java.io.Serializable;
 import java.util.Objects;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.LongConsumer;
 
 /**
@@ -33,8 +32,17 @@ public class LongRange implements Serializable {
 
   private final long min;
   private final long max;
+  private final KeyDistribution distribution;
 
   public LongRange(long min, long max) {
+    this(min, max, new UniformKeyDistribution());
+  }
+
+  /**
+   * @param distribution How {@link #random()} chooses values in the range. The range holds its
+   *        own {@link KeyDistribution#forRange(long, long) copy} of it, set up for the range.
+   */
+  public LongRange(long min, long max, KeyDistribution distribution) {
     try {
       if (Math.subtractExact(max, min) <= 0) {
         throw new IllegalArgumentException();
@@ -45,6 +53,7 @@ public class LongRange implements Serializable {
 
     this.min = min;
     this.max = max;
+    this.distribution = distribution.forRange(min, max);
   }
 
   public long getMin() {
@@ -55,13 +64,17 @@ public class LongRange implements Serializable {
     return max;
   }
 
+  public KeyDistribution getDistribution() {
+    return distribution;
+  }
+
   public long size() {
     return max - min;
   }
 
   /**
    * Slices the range in relatively equal ranges in each slice with the remainder distributed across
-   * the slices.
+   * the slices. Each slice chooses random values with the same distribution as this range.
    *
    * @param count of slices
    * @return array of {@code count} slices
@@ -95,7 +108,7 @@ public class LongRange implements Serializable {
     final long sliceMin =
         min + ((increment + 1) * min(remainder, index)) + (increment * max(0, index - remainder));
     final long sliceMax = sliceMin + increment + (index < remainder ? 1 : 0);
-    return new LongRange(sliceMin, sliceMax);
+    return new LongRange(sliceMin, sliceMax, distribution);
   }
 
   public LongRange[] slicesOfSize(final long sliceSize) {
@@ -115,12 +128,12 @@ public class LongRange implements Serializable {
   }
 
   /**
-   * Randomly select a value withing range.
+   * Randomly select a value withing range, following the range's {@link KeyDistribution}.
    *
    * @return a random value within range.
    */
   public long random() {
-    return ThreadLocalRandom.current().nextLong(min, max);
+    return distribution.next(min, max);
   }
 
   @Override
@@ -133,16 +146,24 @@ public class LongRange implements Serializable {
     }
     final LongRange longRange = (LongRange) o;
     return min == longRange.min &&
-        max == longRange.max;
+        max == longRange.max &&
+        distribution.equals(longRange.distribution);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(min, max);
+    return Objects.hash(min, max, distribution);
+  }
+
+  /**
+   * Set up the distribution for the range again, since what it set up is not serialized.
+   */
+  private Object readResolve() {
+    return new LongRange(min, max, distribution);
   }
 
   @Override
   public String toString() {
-    return "LongRange{" + "min=" + min + ", max=" + max + '}';
+    return "LongRange{" + "min=" + min + ", max=" + max + ", distribution=" + distribution + '}';
   }
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Chooses each key of the range in order, starting again from the beginning once the end is
+ * reached. The position is tracked separately in each JVM.
+ */
+public class SequentialKeyDistribution extends KeyDistribution {
+  private static final long serialVersionUID = 1L;
+
+  private final AtomicLong counter = new AtomicLong();
+
+  @Override
+  public long next(long min, long max) {
+    return min + Math.floorMod(counter.getAndIncrement(), max - min);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o != null && getClass() == o.getClass();
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "sequential";
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates ranks in [0, items) following a Zipfian distribution, where rank 0 is the most
+ * popular, using the algorithm from Gray et al, "Quickly Generating Billion-Record Synthetic
+ * Databases".
+ */
+class ZipfianGenerator {
+  /**
+   * The zeta constant is summed exactly up to this many items, and approximated by an integral
+   * beyond it, so that large ranges do not take long to set up.
+   */
+  static final long EXACT_ZETA_ITEMS = 1_000_000;
+
+  final long items;
+  private final double theta;
+  private final double zetan;
+  private final double alpha;
+  private final double eta;
+  private final double secondRankThreshold;
+
+  ZipfianGenerator(long items, double theta) {
+    if (items < 1) {
+      throw new IllegalArgumentException("items must be at least 1, was " + items);
+    }
+    checkTheta(theta);
+    this.items = items;
+    this.theta = theta;
+    zetan = zeta(items, theta);
+    alpha = 1 / (1 - theta);
+    eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta(2, theta) / zetan);
+    secondRankThreshold = 1 + Math.pow(0.5, theta);
+  }
+
+  static void checkTheta(double theta) {
+    if (!(theta > 0 && theta < 1)) {
+      throw new IllegalArgumentException("theta must be between 0 and 1 exclusive, was " + theta);
+    }
+  }
+
+  long nextRank() {
+    final double u = ThreadLocalRandom.current().nextDouble();
+    final double uz = u * zetan;
+    if (uz < 1) {
+      return 0;
+    }
+    if (uz < secondRankThreshold && items > 1) {
+      return 1;
+    }
+    return Math.min(items - 1, (long) (items * Math.pow(eta * u - eta + 1, alpha)));
+  }
+
+  static double zeta(long items, double theta) {
+    final long exactItems = Math.min(items, EXACT_ZETA_ITEMS);
+    double sum = 0;
+    for (long i = 1; i <= exactItems; i++) {
+      sum += 1 / Math.pow(i, theta);
+    }
+    if (items > exactItems) {
+      sum += (Math.pow(items + 0.5, 1 - theta) - Math.pow(exactItems + 0.5, 1 - theta))
+          / (1 - theta);
+    }
+    return sum;
+  }
+
+  @Override
+  public String toString() {
+    return "ZipfianGenerator{" + "items=" + items + ", theta=" + theta + '}';
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark;
+
+/**
+ * Chooses keys following a scrambled Zipfian distribution, as in YCSB. A few keys are chosen much
+ * more often than the rest, and the popular keys are spread across the range by hashing rather
+ * than being next to each other.
+ */
+public class ZipfianKeyDistribution extends KeyDistribution {
+  private static final long serialVersionUID = 1L;
+
+  public static final double DEFAULT_THETA = 0.99;
+
+  private static final long FNV_OFFSET_BASIS_64 = 0xCBF29CE484222325L;
+  private static final long FNV_PRIME_64 = 1099511628211L;
+
+  private final double theta;
+
+  /**
+   * Set up by {@link #forRange(long, long)}, or on the first call for a range otherwise.
+   */
+  private transient volatile ZipfianGenerator generator;
+
+  /**
+   * @param theta The skew, between 0 and 1 exclusive. Higher is more skewed.
+   */
+  public ZipfianKeyDistribution(double theta) {
+    this(theta, null);
+  }
+
+  private ZipfianKeyDistribution(double theta, ZipfianGenerator generator) {
+    ZipfianGenerator.checkTheta(theta);
+    this.theta = theta;
+    this.generator = generator;
+  }
+
+  @Override
+  public long next(long min, long max) {
+    final long items = max - min;
+    return min + Math.floorMod(fnvHash64(generator(items).nextRank()), items);
+  }
+
+  @Override
+  public KeyDistribution forRange(long min, long max) {
+    return new ZipfianKeyDistribution(theta, new ZipfianGenerator(max - min, theta));
+  }
+
+  private ZipfianGenerator generator(long items) {
+    final ZipfianGenerator generator = this.generator;
+    if (generator != null && generator.items == items) {
+      return generator;
+    }
+    return createGenerator(items);
+  }
+
+  private synchronized ZipfianGenerator createGenerator(long items) {
+    if (generator == null || generator.items != items) {
+      generator = new ZipfianGenerator(items, theta);
+    }
+    return generator;
+  }
+
+  static long fnvHash64(long value) {
+    long hash = FNV_OFFSET_BASIS_64;
+    for (int i = 0; i < Long.BYTES; i++) {
+      hash ^= value & 0xFF;
+      hash *= FNV_PRIME_64;
+      value >>>= 8;
+    }
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return theta == ((ZipfianKeyDistribution) o).theta;
+  }
+
+  @Override
+  public int hashCode() {
+    return Double.hashCode(theta);
+  }
+
+  @Override
+  public String toString() {
+    return "zipfian:" + theta;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.yardstickframework.BenchmarkDriver;
+
+/**
+ * A {@link BenchmarkDriver} that runs more than one kind of operation, such as a mix of gets and
+ * puts. As well as the latency of each call to {@link BenchmarkDriver#test(java.util.Map)}, the
+ * harness measures the latency of each kind of operation separately, so that a regression in one
+ * of them is not hidden in the combined results.
+ */
+public interface MultiOperationDriver extends BenchmarkDriver {
+
+  /**
+   * The names of the operations, which are used to tag their results. An operation is
+   * identified to the {@link OperationRecorder} by its index in this list.
+   */
+  List<String> getOperationNames();
+
+  /**
+   * Called by the harness on the JVM running the workload, before the workload starts, with the
+   * recorder to report the operations to.
+   */
+  void setOperationRecorder(OperationRecorder operationRecorder);
+
+  /**
+   * The roles whose JVMs only observe the operations run on the others, for example by recording
+   * the updates delivered to a listener. On those JVMs the harness sets the driver up and passes
+   * it a recorder, but never calls {@link BenchmarkDriver#test(java.util.Map)}, and only the
+   * operations the driver records itself are reported. An open loop target rate is split between
+   * the JVMs of the other roles.
+   */
+  default Set<String> getObserverRoles() {
+    return Collections.emptySet();
+  }
+
+  /**
+   * Names operations after the simple class names of the drivers that run them. A name used more
+   * than once is numbered, starting from its second use, so that every operation has its own name.
+   */
+  static List<String> getOperationNames(BenchmarkDriver... drivers) {
+    final List<String> names = new ArrayList<>(drivers.length);
+    final Map<String, Integer> uses = new HashMap<>();
+    for (BenchmarkDriver driver : drivers) {
+      String name = driver.getClass().getSimpleName();
+      if (name.isEmpty()) {
+        name = "Operation";
+      }
+      final int use = uses.merge(name, 1, Integer::sum);
+      names.add(use == 1 ? name : name + "-" + use);
+    }
+    return names;
+  }
+}
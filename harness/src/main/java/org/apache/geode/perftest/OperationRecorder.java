@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.PackedHistogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Records the latency of each kind of operation run by a {@link MultiOperationDriver}.
+ *
+ * A driver that runs one of its operations on each call, chosen at random for example, calls
+ * {@link #ranOperation(int)} and the harness records the latency it measured for the whole call,
+ * which for an open loop workload includes the time the call was behind schedule. A driver that
+ * runs several operations on each call times them itself and calls
+ * {@link #recordOperation(int, long)} for each, or {@link #recordOperations(int, long, long)} for
+ * a batch of them.
+ *
+ * Recording does not allocate, and may be done from any number of threads.
+ */
+public class OperationRecorder {
+  private static final int NONE = -1;
+
+  private final List<String> operationNames;
+  private final Recorder[] recorders;
+  private final long highestTrackableValue;
+  private final ThreadLocal<int[]> currentOperation =
+      ThreadLocal.withInitial(() -> new int[] {NONE});
+
+  /**
+   * @param operationNames The names of the operations
+   * @param highestTrackableValue Latencies longer than this, in nanoseconds, are recorded as this
+   * @param significantDigits The precision of the histograms
+   */
+  public OperationRecorder(List<String> operationNames, long highestTrackableValue,
+      int significantDigits) {
+    this.operationNames = new ArrayList<>(operationNames);
+    this.highestTrackableValue = highestTrackableValue;
+    recorders = new Recorder[operationNames.size()];
+    for (int i = 0; i < recorders.length; i++) {
+      recorders[i] = new Recorder(highestTrackableValue, significantDigits);
+    }
+  }
+
+  public List<String> getOperationNames() {
+    return operationNames;
+  }
+
+  /**
+   * Called by a driver, on the workload thread, when the current call runs the given operation.
+   * The harness records the latency of the call as the latency of the operation.
+   *
+   * @param operation The index of the operation in {@link #getOperationNames()}
+   */
+  public void ranOperation(int operation) {
+    currentOperation.get()[0] = operation;
+  }
+
+  /**
+   * Called by a driver to record the latency of an operation it timed itself.
+   *
+   * @param operation The index of the operation in {@link #getOperationNames()}
+   * @param latencyNanos The latency of the operation
+   */
+  public void recordOperation(int operation, long latencyNanos) {
+    recorders[operation].recordValue(Math.min(latencyNanos, highestTrackableValue));
+  }
+
+  /**
+   * Called by a driver to record a number of operations it ran together, such as the entries of
+   * a batch, that each took the given latency.
+   *
+   * @param operation The index of the operation in {@link #getOperationNames()}
+   * @param latencyNanos The latency of each of the operations
+   * @param count The number of operations
+   */
+  public void recordOperations(int operation, long latencyNanos, long count) {
+    recorders[operation].recordValueWithCount(Math.min(latencyNanos, highestTrackableValue),
+        count);
+  }
+
+  /**
+   * Called by the harness, on the workload thread, after each measured call to record its
+   * latency against the operation the driver said it ran, if any.
+   */
+  public void recordCall(long latencyNanos) {
+    final int[] operation = currentOperation.get();
+    if (operation[0] != NONE) {
+      recordOperation(operation[0], latencyNanos);
+      operation[0] = NONE;
+    }
+  }
+
+  /**
+   * Called by the harness, on the workload thread, after each call that is not measured.
+   */
+  public void skipCall() {
+    currentOperation.get()[0] = NONE;
+  }
+
+  /**
+   * Discard everything recorded so far.
+   */
+  public void reset() {
+    for (Recorder recorder : recorders) {
+      recorder.reset();
+    }
+  }
+
+  /**
+   * Swap out the latencies recorded for each operation since the last interval.
+   *
+   * @return A histogram for each operation, tagged with the name of the operation and with the
+   *         given start and end time stamps
+   */
+  public List<Histogram> getIntervalHistograms(long startTimeStamp, long endTimeStamp) {
+    final List<Histogram> intervals = new ArrayList<>(recorders.length);
+    for (int i = 0; i < recorders.length; i++) {
+      final Histogram recorded = recorders[i].getIntervalHistogram();
+      // Most buckets of an interval are empty, so keep them packed until they are written.
+      final Histogram interval = new PackedHistogram(recorded);
+      interval.add(recorded);
+      interval.setTag(operationNames.get(i));
+      interval.setStartTimeStamp(startTimeStamp);
+      interval.setEndTimeStamp(endTimeStamp);
+      intervals.add(interval);
+    }
+    return intervals;
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Properties;
+
+/**
+ * The times, in milliseconds, a benchmark measured while restarting members, such as the time
+ * until a recovered region is online. Each JVM that measured any writes them to
+ * {@value #RESULT_FILE} in its output directory, and the analyzer compares the mean of each time
+ * over the JVMs that reported it.
+ */
+public class RecoveryTimes {
+  /**
+   * The file in a JVM's output directory that holds the times it measured.
+   */
+  public static final String RESULT_FILE = "recovery.properties";
+
+  private RecoveryTimes() {}
+
+  /**
+   * Write the given times, in milliseconds by name, to {@link #RESULT_FILE} in the given
+   * directory.
+   */
+  public static void storeResult(File dir, Properties times) throws IOException {
+    try (Writer writer = new FileWriter(new File(dir, RESULT_FILE))) {
+      times.store(writer, "Recovery");
+    }
+  }
+
+  /**
+   * Read the times written by {@link #storeResult(File, Properties)} from the given directory.
+   *
+   * @return the times, or null if there are none
+   */
+  public static Properties loadResult(File dir) throws IOException {
+    final File file = new File(dir, RESULT_FILE);
+    if (!file.exists()) {
+      return null;
+    }
+    final Properties properties = new Properties();
+    try (Reader reader = new FileReader(file)) {
+      properties.load(reader);
+    }
+    return properties;
+  }
+}
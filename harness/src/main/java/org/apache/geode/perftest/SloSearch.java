@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Serializable;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.function.LongPredicate;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * A search for the highest target rate at which a workload meets a latency service level
+ * objective, such as a 99th percentile latency under 2ms. Each trial runs the workload in an
+ * open loop at one rate, and the rates are bisected between a minimum and a maximum.
+ *
+ * A trial only meets the objective if the workload also kept up with the target rate, since an
+ * open loop workload that falls behind does not complete all of its scheduled operations.
+ */
+public class SloSearch implements Serializable {
+  /**
+   * The file in a benchmark's output directory that holds the result of the search.
+   */
+  public static final String RESULT_FILE = "slo-search.properties";
+  public static final String DESCRIPTION = "description";
+  public static final String MAX_OPS_PER_SECOND = "maxOpsPerSecond";
+
+  /**
+   * The fraction of the target rate a trial must achieve to meet the objective.
+   */
+  static final double MIN_ACHIEVED_FRACTION = 0.95;
+
+  /**
+   * The search stops once the rates it is choosing between are within this fraction of each
+   * other.
+   */
+  static final double RESOLUTION = 0.01;
+
+  private final double percentile;
+  private final double latencyMillis;
+  private final long minOpsPerSecond;
+  private final long maxOpsPerSecond;
+  private final int trials;
+  private final long holdSeconds;
+
+  /**
+   * @param percentile The latency percentile the objective is for
+   * @param latencyMillis The latency the percentile must not exceed
+   * @param minOpsPerSecond The lowest rate to try, for all of the JVMs
+   * @param maxOpsPerSecond The highest rate to try, for all of the JVMs
+   * @param trials The most trials to run
+   * @param holdSeconds How long to run each trial for
+   */
+  public SloSearch(double percentile, double latencyMillis, long minOpsPerSecond,
+      long maxOpsPerSecond, int trials, long holdSeconds) {
+    this.percentile = percentile;
+    this.latencyMillis = latencyMillis;
+    this.minOpsPerSecond = minOpsPerSecond;
+    this.maxOpsPerSecond = maxOpsPerSecond;
+    this.trials = trials;
+    this.holdSeconds = holdSeconds;
+  }
+
+  /**
+   * Create a search from a specification of the form
+   * {@code percentile:latencyMillis:minOps:maxOps:trials:holdSeconds}, for example
+   * {@code 99:2:1000:100000:8:30}. The percentile may be written with a leading {@code p}.
+   *
+   * @throws IllegalArgumentException if the specification is not valid
+   */
+  public static SloSearch parse(String specification) {
+    final String[] parts = specification.trim().split(":");
+    try {
+      if (parts.length != 6) {
+        throw new IllegalArgumentException("expected 6 fields");
+      }
+      final String percentile = parts[0].startsWith("p") ? parts[0].substring(1) : parts[0];
+      final SloSearch search = new SloSearch(Double.parseDouble(percentile),
+          Double.parseDouble(parts[1]), Long.parseLong(parts[2]), Long.parseLong(parts[3]),
+          Integer.parseInt(parts[4]), Long.parseLong(parts[5]));
+      if (search.percentile <= 0 || search.percentile > 100) {
+        throw new IllegalArgumentException("percentile must be between 0 and 100");
+      }
+      if (search.latencyMillis <= 0 || search.minOpsPerSecond <= 0 || search.holdSeconds <= 0) {
+        throw new IllegalArgumentException("values must be greater than 0");
+      }
+      if (search.maxOpsPerSecond < search.minOpsPerSecond) {
+        throw new IllegalArgumentException("maxOps must not be less than minOps");
+      }
+      if (search.trials < 2) {
+        throw new IllegalArgumentException("at least 2 trials are needed");
+      }
+      return search;
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          "Invalid SLO search \"" + specification + "\": " + e.getMessage(), e);
+    }
+  }
+
+  public double getPercentile() {
+    return percentile;
+  }
+
+  public double getLatencyMillis() {
+    return latencyMillis;
+  }
+
+  public long getMinOpsPerSecond() {
+    return minOpsPerSecond;
+  }
+
+  public long getMaxOpsPerSecond() {
+    return maxOpsPerSecond;
+  }
+
+  public int getTrials() {
+    return trials;
+  }
+
+  public long getHoldSeconds() {
+    return holdSeconds;
+  }
+
+  /**
+   * A description of the result of the search, used to report it.
+   */
+  public String getDescription() {
+    return String.format("max ops/second with p%s < %sms", format(percentile),
+        format(latencyMillis));
+  }
+
+  /**
+   * Find the highest rate that meets the objective, by running trials at the minimum rate, at
+   * the maximum rate, and then bisecting between the highest rate that met it and the lowest
+   * that did not.
+   *
+   * @param trial Runs a trial at the given total rate, and returns true if it met the objective
+   * @return the highest rate tried that met the objective, or 0 if even the minimum did not
+   */
+  public long search(LongPredicate trial) {
+    long low = minOpsPerSecond;
+    if (!trial.test(low)) {
+      return 0;
+    }
+    long high = maxOpsPerSecond;
+    if (high == low || trial.test(high)) {
+      return high;
+    }
+    for (int i = 2; i < trials && high - low > Math.max(1, low * RESOLUTION); i++) {
+      final long rate = low + (high - low) / 2;
+      if (trial.test(rate)) {
+        low = rate;
+      } else {
+        high = rate;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * True if the latencies and throughput of a trial meet the objective.
+   *
+   * @param histograms The latencies of the trial recorded by each JVM, in nanoseconds, with the
+   *        start and end time stamps of the trial in milliseconds
+   * @param opsPerSecond The target rate of the trial
+   */
+  public boolean isMet(Collection<Histogram> histograms, long opsPerSecond) {
+    if (histograms.isEmpty()) {
+      return false;
+    }
+    return getOpsPerSecond(histograms) >= opsPerSecond * MIN_ACHIEVED_FRACTION
+        && getLatencyMillis(histograms) <= latencyMillis;
+  }
+
+  /**
+   * The total throughput of the JVMs that recorded the given histograms.
+   */
+  public static double getOpsPerSecond(Collection<Histogram> histograms) {
+    double opsPerSecond = 0;
+    for (Histogram histogram : histograms) {
+      final long millis = histogram.getEndTimeStamp() - histogram.getStartTimeStamp();
+      if (millis > 0) {
+        opsPerSecond += histogram.getTotalCount() * 1000.0 / millis;
+      }
+    }
+    return opsPerSecond;
+  }
+
+  /**
+   * The objective's percentile of the latencies of all of the JVMs combined.
+   */
+  public double getLatencyMillis(Collection<Histogram> histograms) {
+    final Histogram combined = histograms.iterator().next().copy();
+    histograms.stream().skip(1).forEach(combined::add);
+    return combined.getValueAtPercentile(percentile) / 1_000_000.0;
+  }
+
+  /**
+   * Write the result of the search to {@link #RESULT_FILE} in the given directory.
+   */
+  public void storeResult(File dir, long maxOpsPerSecond) throws IOException {
+    final Properties properties = new Properties();
+    properties.setProperty(DESCRIPTION, getDescription());
+    properties.setProperty(MAX_OPS_PER_SECOND, Long.toString(maxOpsPerSecond));
+    try (Writer writer = new FileWriter(new File(dir, RESULT_FILE))) {
+      properties.store(writer, "SLO search " + this);
+    }
+  }
+
+  /**
+   * Read a result written by {@link #storeResult(File, long)} from the given directory.
+   *
+   * @return the result, or null if there is none
+   */
+  public static Properties loadResult(File dir) throws IOException {
+    final File file = new File(dir, RESULT_FILE);
+    if (!file.exists()) {
+      return null;
+    }
+    final Properties properties = new Properties();
+    try (Reader reader = new FileReader(file)) {
+      properties.load(reader);
+    }
+    return properties;
+  }
+
+  private static String format(double value) {
+    return value == Math.rint(value) ? Long.toString((long) value) : Double.toString(value);
+  }
+
+  @Override
+  public String toString() {
+    return "SloSearch{" + "percentile=" + percentile + ", latencyMillis=" + latencyMillis
+        + ", minOpsPerSecond=" + minOpsPerSecond + ", maxOpsPerSecond=" + maxOpsPerSecond
+        + ", trials=" + trials + ", holdSeconds=" + holdSeconds + '}';
+  }
+}
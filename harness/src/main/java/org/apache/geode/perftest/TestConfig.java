@@ -27,7 +27,8 @@ import java.util.Map;
 
 import org.yardstickframework.BenchmarkDriver;
 
-import org.apache.geode.perftest.yardstick.YardstickTask;
+import org.apache.geode.perftest.workload.WorkloadEngine;
+import org.apache.geode.perftest.workload.WorkloadTask;
 
 /**
  * Declarative configuration of a test. Used by
@@ -81,7 +82,7 @@ public class TestConfig implements Serializable {
    * @param roles The roles to run the workload on
    */
   public void workload(BenchmarkDriver benchmark, String... roles) {
-    workload.add(new TestStep(new YardstickTask(benchmark, workloadConfig), roles));
+    workload.add(new TestStep(new WorkloadTask(benchmark, workloadConfig, roles), roles));
   }
 
 
@@ -104,6 +105,68 @@ public class TestConfig implements Serializable {
     workloadConfig.threads(threads);
   }
 
+  /**
+   * Run each workload thread as a virtual thread rather than a platform thread, so that a single
+   * JVM can keep many thousands of operations in flight. Requires Java 21 or later. When enabled,
+   * JFR events for virtual threads pinned to their carrier are recorded in the output directory.
+   */
+  public void virtualThreads(boolean virtualThreads) {
+    workloadConfig.virtualThreads(virtualThreads);
+  }
+
+  /**
+   * Run the workload with the harness's own {@link WorkloadEngine} rather than with yardstick.
+   * The engine does not allocate while running operations and records each thread's latencies
+   * separately, which matters when measuring operations that take only microseconds.
+   */
+  public void nativeEngine(boolean nativeEngine) {
+    workloadConfig.nativeEngine(nativeEngine);
+  }
+
+  /**
+   * Set the target rate of the workload phase. The rate is the total number of operations per
+   * second for all of the JVMs running a workload role, divided evenly between them. Operations
+   * are started on a fixed schedule and their latency is measured from when they were scheduled
+   * to start, so time spent waiting behind a stalled operation is included in the results.
+   *
+   * A rate of 0, the default, runs each thread in a closed loop as fast as it can go.
+   *
+   * @param opsPerSecond The target operations per second for each workload role
+   */
+  public void opsPerSecond(long opsPerSecond) {
+    workloadConfig.opsPerSecond(opsPerSecond);
+  }
+
+  /**
+   * Run the workload in stages of increasing load rather than for a single
+   * {@link #durationSeconds(long)}, to find where latency starts to climb. Each stage is measured
+   * separately in a stages directory of each JVM's output, which
+   * {@link org.apache.geode.perftest.analysis.LoadCurve} reports on. The warmup is only run
+   * before the first stage.
+   *
+   * @param loadSteps {@code ops:from:to:steps:holdSeconds} to step the target rate, or
+   *        {@code threads:from:to:steps:holdSeconds} to step the threads in each JVM. An empty
+   *        string, the default, runs a single stage.
+   */
+  public void loadSteps(String loadSteps) {
+    workloadConfig.loadSteps(loadSteps);
+  }
+
+  /**
+   * Search for the highest target rate at which the workload meets a latency objective, rather
+   * than running the workload once. Each trial of the search runs the workload tasks again in
+   * the JVMs that are already running, so the before tasks are only run once. The result is
+   * written to {@value SloSearch#RESULT_FILE} in the benchmark's output directory, and each
+   * trial is measured in a stages directory of each JVM's output. The warmup is only run before
+   * the first trial.
+   *
+   * @param sloSearch {@code percentile:latencyMillis:minOps:maxOps:trials:holdSeconds}, see
+   *        {@link SloSearch#parse(String)}. An empty string, the default, does not search.
+   */
+  public void sloSearch(String sloSearch) {
+    workloadConfig.sloSearch(sloSearch);
+  }
+
   /**
    * Set the duration of the warmup phase. Workload tasks are run for this amount
    * of time as a warmup, but the measurements from the tasks are discarded.
@@ -126,6 +189,26 @@ public class TestConfig implements Serializable {
     return workloadConfig.getThreads();
   }
 
+  public boolean isVirtualThreads() {
+    return workloadConfig.isVirtualThreads();
+  }
+
+  public boolean isNativeEngine() {
+    return workloadConfig.isNativeEngine();
+  }
+
+  public long getOpsPerSecond() {
+    return workloadConfig.getOpsPerSecond();
+  }
+
+  public String getLoadSteps() {
+    return workloadConfig.getLoadSteps();
+  }
+
+  public SloSearch getSloSearch() {
+    return workloadConfig.getSloSearch();
+  }
+
   public Map<String, Integer> getRoles() {
     return roles;
   }
@@ -59,4 +59,13 @@ public interface TestContext extends Serializable {
    * @param progress The progress message to display
    */
   void logProgress(String progress);
+
+  /**
+   * Send a result of a task back to the controller, so that the test runner can act on it while
+   * the test is still running. Results are grouped by name, with one result for each JVM.
+   *
+   * @param name The name of the result
+   * @param result The result for this JVM
+   */
+  void reportResult(String name, Serializable result);
 }
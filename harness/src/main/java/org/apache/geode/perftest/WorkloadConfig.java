@@ -18,6 +18,8 @@
 package org.apache.geode.perftest;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,6 +40,11 @@ public class WorkloadConfig implements Serializable {
   long durationSeconds = 1;
   long warmupSeconds = 0;
   int threads = Runtime.getRuntime().availableProcessors() * 2;
+  long opsPerSecond = 0;
+  boolean virtualThreads = false;
+  boolean nativeEngine = false;
+  String loadSteps = "";
+  String sloSearch = "";
 
   public WorkloadConfig() {}
 
@@ -53,6 +60,38 @@ public class WorkloadConfig implements Serializable {
     this.threads = Integer.getInteger("benchmark.withThreads", threads);
   }
 
+  public void opsPerSecond(long opsPerSecond) {
+    this.opsPerSecond = Long.getLong("benchmark.withOpsPerSecond", opsPerSecond);
+  }
+
+  public void virtualThreads(boolean virtualThreads) {
+    this.virtualThreads = Boolean.parseBoolean(
+        System.getProperty("benchmark.withVirtualThreads", Boolean.toString(virtualThreads)));
+  }
+
+  public void nativeEngine(boolean nativeEngine) {
+    this.nativeEngine = Boolean.parseBoolean(
+        System.getProperty("benchmark.withNativeEngine", Boolean.toString(nativeEngine)));
+  }
+
+  public void loadSteps(String loadSteps) {
+    final String steps = System.getProperty("benchmark.withLoadSteps", loadSteps);
+    if (!steps.isEmpty()) {
+      // Fail on an invalid specification now rather than in the workload JVMs.
+      WorkloadStage.parseSteps(steps, threads, opsPerSecond);
+    }
+    this.loadSteps = steps;
+  }
+
+  public void sloSearch(String sloSearch) {
+    final String search = System.getProperty("benchmark.withSloSearch", sloSearch);
+    if (!search.isEmpty()) {
+      // Fail on an invalid specification now rather than part way through the test.
+      SloSearch.parse(search);
+    }
+    this.sloSearch = search;
+  }
+
   public long getDurationSeconds() {
     return durationSeconds;
   }
@@ -64,4 +103,75 @@ public class WorkloadConfig implements Serializable {
   public int getThreads() {
     return threads;
   }
+
+  public long getOpsPerSecond() {
+    return opsPerSecond;
+  }
+
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
+  public boolean isNativeEngine() {
+    return nativeEngine;
+  }
+
+  public String getLoadSteps() {
+    return loadSteps;
+  }
+
+  /**
+   * The search for the highest rate that meets a latency objective, or null to run the workload
+   * without searching.
+   */
+  public SloSearch getSloSearch() {
+    return sloSearch.isEmpty() ? null : SloSearch.parse(sloSearch);
+  }
+
+  /**
+   * The stages to run the workload in, or an empty list to run it in a single stage of
+   * {@link #getDurationSeconds()}.
+   */
+  public List<WorkloadStage> getStages() {
+    if (loadSteps.isEmpty()) {
+      return Collections.emptyList();
+    }
+    return WorkloadStage.parseSteps(loadSteps, threads, opsPerSecond);
+  }
+
+  /**
+   * The configuration for running a single stage. The warmup is only run before the first stage.
+   */
+  public WorkloadConfig forStage(WorkloadStage stage, boolean first) {
+    // Set the fields directly, since the setters would let system properties override the stage.
+    final WorkloadConfig stageConfig = new WorkloadConfig();
+    stageConfig.durationSeconds = stage.getDurationSeconds();
+    stageConfig.warmupSeconds = first ? warmupSeconds : 0;
+    stageConfig.threads = stage.getThreads();
+    stageConfig.opsPerSecond = stage.getOpsPerSecond();
+    stageConfig.virtualThreads = virtualThreads;
+    stageConfig.nativeEngine = nativeEngine;
+    return stageConfig;
+  }
+
+  /**
+   * The target rate for one JVM, which is the total rate split evenly between all of the JVMs
+   * that run the workload.
+   *
+   * @param roles The roles the workload runs on
+   */
+  public double getOpsPerSecondPerJvm(TestContext context, String... roles) {
+    int jvms = 0;
+    for (String role : roles) {
+      jvms += context.getHostsIDsForRole(role).size();
+    }
+    return (double) opsPerSecond / Math.max(1, jvms);
+  }
+
+  /**
+   * True if operations are started on a fixed schedule rather than as fast as the threads can go.
+   */
+  public boolean isOpenLoop() {
+    return opsPerSecond > 0;
+  }
 }
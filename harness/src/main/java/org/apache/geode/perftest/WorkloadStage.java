@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Serializable;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * One step of a workload whose load is ramped up in steps. Each stage runs the workload at a
+ * fixed number of threads and target rate for its duration, and is measured separately.
+ */
+public class WorkloadStage implements Serializable {
+  /**
+   * The file in each stage's output directory that describes the stage.
+   */
+  public static final String PROPERTIES_FILE = "stage.properties";
+
+  private final String name;
+  private final int threads;
+  private final long opsPerSecond;
+  private final long durationSeconds;
+
+  /**
+   * @param name The name of the stage, which is also the name of its output directory
+   * @param threads The number of threads in each JVM
+   * @param opsPerSecond The target rate for all of the JVMs, or 0 to run in a closed loop
+   * @param durationSeconds How long to hold the stage
+   */
+  public WorkloadStage(String name, int threads, long opsPerSecond, long durationSeconds) {
+    this.name = name;
+    this.threads = threads;
+    this.opsPerSecond = opsPerSecond;
+    this.durationSeconds = durationSeconds;
+  }
+
+  /**
+   * Create the stages of a load ramp from a specification of the form
+   * {@code ops:from:to:steps:holdSeconds} or {@code threads:from:to:steps:holdSeconds}. The ops
+   * per second or threads are stepped evenly from the first value to the last, and the other is
+   * left at the value of the rest of the workload.
+   *
+   * @param threads The threads of the workload
+   * @param opsPerSecond The target rate of the workload
+   * @throws IllegalArgumentException if the specification is not valid
+   */
+  public static List<WorkloadStage> parseSteps(String specification, int threads,
+      long opsPerSecond) {
+    final String[] parts = specification.trim().split(":");
+    try {
+      if (parts.length != 5) {
+        throw new IllegalArgumentException("expected 5 fields");
+      }
+      final String kind = parts[0].toLowerCase(Locale.ROOT);
+      final long from = Long.parseLong(parts[1]);
+      final long to = Long.parseLong(parts[2]);
+      final int steps = Integer.parseInt(parts[3]);
+      final long holdSeconds = Long.parseLong(parts[4]);
+      if (from <= 0 || to <= 0 || steps <= 0 || holdSeconds <= 0) {
+        throw new IllegalArgumentException("values must be greater than 0");
+      }
+
+      final List<WorkloadStage> stages = new ArrayList<>(steps);
+      for (int i = 0; i < steps; i++) {
+        final long value = steps == 1 ? from : from + (to - from) * i / (steps - 1);
+        final String name = String.format("stage-%02d", i + 1);
+        switch (kind) {
+          case "ops":
+            stages.add(new WorkloadStage(name, threads, value, holdSeconds));
+            break;
+          case "threads":
+            stages.add(new WorkloadStage(name, Math.toIntExact(value), opsPerSecond,
+                holdSeconds));
+            break;
+          default:
+            throw new IllegalArgumentException("unknown step kind " + kind);
+        }
+      }
+      return stages;
+    } catch (IllegalArgumentException | ArithmeticException e) {
+      throw new IllegalArgumentException(
+          "Invalid load steps \"" + specification + "\": " + e.getMessage(), e);
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public long getOpsPerSecond() {
+    return opsPerSecond;
+  }
+
+  public long getDurationSeconds() {
+    return durationSeconds;
+  }
+
+  /**
+   * Write the description of this stage to {@link #PROPERTIES_FILE} in the given directory.
+   */
+  public void store(File dir) throws IOException {
+    final Properties properties = new Properties();
+    properties.setProperty("name", name);
+    properties.setProperty("threads", Integer.toString(threads));
+    properties.setProperty("opsPerSecond", Long.toString(opsPerSecond));
+    properties.setProperty("durationSeconds", Long.toString(durationSeconds));
+    try (Writer writer = new FileWriter(new File(dir, PROPERTIES_FILE))) {
+      properties.store(writer, "Workload stage");
+    }
+  }
+
+  /**
+   * Read a stage written by {@link #store(File)} from the given directory.
+   */
+  public static WorkloadStage load(File dir) throws IOException {
+    final Properties properties = new Properties();
+    try (Reader reader = new FileReader(new File(dir, PROPERTIES_FILE))) {
+      properties.load(reader);
+    }
+    return new WorkloadStage(properties.getProperty("name"),
+        Integer.parseInt(properties.getProperty("threads")),
+        Long.parseLong(properties.getProperty("opsPerSecond")),
+        Long.parseLong(properties.getProperty("durationSeconds")));
+  }
+
+  @Override
+  public String toString() {
+    return "WorkloadStage{" + "name='" + name + '\'' + ", threads=" + threads + ", opsPerSecond="
+        + opsPerSecond + ", durationSeconds=" + durationSeconds + '}';
+  }
+}
@@ -85,12 +85,13 @@ public class Analyzer {
           errorMessage.append("BENCHMARK FAILED: ").append(benchmarkResult.name)
               .append(" missing result file.\n");
           writer.append(benchmarkResult.name + "\n");
-        } else if (probeResult.description.equals("average latency")) {
+        } else if (probeResult.description.endsWith("average latency")) {
           if (probeResult.getDifference() > 0) {
             isHighWaterCandidate = false;
             if (probeResult.getDifference() >= 0.05) {
               errorMessage.append("BENCHMARK FAILED: ").append(benchmarkResult.name)
-                  .append(" average latency is 5% worse than baseline.\n");
+                  .append(" ").append(probeResult.description)
+                  .append(" is 5% worse than baseline.\n");
               writer.append(benchmarkResult.name + "\n");
             }
           } else if (probeResult.getDifference() <= -0.5) {
@@ -20,10 +20,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
+import org.apache.geode.perftest.RecoveryTimes;
+import org.apache.geode.perftest.SloSearch;
 import org.apache.geode.perftest.yardstick.YardstickTask;
 
 /**
@@ -44,6 +49,10 @@ import org.apache.geode.perftest.yardstick.YardstickTask;
  *     /BenchmarkB
  *         ...
  * </pre>
+ *
+ * The result of an {@link SloSearch}, in {@value SloSearch#RESULT_FILE} in a benchmark
+ * directory, is compared as well, and so is the mean of each of the {@link RecoveryTimes}, in
+ * {@value RecoveryTimes#RESULT_FILE} in the directory of each node.
  */
 public class BenchmarkRunAnalyzer {
   private final List<ProbeResultParser> probes = new ArrayList<>();
@@ -64,28 +73,49 @@ public class BenchmarkRunAnalyzer {
 
     for (File testDir : benchmarkDirs) {
       final List<File> testYardstickDirs = getYardstickOutputForBenchmarkDir(testDir);
-      if (testYardstickDirs.isEmpty()) {
+      final Properties testSloSearch = SloSearch.loadResult(testDir);
+      final Map<String, Double> testRecoveryTimes = getRecoveryTimes(testDir);
+      if (testYardstickDirs.isEmpty() && testSloSearch == null && testRecoveryTimes.isEmpty()) {
         continue;
       }
       File baselineDir = new File(baselineResultDir, testDir.getName());
-      final List<File> baselineYardstickDirs = getYardstickOutputForBenchmarkDir(baselineDir);
 
       final BenchmarkRunResult.BenchmarkResult benchmarkResult =
           result.addBenchmark(testDir.getName());
+      if (testSloSearch != null) {
+        final Properties baselineSloSearch = SloSearch.loadResult(baselineDir);
+        benchmarkResult.addProbeResult(testSloSearch.getProperty(SloSearch.DESCRIPTION),
+            getMaxOpsPerSecond(baselineSloSearch), getMaxOpsPerSecond(testSloSearch));
+      }
+      if (!testRecoveryTimes.isEmpty()) {
+        final Map<String, Double> baselineRecoveryTimes = getRecoveryTimes(baselineDir);
+        for (Map.Entry<String, Double> time : testRecoveryTimes.entrySet()) {
+          benchmarkResult.addProbeResult(time.getKey(),
+              baselineRecoveryTimes.getOrDefault(time.getKey(), Double.NaN), time.getValue());
+        }
+      }
+      if (testYardstickDirs.isEmpty()) {
+        continue;
+      }
+      final List<File> baselineYardstickDirs = getYardstickOutputForBenchmarkDir(baselineDir);
       for (ProbeResultParser probe : probes) {
         List<ProbeResultParser.ResultData> testResults = getTestResult(testYardstickDirs, probe);
         List<ProbeResultParser.ResultData> baselineResults =
             getTestResult(baselineYardstickDirs, probe);
 
-        Iterator<ProbeResultParser.ResultData> testResultIter = testResults.iterator();
-        Iterator<ProbeResultParser.ResultData> baselineResultIter = baselineResults.iterator();
-
-        while (testResultIter.hasNext()) {
-          ProbeResultParser.ResultData testResult = testResultIter.next();
-          ProbeResultParser.ResultData baselineResult = baselineResultIter.next();
+        Map<String, Double> baselineValues = new HashMap<>();
+        for (ProbeResultParser.ResultData baselineResult : baselineResults) {
+          baselineValues.put(baselineResult.description, baselineResult.value);
+        }
 
-          benchmarkResult.addProbeResult(testResult.description, baselineResult.value,
-              testResult.value);
+        for (ProbeResultParser.ResultData testResult : testResults) {
+          Double baselineValue = baselineValues.get(testResult.description);
+          // A baseline from before an operation was added, or measured separately, has nothing
+          // to compare it to.
+          if (baselineValue != null) {
+            benchmarkResult.addProbeResult(testResult.description, baselineValue,
+                testResult.value);
+          }
         }
       }
     }
@@ -93,6 +123,36 @@ public class BenchmarkRunAnalyzer {
     return result;
   }
 
+  private static double getMaxOpsPerSecond(Properties sloSearch) {
+    return sloSearch == null ? Double.NaN
+        : Double.parseDouble(sloSearch.getProperty(SloSearch.MAX_OPS_PER_SECOND));
+  }
+
+  /**
+   * The mean of each of the {@link RecoveryTimes} over the nodes of a benchmark that reported it,
+   * by name.
+   */
+  private static Map<String, Double> getRecoveryTimes(File benchmarkDir) throws IOException {
+    final Map<String, Double> sums = new TreeMap<>();
+    final Map<String, Integer> counts = new HashMap<>();
+    final File[] nodeDirs = benchmarkDir.listFiles(File::isDirectory);
+    if (nodeDirs == null) {
+      return sums;
+    }
+    for (File nodeDir : nodeDirs) {
+      final Properties times = RecoveryTimes.loadResult(nodeDir);
+      if (times == null) {
+        continue;
+      }
+      for (String name : times.stringPropertyNames()) {
+        sums.merge(name, Double.parseDouble(times.getProperty(name)), Double::sum);
+        counts.merge(name, 1, Integer::sum);
+      }
+    }
+    sums.replaceAll((name, sum) -> sum / counts.get(name));
+    return sums;
+  }
+
   public static List<ProbeResultParser.ResultData> getTestResult(List<File> resultDirs,
       ProbeResultParser probe) throws IOException {
     probe.reset();
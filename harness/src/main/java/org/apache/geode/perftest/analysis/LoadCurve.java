@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.perftest.analysis;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.HdrHistogram.Histogram;
+
+import org.apache.geode.perftest.WorkloadStage;
+import org.apache.geode.perftest.workload.WorkloadTask;
+import org.apache.geode.perftest.yardstick.YardstickTask;
+import org.apache.geode.perftest.yardstick.analysis.YardstickHdrHistogramParser;
+
+/**
+ * Java main method that reports the latency against the offered load of each stage of a
+ * benchmark run with load steps, for each benchmark directory given. The results of each stage
+ * are combined across all of the JVMs that ran it.
+ *
+ * The report is printed to the terminal and written to {@value #FILE_NAME} in the benchmark
+ * directory so that it can be plotted.
+ */
+public class LoadCurve {
+  public static final String FILE_NAME = "load-curve.csv";
+
+  private static final int PLOT_WIDTH = 50;
+
+  public static void main(String[] args) throws IOException {
+    if (args.length == 0) {
+      System.out.println("Usage: LoadCurve benchmarkDir1 benchmarkDir2 ....");
+      System.exit(1);
+      return;
+    }
+
+    final PrintWriter out = new PrintWriter(System.out);
+    for (String directoryName : args) {
+      final File benchmarkDir = new File(directoryName);
+      final List<StageResult> results = readStages(benchmarkDir);
+      if (results.isEmpty()) {
+        out.println("No stages found in " + benchmarkDir);
+        continue;
+      }
+      out.println(benchmarkDir.getName());
+      writeTable(results, out);
+      out.println();
+      try (PrintWriter csv = new PrintWriter(new FileWriter(new File(benchmarkDir, FILE_NAME)))) {
+        writeCsv(results, csv);
+      }
+    }
+    out.flush();
+  }
+
+  /**
+   * Read the results of each stage of a benchmark, in the order the stages were run.
+   */
+  public static List<StageResult> readStages(File benchmarkDir) throws IOException {
+    final Map<String, List<File>> stageDirs = new TreeMap<>();
+    try (Stream<Path> paths = Files.walk(benchmarkDir.toPath(), 4)) {
+      for (File dir : paths.map(Path::toFile)
+          .filter(file -> file.getName().contains(YardstickTask.YARDSTICK_OUTPUT))
+          .filter(LoadCurve::isInStage)
+          .collect(Collectors.toList())) {
+        stageDirs.computeIfAbsent(dir.getParentFile().getName(), name -> new ArrayList<>())
+            .add(dir);
+      }
+    }
+
+    final List<StageResult> results = new ArrayList<>(stageDirs.size());
+    for (List<File> dirs : stageDirs.values()) {
+      final WorkloadStage stage = WorkloadStage.load(dirs.get(0).getParentFile());
+      final YardstickHdrHistogramParser parser = new YardstickHdrHistogramParser();
+      final double opsPerSecond = BenchmarkRunAnalyzer.getTestResult(dirs, parser).stream()
+          .filter(result -> result.description
+              .equals(YardstickHdrHistogramParser.AVERAGE_OPS_SECOND))
+          .findFirst().get().value;
+      results.add(new StageResult(stage, countWorkloadJvms(dirs), opsPerSecond,
+          parser.histogram));
+    }
+    return results;
+  }
+
+  /**
+   * Count the JVMs that ran the workload, leaving out those that only observed it, which record
+   * no calls.
+   */
+  private static int countWorkloadJvms(List<File> yardstickDirs) throws IOException {
+    int jvms = 0;
+    for (File dir : yardstickDirs) {
+      final YardstickHdrHistogramParser parser = new YardstickHdrHistogramParser();
+      parser.parseResults(dir);
+      if (parser.histogram != null) {
+        jvms++;
+      }
+    }
+    return jvms;
+  }
+
+  private static boolean isInStage(File yardstickDir) {
+    final File stageDir = yardstickDir.getParentFile();
+    return stageDir.getParentFile().getName().equals(WorkloadTask.STAGES_DIR)
+        && new File(stageDir, WorkloadStage.PROPERTIES_FILE).exists();
+  }
+
+  static void writeCsv(List<StageResult> results, PrintWriter csv) {
+    csv.println("stage,threads per jvm,jvms,target ops/sec,ops/sec,"
+        + "median latency ms,90th percentile latency ms,99th percentile latency ms,"
+        + "99.9th percentile latency ms,max latency ms");
+    for (StageResult result : results) {
+      csv.printf("%s,%d,%d,%d,%.2f,%.4f,%.4f,%.4f,%.4f,%.4f%n", result.stage.getName(),
+          result.stage.getThreads(), result.jvms, result.stage.getOpsPerSecond(),
+          result.opsPerSecond, result.getLatencyMillis(50), result.getLatencyMillis(90),
+          result.getLatencyMillis(99), result.getLatencyMillis(99.9),
+          result.getLatencyMillis(100));
+    }
+  }
+
+  /**
+   * Write a table of the stages, with a bar for the 99th percentile latency of each.
+   */
+  static void writeTable(List<StageResult> results, PrintWriter out) {
+    final double maxLatency =
+        results.stream().mapToDouble(result -> result.getLatencyMillis(99)).max().orElse(0);
+    out.printf("  %-10s %8s %14s %14s %12s %12s  %s%n", "Stage", "Threads", "Target ops/s",
+        "ops/s", "50% (ms)", "99% (ms)", "99% latency");
+    for (StageResult result : results) {
+      final double latency = result.getLatencyMillis(99);
+      final int bar = maxLatency > 0 ? (int) Math.round(PLOT_WIDTH * latency / maxLatency) : 0;
+      out.printf("  %-10s %8d %14s %14.2f %12.4f %12.4f  %s%n", result.stage.getName(),
+          result.stage.getThreads(),
+          result.stage.getOpsPerSecond() > 0 ? Long.toString(result.stage.getOpsPerSecond())
+              : "closed loop",
+          result.opsPerSecond, result.getLatencyMillis(50), latency, repeat('#', bar));
+    }
+  }
+
+  private static String repeat(char c, int count) {
+    final StringBuilder builder = new StringBuilder(count);
+    for (int i = 0; i < count; i++) {
+      builder.append(c);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * The combined results of one stage on all of the JVMs that ran it.
+   */
+  public static class StageResult {
+    public final WorkloadStage stage;
+    public final int jvms;
+    public final double opsPerSecond;
+    public final Histogram histogram;
+
+    StageResult(WorkloadStage stage, int jvms, double opsPerSecond, Histogram histogram) {
+      this.stage = stage;
+      this.jvms = jvms;
+      this.opsPerSecond = opsPerSecond;
+      this.histogram = histogram;
+    }
+
+    public double getLatencyMillis(double percentile) {
+      return histogram.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+  }
+}
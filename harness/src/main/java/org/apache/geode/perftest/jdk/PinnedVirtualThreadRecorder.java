@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.jdk;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records JFR events for virtual threads that block while pinned to their carrier thread, for
+ * example while holding a monitor. The raw recording and a summary of the pinned stacks, most
+ * frequent first, are written to the output directory when the recording is stopped.
+ */
+public class PinnedVirtualThreadRecorder {
+  private static final Logger logger = LoggerFactory.getLogger(PinnedVirtualThreadRecorder.class);
+
+  public static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  public static final String RECORDING_FILE = "virtual-thread-pinning.jfr";
+  public static final String SUMMARY_FILE = "virtual-thread-pinning.txt";
+
+  /**
+   * Same as the JFR default, so that only pinning long enough to starve other virtual threads of
+   * their carrier is recorded.
+   */
+  private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+
+  private static final int SUMMARY_STACK_DEPTH = 8;
+  private static final int SUMMARY_STACKS = 20;
+
+  private final File outputDir;
+  private Recording recording;
+
+  public PinnedVirtualThreadRecorder(File outputDir) {
+    this.outputDir = outputDir;
+  }
+
+  public void start() {
+    recording = new Recording();
+    recording.setName("virtual-thread-pinning");
+    recording.enable(PINNED_EVENT).withStackTrace().withThreshold(PINNED_THRESHOLD);
+    recording.start();
+  }
+
+  public void stop() throws IOException {
+    final File recordingFile = new File(outputDir, RECORDING_FILE);
+    try {
+      recording.stop();
+      recording.dump(recordingFile.toPath());
+    } finally {
+      recording.close();
+    }
+
+    final List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile.toPath());
+    writeSummary(events, new File(outputDir, SUMMARY_FILE));
+    logger.info("Recorded {} pinned virtual thread events", events.size());
+  }
+
+  static void writeSummary(List<RecordedEvent> events, File summaryFile) throws IOException {
+    final Map<String, PinnedStack> stacks = new HashMap<>();
+    Duration totalPinned = Duration.ZERO;
+    for (RecordedEvent event : events) {
+      totalPinned = totalPinned.plus(event.getDuration());
+      stacks.computeIfAbsent(describe(event.getStackTrace()), PinnedStack::new).add(event);
+    }
+
+    try (PrintWriter writer = new PrintWriter(
+        Files.newBufferedWriter(summaryFile.toPath(), StandardCharsets.UTF_8))) {
+      writer.printf("Pinned events: %d%n", events.size());
+      writer.printf("Total pinned time, millis: %d%n", totalPinned.toMillis());
+      for (PinnedStack stack : stacks.values().stream()
+          .sorted((a, b) -> Long.compare(b.count, a.count))
+          .limit(SUMMARY_STACKS)
+          .collect(Collectors.toList())) {
+        writer.println();
+        writer.printf("Count: %d, total pinned time, millis: %d%n", stack.count,
+            stack.pinned.toMillis());
+        writer.print(stack.frames);
+      }
+    }
+  }
+
+  private static String describe(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "  <no stack trace>\n";
+    }
+    final StringBuilder frames = new StringBuilder();
+    final List<RecordedFrame> recordedFrames = stackTrace.getFrames();
+    for (RecordedFrame frame : recordedFrames.subList(0,
+        Math.min(SUMMARY_STACK_DEPTH, recordedFrames.size()))) {
+      frames.append("  at ").append(frame.getMethod().getType().getName()).append('.')
+          .append(frame.getMethod().getName()).append(':').append(frame.getLineNumber())
+          .append('\n');
+    }
+    return frames.toString();
+  }
+
+  private static class PinnedStack {
+    private final String frames;
+    private long count;
+    private Duration pinned = Duration.ZERO;
+
+    PinnedStack(String frames) {
+      this.frames = frames;
+    }
+
+    void add(RecordedEvent event) {
+      count++;
+      pinned = pinned.plus(event.getDuration());
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.jdk;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads. This is done reflectively so that the harness can still be built
+ * and run on Java versions without virtual threads.
+ */
+public class VirtualThreads {
+
+  private VirtualThreads() {}
+
+  /**
+   * Create a factory for virtual threads named with the given prefix and an increasing number.
+   *
+   * @throws UnsupportedOperationException if the running JVM does not support virtual threads
+   */
+  public static ThreadFactory newThreadFactory(String namePrefix) {
+    try {
+      final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder = builderType.getMethod("name", String.class, long.class)
+          .invoke(builder, namePrefix, 0L);
+      return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      throw new UnsupportedOperationException("Virtual threads require Java 21 or later, running "
+          + System.getProperty("java.version"), e);
+    }
+  }
+
+  /**
+   * True if the running JVM supports virtual threads.
+   */
+  public static boolean isAvailable() {
+    try {
+      newThreadFactory("");
+      return true;
+    } catch (UnsupportedOperationException e) {
+      return false;
+    }
+  }
+}
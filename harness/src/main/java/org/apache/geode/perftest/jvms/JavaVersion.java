@@ -16,7 +16,7 @@
 package org.apache.geode.perftest.jvms;
 
 public enum JavaVersion {
-  v8, v11, v12, v13, v16, v17;
+  v8, v11, v12, v13, v16, v17, v21;
 
   public static JavaVersion current() {
     return valueOfVersion(System.getProperty("java.runtime.version"));
@@ -35,6 +35,8 @@ public enum JavaVersion {
       return v16;
     } else if (javaVersion.matches("^17\\b.*")) {
       return v17;
+    } else if (javaVersion.matches("^21\\b.*")) {
+      return v21;
     }
     throw new IllegalStateException("Unknown version " + javaVersion);
   }
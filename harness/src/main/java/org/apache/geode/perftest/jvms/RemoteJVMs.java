@@ -19,6 +19,7 @@ package org.apache.geode.perftest.jvms;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -64,6 +65,13 @@ public class RemoteJVMs implements AutoCloseable {
     futures.collect(Collectors.toList()).forEach(CompletableFuture::join);
   }
 
+  /**
+   * The results reported by tasks with the given name, one for each JVM that reported one.
+   */
+  public List<Serializable> getResults(String name) {
+    return controller.getResults(name);
+  }
+
   public void close() throws IOException, ExecutionException, InterruptedException {
     controller.close();
     exited.get();
@@ -17,10 +17,14 @@
 
 package org.apache.geode.perftest.jvms.rmi;
 
+import java.io.Serializable;
 import java.rmi.NoSuchObjectException;
 import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
 import java.rmi.server.UnicastRemoteObject;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -43,6 +47,7 @@ public class Controller extends UnicastRemoteObject implements ControllerRemote
   private final Registry registry;
   private final SharedContext context;
   private final Map<Integer, WorkerRemote> workers = new ConcurrentHashMap<>();
+  private final Map<String, Map<Integer, Serializable>> results = new ConcurrentHashMap<>();
   private final CountDownLatch workersStarted;
   private volatile boolean isClosed;
   private ExecutorService workerExecutionPool = Executors.newCachedThreadPool();
@@ -80,6 +85,18 @@ public class Controller extends UnicastRemoteObject implements ControllerRemote
     logger.info(progress);
   }
 
+  @Override
+  public void reportResult(int id, String name, Serializable result) throws RemoteException {
+    results.computeIfAbsent(name, key -> new ConcurrentHashMap<>()).put(id, result);
+  }
+
+  /**
+   * The results reported with the given name, one for each worker that reported one.
+   */
+  public List<Serializable> getResults(String name) {
+    return new ArrayList<>(results.getOrDefault(name, Collections.emptyMap()).values());
+  }
+
   @Override
   public SharedContext getsharedContext() throws RemoteException {
     return context;
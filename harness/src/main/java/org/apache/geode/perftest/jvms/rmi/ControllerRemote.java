@@ -17,6 +17,7 @@
 
 package org.apache.geode.perftest.jvms.rmi;
 
+import java.io.Serializable;
 import java.rmi.Remote;
 import java.rmi.RemoteException;
 
@@ -30,5 +31,7 @@ public interface ControllerRemote extends Remote {
 
   void logProgress(String progress) throws RemoteException;
 
+  void reportResult(int id, String name, Serializable result) throws RemoteException;
+
   SharedContext getsharedContext() throws RemoteException;
 }
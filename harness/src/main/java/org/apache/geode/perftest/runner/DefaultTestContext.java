@@ -18,6 +18,7 @@
 package org.apache.geode.perftest.runner;
 
 import java.io.File;
+import java.io.Serializable;
 import java.net.InetAddress;
 import java.rmi.RemoteException;
 import java.util.Set;
@@ -84,4 +85,13 @@ public class DefaultTestContext implements TestContext {
     }
 
   }
+
+  @Override
+  public void reportResult(String name, Serializable result) {
+    try {
+      controller.reportResult(jvmID, name, result);
+    } catch (RemoteException e) {
+      throw new IllegalStateException("Controller connection lost", e);
+    }
+  }
 }
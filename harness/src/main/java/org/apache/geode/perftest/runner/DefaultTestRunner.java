@@ -26,17 +26,24 @@ import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
+import org.HdrHistogram.Histogram;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.apache.geode.perftest.PerformanceTest;
+import org.apache.geode.perftest.SloSearch;
+import org.apache.geode.perftest.Task;
 import org.apache.geode.perftest.TestConfig;
 import org.apache.geode.perftest.TestRunner;
 import org.apache.geode.perftest.TestStep;
+import org.apache.geode.perftest.WorkloadStage;
 import org.apache.geode.perftest.infrastructure.InfrastructureFactory;
 import org.apache.geode.perftest.jvms.RemoteJVMFactory;
 import org.apache.geode.perftest.jvms.RemoteJVMs;
+import org.apache.geode.perftest.workload.WorkloadTask;
 
 /**
  * Runner that executes a {@link PerformanceTest}, using
@@ -45,6 +52,9 @@ import org.apache.geode.perftest.jvms.RemoteJVMs;
  * This is the main entry point for running tests. Users should
  * implement {@link PerformanceTest} to define there tests in
  * a declarative fashion and then execute them this runner.
+ *
+ * If the test has an {@link SloSearch}, the workload tasks are run as a series of trials at
+ * different rates instead, to find the highest rate that meets the latency objective.
  */
 public class DefaultTestRunner implements TestRunner {
   private static final Logger logger = LoggerFactory.getLogger(DefaultTestRunner.class);
@@ -99,8 +109,14 @@ public class DefaultTestRunner implements TestRunner {
       logger.info("Starting before tasks...");
       runTasks(config.getBefore(), remoteJVMs);
 
-      logger.info("Starting workload tasks...");
-      runTasks(config.getWorkload(), remoteJVMs);
+      SloSearch sloSearch = config.getSloSearch();
+      if (sloSearch == null) {
+        logger.info("Starting workload tasks...");
+        runTasks(config.getWorkload(), remoteJVMs);
+      } else {
+        logger.info("Starting SLO search {}...", sloSearch);
+        searchForMaxThroughput(config, sloSearch, remoteJVMs, benchmarkOutput);
+      }
 
       logger.info("Starting after tasks...");
       runTasks(config.getAfter(), remoteJVMs);
@@ -144,6 +160,39 @@ public class DefaultTestRunner implements TestRunner {
     });
   }
 
+  private void searchForMaxThroughput(TestConfig config, SloSearch sloSearch,
+      RemoteJVMs remoteJVMs, File benchmarkOutput) throws IOException {
+    AtomicInteger trials = new AtomicInteger();
+    long maxOpsPerSecond = sloSearch.search(opsPerSecond -> {
+      int trialNumber = trials.incrementAndGet();
+      WorkloadStage trial = new WorkloadStage(String.format("trial-%02d", trialNumber),
+          config.getThreads(), opsPerSecond, sloSearch.getHoldSeconds());
+      for (TestStep testStep : config.getWorkload()) {
+        Task task = testStep.getTask();
+        if (task instanceof WorkloadTask) {
+          task = ((WorkloadTask) task).trial(trial, trialNumber == 1);
+        }
+        logger.info("Executing {} of task {} on {}...", trial.getName(), task,
+            testStep.getRoles());
+        remoteJVMs.execute(task, testStep.getRoles());
+      }
+
+      List<Histogram> histograms = remoteJVMs.getResults(trial.getName()).stream()
+          .map(Histogram.class::cast)
+          .collect(Collectors.toList());
+      boolean met = sloSearch.isMet(histograms, opsPerSecond);
+      logger.info(String.format("Trial %s at %d ops/second: achieved %.2f ops/second, %s%%"
+          + " latency %.4f ms, %s", trial.getName(), opsPerSecond,
+          SloSearch.getOpsPerSecond(histograms), sloSearch.getPercentile(),
+          histograms.isEmpty() ? Double.NaN : sloSearch.getLatencyMillis(histograms),
+          met ? "met" : "not met"));
+      return met;
+    });
+
+    logger.info("Result of SLO search: {} {}", sloSearch.getDescription(), maxOpsPerSecond);
+    sloSearch.storeResult(benchmarkOutput, maxOpsPerSecond);
+  }
+
   public RemoteJVMFactory getRemoteJvmFactory() {
     return remoteJvmFactory;
   }
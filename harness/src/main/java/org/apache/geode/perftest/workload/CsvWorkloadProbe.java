@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.workload;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Date;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Base class for probes that write a CSV file in the same format as the yardstick probe dump
+ * files, so that the existing result parsers can read the output of a {@link WorkloadEngine}.
+ * Header lines start with "--" and the column names with "**", both of which the parsers skip.
+ */
+abstract class CsvWorkloadProbe implements WorkloadProbe {
+  private final File file;
+  private final String description;
+  private final String[] columns;
+  PrintWriter writer;
+
+  CsvWorkloadProbe(File file, String description, String... columns) {
+    this.file = file;
+    this.description = description;
+    this.columns = columns;
+  }
+
+  @Override
+  public void start(int threads) throws IOException {
+    writer = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8));
+    writer.println("--Probe dump file for probe: " + getClass().getName());
+    writer.println("--Created " + new Date());
+    writer.println("--Threads: " + threads);
+    writer.println("--Description: " + description);
+    final StringBuilder header = new StringBuilder("**");
+    for (int i = 0; i < columns.length; i++) {
+      if (i > 0) {
+        header.append(',');
+      }
+      header.append('"').append(columns[i]).append('"');
+    }
+    writer.println(header);
+  }
+
+  @Override
+  public void stop(Histogram total) throws Exception {
+    writer.close();
+  }
+}
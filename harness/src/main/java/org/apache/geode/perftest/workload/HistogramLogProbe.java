@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.workload;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.PackedHistogram;
+
+import org.apache.geode.perftest.yardstick.hdrhistogram.HdrHistogramWriter;
+
+/**
+ * Collects the interval histograms of the measure phase and passes them to a consumer, such as a
+ * {@link HdrHistogramWriter}, when the workload stops. The tagged intervals of each operation
+ * follow the interval they belong to.
+ */
+public class HistogramLogProbe implements WorkloadProbe {
+  private final Consumer<List<Histogram>> histogramConsumer;
+  private final List<Histogram> intervals = new ArrayList<>();
+
+  public HistogramLogProbe(Consumer<List<Histogram>> histogramConsumer) {
+    this.histogramConsumer = histogramConsumer;
+  }
+
+  @Override
+  public void interval(Histogram interval) {
+    // The engine reuses the interval histogram, so keep a packed copy.
+    final Histogram copy = new PackedHistogram(interval);
+    copy.add(interval);
+    copy.setStartTimeStamp(interval.getStartTimeStamp());
+    copy.setEndTimeStamp(interval.getEndTimeStamp());
+    intervals.add(copy);
+  }
+
+  @Override
+  public void operationIntervals(List<Histogram> operationIntervals) {
+    intervals.addAll(operationIntervals);
+  }
+
+  @Override
+  public void stop(Histogram total) {
+    histogramConsumer.accept(intervals);
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.workload;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.io.File;
+import java.util.Locale;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+import org.yardstickframework.probes.PercentileProbe;
+
+import org.apache.geode.perftest.yardstick.analysis.YardstickPercentileSensorParser;
+
+/**
+ * Writes the distribution of latencies in the measure phase as the fraction of operations in
+ * each of a fixed number of equal width buckets, in the format read by
+ * {@link YardstickPercentileSensorParser}. The bucket width and count are the
+ * {@link PercentileProbe} defaults. Latencies beyond the last bucket are counted in it.
+ */
+public class PercentileCsvProbe extends CsvWorkloadProbe {
+  static final long BUCKET_INTERVAL_MICROS = PercentileProbe.DEFAULT_BUCKET_INTERVAL;
+  static final int BUCKETS = PercentileProbe.DEFAULT_BUCKETS_CNT;
+
+  public PercentileCsvProbe(File outputDir) {
+    super(new File(outputDir, YardstickPercentileSensorParser.sensorOutputFile),
+        "Latency distribution", "Latency, microseconds", "Operations, %");
+  }
+
+  @Override
+  public void stop(Histogram total) throws Exception {
+    final long[] counts = new long[BUCKETS];
+    final long bucketIntervalNanos = MICROSECONDS.toNanos(BUCKET_INTERVAL_MICROS);
+    for (HistogramIterationValue value : total.recordedValues()) {
+      final int bucket =
+          (int) Math.min(BUCKETS - 1, value.getValueIteratedTo() / bucketIntervalNanos);
+      counts[bucket] += value.getCountAddedInThisIterationStep();
+    }
+
+    final long totalCount = Math.max(1, total.getTotalCount());
+    for (int i = 0; i < BUCKETS; i++) {
+      writer.println(String.format(Locale.ROOT, "%d,%.6f", i * BUCKET_INTERVAL_MICROS,
+          (double) counts[i] / totalCount));
+    }
+    super.stop(total);
+  }
+}
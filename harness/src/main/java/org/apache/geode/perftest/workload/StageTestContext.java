@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.workload;
+
+import java.io.File;
+import java.io.Serializable;
+import java.net.InetAddress;
+import java.util.Set;
+
+import org.apache.geode.perftest.TestContext;
+
+/**
+ * A {@link TestContext} for one stage of a workload, which writes its output to the stage's own
+ * directory.
+ */
+class StageTestContext implements TestContext {
+  private final TestContext context;
+  private final File outputDir;
+
+  StageTestContext(TestContext context, File outputDir) {
+    this.context = context;
+    this.outputDir = outputDir;
+  }
+
+  @Override
+  public Set<InetAddress> getHostsForRole(String role) {
+    return context.getHostsForRole(role);
+  }
+
+  @Override
+  public Set<Integer> getHostsIDsForRole(String role) {
+    return context.getHostsIDsForRole(role);
+  }
+
+  @Override
+  public File getOutputDir() {
+    return outputDir;
+  }
+
+  @Override
+  public int getJvmID() {
+    return context.getJvmID();
+  }
+
+  @Override
+  public void setAttribute(String attribute, Object value) {
+    context.setAttribute(attribute, value);
+  }
+
+  @Override
+  public Object getAttribute(String key) {
+    return context.getAttribute(key);
+  }
+
+  @Override
+  public void logProgress(String progress) {
+    context.logProgress(progress);
+  }
+
+  @Override
+  public void reportResult(String name, Serializable result) {
+    context.reportResult(name, result);
+  }
+}
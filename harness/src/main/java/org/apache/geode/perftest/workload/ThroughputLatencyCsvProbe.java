@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.workload;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.File;
+import java.util.Locale;
+
+import org.HdrHistogram.Histogram;
+
+import org.apache.geode.perftest.yardstick.analysis.YardstickThroughputSensorParser;
+
+/**
+ * Writes the throughput and mean latency of each reporting interval, in the format read by
+ * {@link YardstickThroughputSensorParser}.
+ */
+public class ThroughputLatencyCsvProbe extends CsvWorkloadProbe {
+
+  public ThroughputLatencyCsvProbe(File outputDir) {
+    super(new File(outputDir, YardstickThroughputSensorParser.sensorOutputFile),
+        "Throughput and mean latency per interval", "Time, sec",
+        "Operations/sec (more is better)", "Latency, nsec (less is better)");
+  }
+
+  @Override
+  public void interval(Histogram interval) {
+    final long intervalMillis = interval.getEndTimeStamp() - interval.getStartTimeStamp();
+    if (intervalMillis <= 0) {
+      return;
+    }
+    final double opsPerSecond = interval.getTotalCount() * 1000.0 / intervalMillis;
+    writer.println(String.format(Locale.ROOT, "%d,%.2f,%.2f",
+        MILLISECONDS.toSeconds(interval.getEndTimeStamp()), opsPerSecond, interval.getMean()));
+  }
+}
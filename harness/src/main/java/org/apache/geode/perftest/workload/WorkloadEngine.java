@@ -0,0 +1,408 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.workload;
+
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.HdrHistogram.SingleWriterRecorder;
+import org.HdrHistogram.ValueRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yardstickframework.BenchmarkDriver;
+
+import org.apache.geode.perftest.MultiOperationDriver;
+import org.apache.geode.perftest.OperationRecorder;
+
+/**
+ * Runs a {@link BenchmarkDriver} in a closed or open loop on a number of threads, through the
+ * {@link WorkloadPhase#WARMUP}, {@link WorkloadPhase#MEASURE} and {@link WorkloadPhase#COOLDOWN}
+ * phases, and measures the latency of each operation in the measure phase.
+ *
+ * The workload threads do not allocate. Each thread records into its own
+ * {@link SingleWriterRecorder}, and a control thread swaps out the interval histograms once per
+ * reporting interval and passes them to the {@link WorkloadProbe}s.
+ *
+ * An operation is measured if it starts in the measure phase. Operations still in flight when
+ * the measure phase ends are not included.
+ *
+ * If the driver is a {@link MultiOperationDriver}, each of its operations is also measured
+ * separately and passed to {@link WorkloadProbe#operationIntervals(List)}. An
+ * {@link #observer observer} runs no workload threads, and only passes on the operations the
+ * driver records itself.
+ */
+public class WorkloadEngine {
+  private static final Logger logger = LoggerFactory.getLogger(WorkloadEngine.class);
+
+  static final long REPORTING_INTERVAL_MILLIS = 1000;
+
+  /**
+   * Latencies longer than this are recorded as this value.
+   */
+  static final long HIGHEST_TRACKABLE_LATENCY = HOURS.toNanos(1);
+
+  static final int SIGNIFICANT_DIGITS = 3;
+
+  /**
+   * Above this many threads, for example when running on virtual threads, a recorder per thread
+   * uses too much memory, so all threads record into a single concurrent recorder instead.
+   */
+  static final int MAX_RECORDERS = 1024;
+
+  private final BenchmarkDriver driver;
+  private final int threads;
+  private final long warmupMillis;
+  private final long durationMillis;
+  private final double opsPerSecond;
+  private final ThreadFactory threadFactory;
+  private final WorkloadProbe[] probes;
+  private final OperationRecorder operationRecorder;
+  private final boolean observer;
+
+  private volatile WorkloadPhase phase = WorkloadPhase.WARMUP;
+  private volatile boolean running;
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+  /**
+   * @param driver The workload to run. It must already be set up.
+   * @param threads The number of workload threads
+   * @param warmupSeconds The length of the warmup phase
+   * @param durationSeconds The length of the measure phase
+   * @param opsPerSecond The target rate for all threads of this engine, or 0 to run each thread
+   *        in a closed loop as fast as it can go
+   * @param threadFactory Creates the workload threads
+   * @param probes Probes to report the measurements to
+   */
+  public WorkloadEngine(BenchmarkDriver driver, int threads, long warmupSeconds,
+      long durationSeconds, double opsPerSecond, ThreadFactory threadFactory,
+      Collection<WorkloadProbe> probes) {
+    this(driver, threads, warmupSeconds, durationSeconds, opsPerSecond, threadFactory, probes,
+        false);
+  }
+
+  private WorkloadEngine(BenchmarkDriver driver, int threads, long warmupSeconds,
+      long durationSeconds, double opsPerSecond, ThreadFactory threadFactory,
+      Collection<WorkloadProbe> probes, boolean observer) {
+    if (threads < 1 && !observer) {
+      throw new IllegalArgumentException("threads must be at least 1, was " + threads);
+    }
+    this.driver = driver;
+    this.threads = threads;
+    this.warmupMillis = SECONDS.toMillis(warmupSeconds);
+    this.durationMillis = SECONDS.toMillis(durationSeconds);
+    this.opsPerSecond = opsPerSecond;
+    this.threadFactory = threadFactory;
+    this.probes = probes.toArray(new WorkloadProbe[0]);
+    this.observer = observer;
+    if (driver instanceof MultiOperationDriver) {
+      final MultiOperationDriver multiOperationDriver = (MultiOperationDriver) driver;
+      operationRecorder = new OperationRecorder(multiOperationDriver.getOperationNames(),
+          HIGHEST_TRACKABLE_LATENCY, SIGNIFICANT_DIGITS);
+      multiOperationDriver.setOperationRecorder(operationRecorder);
+    } else {
+      operationRecorder = null;
+    }
+  }
+
+  /**
+   * An engine for a JVM that only observes the operations of a {@link MultiOperationDriver} run
+   * on other JVMs, see {@link MultiOperationDriver#getObserverRoles()}. It never calls
+   * {@link BenchmarkDriver#test(Map)}, and passes the probes only the operations the driver
+   * records itself, through the same phases as a workload.
+   *
+   * @param driver The driver to observe. It must already be set up.
+   * @param warmupSeconds The length of the warmup phase
+   * @param durationSeconds The length of the measure phase
+   * @param probes Probes to report the operations to
+   */
+  public static WorkloadEngine observer(MultiOperationDriver driver, long warmupSeconds,
+      long durationSeconds, Collection<WorkloadProbe> probes) {
+    return new WorkloadEngine(driver, 0, warmupSeconds, durationSeconds, 0, Thread::new, probes,
+        true);
+  }
+
+  /**
+   * Run the workload through all of its phases, returning once all of the workload threads have
+   * finished and the probes have been stopped.
+   *
+   * @throws IllegalStateException if the driver threw an exception
+   */
+  public void run() throws Exception {
+    for (WorkloadProbe probe : probes) {
+      probe.start(threads);
+    }
+
+    final List<Worker> workers = createWorkers();
+    final List<Thread> workerThreads = new ArrayList<>(threads);
+    for (Worker worker : workers) {
+      workerThreads.add(threadFactory.newThread(worker));
+    }
+
+    final Histogram scratch = newHistogram();
+    final Histogram interval = newHistogram();
+    final Histogram total = newHistogram();
+
+    running = true;
+    logger.info("Starting {} workload threads", threads);
+    workerThreads.forEach(Thread::start);
+    try {
+      final long warmupEndMillis = System.currentTimeMillis() + warmupMillis;
+      if (sleepUntil(warmupEndMillis)) {
+        driver.onWarmupFinished();
+        changePhase(WorkloadPhase.MEASURE);
+        // Throw away anything recorded by operations that were in flight during the change.
+        drainRecorders(workers, scratch, interval);
+        if (operationRecorder != null) {
+          operationRecorder.reset();
+        }
+
+        final long measureStartMillis = System.currentTimeMillis();
+        final long measureEndMillis = measureStartMillis + durationMillis;
+        total.setStartTimeStamp(measureStartMillis);
+        long intervalStartMillis = measureStartMillis;
+        boolean measuring = true;
+        while (measuring) {
+          measuring = sleepUntil(
+              Math.min(intervalStartMillis + REPORTING_INTERVAL_MILLIS, measureEndMillis));
+          final long intervalEndMillis = System.currentTimeMillis();
+          if (intervalEndMillis >= measureEndMillis) {
+            changePhase(WorkloadPhase.COOLDOWN);
+            measuring = false;
+          }
+          drainRecorders(workers, scratch, interval);
+          interval.setStartTimeStamp(intervalStartMillis);
+          interval.setEndTimeStamp(intervalEndMillis);
+          total.add(interval);
+          // An observer makes no calls of its own to report.
+          if (!observer) {
+            for (WorkloadProbe probe : probes) {
+              probe.interval(interval);
+            }
+          }
+          if (operationRecorder != null) {
+            final List<Histogram> operationIntervals =
+                operationRecorder.getIntervalHistograms(intervalStartMillis, intervalEndMillis);
+            for (WorkloadProbe probe : probes) {
+              probe.operationIntervals(operationIntervals);
+            }
+          }
+          intervalStartMillis = intervalEndMillis;
+        }
+        total.setEndTimeStamp(intervalStartMillis);
+      }
+    } finally {
+      running = false;
+      for (Thread thread : workerThreads) {
+        thread.join();
+      }
+    }
+
+    Exception stopFailure = null;
+    for (WorkloadProbe probe : probes) {
+      try {
+        probe.stop(total);
+      } catch (Exception e) {
+        if (stopFailure == null) {
+          stopFailure = e;
+        } else {
+          stopFailure.addSuppressed(e);
+        }
+      }
+    }
+
+    final Throwable cause = failure.get();
+    if (cause != null) {
+      // A probe that failed to stop should not hide why the workload failed.
+      final IllegalStateException workloadFailure =
+          new IllegalStateException("Workload failed", cause);
+      if (stopFailure != null) {
+        workloadFailure.addSuppressed(stopFailure);
+      }
+      throw workloadFailure;
+    }
+    if (stopFailure != null) {
+      throw stopFailure;
+    }
+  }
+
+  WorkloadPhase getPhase() {
+    return phase;
+  }
+
+  private List<Worker> createWorkers() {
+    final List<Worker> workers = new ArrayList<>(threads);
+    final long intervalNanos =
+        opsPerSecond > 0 ? Math.max(1, (long) (SECONDS.toNanos(threads) / opsPerSecond)) : 0;
+    final long firstStartNanos = System.nanoTime();
+    final Recorder sharedRecorder = threads > MAX_RECORDERS
+        ? new Recorder(HIGHEST_TRACKABLE_LATENCY, SIGNIFICANT_DIGITS)
+        : null;
+    for (int i = 0; i < threads; i++) {
+      final Worker worker;
+      if (sharedRecorder == null) {
+        final SingleWriterRecorder recorder =
+            new SingleWriterRecorder(HIGHEST_TRACKABLE_LATENCY, SIGNIFICANT_DIGITS);
+        worker = new Worker(i, recorder, recorder::getIntervalHistogramInto);
+      } else {
+        // Only the first worker drains the shared recorder.
+        worker = new Worker(i, sharedRecorder,
+            i == 0 ? sharedRecorder::getIntervalHistogramInto : null);
+      }
+      // Stagger the threads of an open loop workload across the interval.
+      worker.nextStartNanos = firstStartNanos + intervalNanos * i / threads;
+      worker.intervalNanos = intervalNanos;
+      workers.add(worker);
+    }
+    return workers;
+  }
+
+  private void changePhase(WorkloadPhase phase) {
+    logger.info("Workload phase {}", phase);
+    this.phase = phase;
+    for (WorkloadProbe probe : probes) {
+      probe.phaseChanged(phase);
+    }
+  }
+
+  private static void drainRecorders(List<Worker> workers, Histogram scratch,
+      Histogram interval) {
+    interval.reset();
+    for (Worker worker : workers) {
+      if (worker.drain != null) {
+        worker.drain.getIntervalHistogramInto(scratch);
+        interval.add(scratch);
+      }
+    }
+  }
+
+  private static Histogram newHistogram() {
+    return new Histogram(HIGHEST_TRACKABLE_LATENCY, SIGNIFICANT_DIGITS);
+  }
+
+  /**
+   * Sleep until the given time, or until the workload has stopped early.
+   *
+   * @return true if the time was reached
+   */
+  private boolean sleepUntil(long timeMillis) throws InterruptedException {
+    long remaining;
+    while ((remaining = timeMillis - System.currentTimeMillis()) > 0) {
+      if (!running) {
+        return false;
+      }
+      Thread.sleep(Math.min(remaining, 100));
+    }
+    return running;
+  }
+
+  @FunctionalInterface
+  private interface Drain {
+    void getIntervalHistogramInto(Histogram target);
+  }
+
+  /**
+   * Padding so that the mutable fields of one worker do not share a cache line with another
+   * object.
+   */
+  @SuppressWarnings("unused")
+  private abstract static class WorkerPadding {
+    long p01, p02, p03, p04, p05, p06, p07;
+  }
+
+  private abstract static class WorkerFields extends WorkerPadding {
+    long nextStartNanos;
+    long intervalNanos;
+  }
+
+  @SuppressWarnings("unused")
+  private final class Worker extends WorkerFields implements Runnable {
+    long p11, p12, p13, p14, p15, p16, p17;
+
+    private final int threadIdx;
+    private final ValueRecorder recorder;
+    private final Drain drain;
+
+    Worker(int threadIdx, ValueRecorder recorder, Drain drain) {
+      this.threadIdx = threadIdx;
+      this.recorder = recorder;
+      this.drain = drain;
+    }
+
+    @Override
+    public void run() {
+      final Map<Object, Object> ctx = new HashMap<>();
+      try {
+        while (running) {
+          final long startNanos = awaitStart();
+          final boolean measured = phase == WorkloadPhase.MEASURE;
+          final boolean keepRunning = driver.test(ctx);
+          if (measured) {
+            final long endNanos = System.nanoTime();
+            final long latency = Math.min(endNanos - startNanos, HIGHEST_TRACKABLE_LATENCY);
+            recorder.recordValue(latency);
+            if (operationRecorder != null) {
+              operationRecorder.recordCall(latency);
+            }
+            for (WorkloadProbe probe : probes) {
+              probe.afterOperation(threadIdx, startNanos, endNanos);
+            }
+          } else if (operationRecorder != null) {
+            operationRecorder.skipCall();
+          }
+          if (!keepRunning) {
+            return;
+          }
+        }
+      } catch (Throwable t) {
+        driver.onException(t);
+        failure.compareAndSet(null, t);
+        running = false;
+      }
+    }
+
+    /**
+     * Wait until the next operation should start.
+     *
+     * @return the time the operation should be measured from. For an open loop workload this is
+     *         when it was scheduled to start, so time spent behind schedule is included.
+     */
+    private long awaitStart() {
+      if (intervalNanos == 0) {
+        return System.nanoTime();
+      }
+      final long scheduledNanos = nextStartNanos;
+      nextStartNanos += intervalNanos;
+      long waitNanos;
+      while ((waitNanos = scheduledNanos - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(waitNanos);
+      }
+      return scheduledNanos;
+    }
+  }
+}
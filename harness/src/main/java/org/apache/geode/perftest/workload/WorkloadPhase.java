@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.workload;
+
+/**
+ * The phases that a {@link WorkloadEngine} runs through, in order.
+ */
+public enum WorkloadPhase {
+  /**
+   * Operations run but are not measured, so that JIT compilation, connection pools and caches can
+   * settle.
+   */
+  WARMUP,
+
+  /**
+   * Operations are measured.
+   */
+  MEASURE,
+
+  /**
+   * The measure phase has ended. Operations are no longer measured, and the workload threads are
+   * stopped once the last interval of the measure phase has been reported to the probes.
+   */
+  COOLDOWN
+}
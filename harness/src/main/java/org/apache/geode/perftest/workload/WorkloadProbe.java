@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.workload;
+
+import java.util.List;
+
+import org.HdrHistogram.Histogram;
+
+import org.apache.geode.perftest.MultiOperationDriver;
+
+/**
+ * A probe that observes a workload run by a {@link WorkloadEngine}. The engine records the
+ * latency of every measured operation itself, and hands the probes a histogram for each
+ * reporting interval and one for the whole measure phase.
+ */
+public interface WorkloadProbe {
+
+  /**
+   * Called before any workload threads are started.
+   *
+   * @param threads The number of workload threads
+   */
+  default void start(int threads) throws Exception {}
+
+  /**
+   * Called from the engine's control thread when the workload moves to a new phase.
+   */
+  default void phaseChanged(WorkloadPhase phase) {}
+
+  /**
+   * Called on the workload thread after each operation in the {@link WorkloadPhase#MEASURE}
+   * phase. This is on the hot path of the workload, so implementations must not allocate, block,
+   * or write to state shared with other threads.
+   *
+   * @param threadIdx The index of the workload thread, from 0 to threads - 1
+   * @param startNanos The time the operation started, or was scheduled to start for an open loop
+   *        workload
+   * @param endNanos The time the operation finished
+   */
+  default void afterOperation(int threadIdx, long startNanos, long endNanos) {}
+
+  /**
+   * Called from the engine's control thread at the end of each reporting interval in the
+   * {@link WorkloadPhase#MEASURE} phase. The histogram is reused by the engine, so it must not be
+   * held onto after this method returns.
+   *
+   * @param interval The latencies, in nanoseconds, of the operations in the interval. The start
+   *        and end time stamps are set to the bounds of the interval.
+   */
+  default void interval(Histogram interval) throws Exception {}
+
+  /**
+   * Called from the engine's control thread after {@link #interval(Histogram)} if the workload is
+   * a {@link MultiOperationDriver}. The histograms are not reused by the engine.
+   *
+   * @param intervals The latencies, in nanoseconds, of each operation in the interval, tagged with
+   *        the name of the operation
+   */
+  default void operationIntervals(List<Histogram> intervals) throws Exception {}
+
+  /**
+   * Called after all of the workload threads have finished.
+   *
+   * @param total The latencies, in nanoseconds, of all of the operations in the measure phase.
+   *        The start and end time stamps are set to the bounds of the measure phase.
+   */
+  default void stop(Histogram total) throws Exception {}
+}
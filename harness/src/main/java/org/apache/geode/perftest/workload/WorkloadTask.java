@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.workload;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.HdrHistogram.Histogram;
+import org.yardstickframework.BenchmarkDriver;
+
+import org.apache.geode.perftest.MultiOperationDriver;
+import org.apache.geode.perftest.Task;
+import org.apache.geode.perftest.TestContext;
+import org.apache.geode.perftest.WorkloadConfig;
+import org.apache.geode.perftest.WorkloadStage;
+import org.apache.geode.perftest.jdk.PinnedVirtualThreadRecorder;
+import org.apache.geode.perftest.jdk.VirtualThreads;
+import org.apache.geode.perftest.jvms.RemoteJVMFactory;
+import org.apache.geode.perftest.yardstick.YardstickTask;
+import org.apache.geode.perftest.yardstick.analysis.YardstickHdrHistogramParser;
+import org.apache.geode.perftest.yardstick.hdrhistogram.HdrHistogramWriter;
+
+/**
+ * A {@link Task} that runs and measures a workload. The workload is run by a
+ * {@link WorkloadEngine} if {@link WorkloadConfig#isNativeEngine()} is set, otherwise by a
+ * {@link YardstickTask}.
+ *
+ * The engine writes its results in the same files and layout as yardstick, so the results of
+ * either can be analyzed and compared.
+ *
+ * If the workload has {@link WorkloadConfig#getStages() stages}, each stage is run in turn and
+ * writes its results to its own directory under {@value #STAGES_DIR}. The driver is set up before
+ * each stage and torn down after it, so anything a driver adds in
+ * {@link BenchmarkDriver#setUp} must be removed in {@link BenchmarkDriver#tearDown()}.
+ *
+ * On the JVMs of a {@link MultiOperationDriver#getObserverRoles() observer role} the driver is
+ * set up and observed, but never called, by the same engine that runs the workload elsewhere, so
+ * that both measure the same window.
+ *
+ * A {@link #trial(WorkloadStage, boolean) trial} runs a single stage and reports the latency
+ * histogram of the stage to the controller, so that the test runner can decide what to run next.
+ */
+public class WorkloadTask implements Task {
+  /**
+   * The directory of a JVM's output that holds the results of each stage.
+   */
+  public static final String STAGES_DIR = "stages";
+
+  private final BenchmarkDriver benchmark;
+  private final WorkloadConfig workloadConfig;
+  private final String[] roles;
+  private final WorkloadStage trial;
+
+  /**
+   * @param roles The roles the task runs on, used to split an open loop target rate between the
+   *        JVMs running the workload.
+   */
+  public WorkloadTask(BenchmarkDriver benchmark, WorkloadConfig workloadConfig,
+      String... roles) {
+    this(benchmark, workloadConfig, null, roles);
+  }
+
+  private WorkloadTask(BenchmarkDriver benchmark, WorkloadConfig workloadConfig,
+      WorkloadStage trial, String... roles) {
+    this.benchmark = benchmark;
+    this.workloadConfig = workloadConfig;
+    this.trial = trial;
+    this.roles = roles;
+  }
+
+  /**
+   * A task that runs the workload once as the given stage, and reports the combined latency
+   * {@link org.HdrHistogram.Histogram} of the stage to the controller as a result named after
+   * the stage.
+   *
+   * @param first True for the first trial, which is the only one that is warmed up
+   */
+  public WorkloadTask trial(WorkloadStage trial, boolean first) {
+    return new WorkloadTask(benchmark, workloadConfig.forStage(trial, first), trial, roles);
+  }
+
+  @Override
+  public void run(TestContext context) throws Exception {
+    if (trial != null) {
+      final File trialDir = runStage(context, trial, workloadConfig);
+      final YardstickHdrHistogramParser parser = new YardstickHdrHistogramParser();
+      parser.parseHistogramLog(new File(trialDir, HdrHistogramWriter.FILE_NAME));
+      // A trial that completed no operations reports an empty histogram.
+      final Histogram histogram = parser.histogram != null ? parser.histogram
+          : new Histogram(WorkloadEngine.SIGNIFICANT_DIGITS);
+      context.reportResult(trial.getName(), histogram);
+      return;
+    }
+
+    final List<WorkloadStage> stages = workloadConfig.getStages();
+    if (stages.isEmpty()) {
+      run(context, workloadConfig);
+      return;
+    }
+
+    for (int i = 0; i < stages.size(); i++) {
+      final WorkloadStage stage = stages.get(i);
+      runStage(context, stage, workloadConfig.forStage(stage, i == 0));
+    }
+  }
+
+  private File runStage(TestContext context, WorkloadStage stage, WorkloadConfig config)
+      throws Exception {
+    final File stageDir =
+        new File(new File(context.getOutputDir(), STAGES_DIR), stage.getName());
+    if (!stageDir.mkdirs()) {
+      throw new IllegalStateException("Could not create " + stageDir);
+    }
+    stage.store(stageDir);
+    context.logProgress("Running " + stage);
+    run(new StageTestContext(context, stageDir), config);
+    return stageDir;
+  }
+
+  private void run(TestContext context, WorkloadConfig config) throws Exception {
+    final Set<String> observerRoles = getObserverRoles();
+    if (observerRoles.contains(System.getProperty(RemoteJVMFactory.ROLE))) {
+      observe(context, config);
+      return;
+    }
+
+    final String[] workloadRoles = Arrays.stream(roles)
+        .filter(role -> !observerRoles.contains(role))
+        .toArray(String[]::new);
+    if (!config.isNativeEngine()) {
+      new YardstickTask(benchmark, config, workloadRoles).run(context);
+      return;
+    }
+
+    final File outputDir = context.getOutputDir();
+    benchmark.setUp(YardstickTask.createConfiguration(benchmark, config, context, workloadRoles));
+
+    final List<WorkloadProbe> probes = createProbes(outputDir);
+    final WorkloadEngine engine = new WorkloadEngine(benchmark, config.getThreads(),
+        config.getWarmupSeconds(), config.getDurationSeconds(),
+        config.isOpenLoop() ? config.getOpsPerSecondPerJvm(context, workloadRoles) : 0,
+        createThreadFactory(config), probes);
+
+    runThen(() -> {
+      if (config.isVirtualThreads()) {
+        final PinnedVirtualThreadRecorder pinnedRecorder =
+            new PinnedVirtualThreadRecorder(outputDir);
+        pinnedRecorder.start();
+        runThen(engine::run, pinnedRecorder::stop);
+      } else {
+        engine.run();
+      }
+    }, benchmark::tearDown);
+  }
+
+  private void observe(TestContext context, WorkloadConfig config) throws Exception {
+    final File outputDir = context.getOutputDir();
+    if (!config.isNativeEngine()) {
+      YardstickTask.observer(benchmark, config).run(context);
+      writeEmptyCsvFiles(outputDir);
+      return;
+    }
+
+    benchmark.setUp(YardstickTask.createConfiguration(benchmark, config, outputDir));
+
+    // An observer writes the same files as the workload, so that the analyzers find them, but
+    // only its histogram log holds any operations.
+    final WorkloadEngine engine = WorkloadEngine.observer((MultiOperationDriver) benchmark,
+        config.getWarmupSeconds(), config.getDurationSeconds(), createProbes(outputDir));
+
+    runThen(engine::run, benchmark::tearDown);
+  }
+
+  /**
+   * Yardstick writes only the histogram log of an observer, so add the throughput and percentile
+   * files the analyzers expect to its output, without any operations in them.
+   */
+  private static void writeEmptyCsvFiles(File outputDir) throws Exception {
+    final File[] probeOutputDirs = outputDir.listFiles(
+        file -> file.isDirectory() && file.getName().contains(YardstickTask.YARDSTICK_OUTPUT));
+    if (probeOutputDirs == null || probeOutputDirs.length != 1) {
+      throw new IllegalStateException("Could not find the yardstick output in " + outputDir);
+    }
+    for (WorkloadProbe probe : Arrays.asList(new ThroughputLatencyCsvProbe(probeOutputDirs[0]),
+        new PercentileCsvProbe(probeOutputDirs[0]))) {
+      probe.start(0);
+      probe.stop(new Histogram(WorkloadEngine.SIGNIFICANT_DIGITS));
+    }
+  }
+
+  private Set<String> getObserverRoles() {
+    return benchmark instanceof MultiOperationDriver
+        ? ((MultiOperationDriver) benchmark).getObserverRoles()
+        : Collections.emptySet();
+  }
+
+  private List<WorkloadProbe> createProbes(File outputDir) {
+    final File probeOutputDir = new File(outputDir,
+        new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + "-"
+            + benchmark.getClass().getSimpleName() + YardstickTask.YARDSTICK_OUTPUT);
+    if (!probeOutputDir.mkdirs()) {
+      throw new IllegalStateException("Could not create " + probeOutputDir);
+    }
+    return Arrays.asList(
+        new HistogramLogProbe(new HdrHistogramWriter(outputDir)),
+        new ThroughputLatencyCsvProbe(probeOutputDir),
+        new PercentileCsvProbe(probeOutputDir));
+  }
+
+  /**
+   * Run an action and then a cleanup, even if the action failed. If both fail, the failure of
+   * the cleanup is added to that of the action as a suppressed exception rather than replacing
+   * it.
+   */
+  private static void runThen(Action action, Action cleanup) throws Exception {
+    try {
+      action.run();
+    } catch (Throwable t) {
+      try {
+        cleanup.run();
+      } catch (Throwable cleanupFailure) {
+        t.addSuppressed(cleanupFailure);
+      }
+      throw t;
+    }
+    cleanup.run();
+  }
+
+  private static ThreadFactory createThreadFactory(WorkloadConfig config) {
+    if (config.isVirtualThreads()) {
+      return VirtualThreads.newThreadFactory("workload-");
+    }
+    final AtomicInteger threadCount = new AtomicInteger();
+    return runnable -> new Thread(runnable, "workload-" + threadCount.getAndIncrement());
+  }
+
+  @FunctionalInterface
+  private interface Action {
+    void run() throws Exception;
+  }
+}
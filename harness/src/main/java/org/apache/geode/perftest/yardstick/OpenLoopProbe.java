@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.yardstick;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.locks.LockSupport;
+
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.BenchmarkDriver;
+import org.yardstickframework.BenchmarkExecutionAwareProbe;
+import org.yardstickframework.BenchmarkProbePoint;
+
+import org.apache.geode.perftest.yardstick.hdrhistogram.Clock;
+import org.apache.geode.perftest.yardstick.hdrhistogram.StartTimeProvider;
+
+/**
+ * Probe that holds each workload thread until its next operation is scheduled to start, turning
+ * the closed yardstick loop into an open loop with a constant arrival rate. Each thread is given
+ * an equal share of the target rate.
+ *
+ * If an operation runs past the start of the next one, the thread issues operations back to back
+ * until it catches up with its schedule. {@link #startTimeNanos(int)} returns the time the current
+ * operation was scheduled to start, so latency measured from it includes the time the operation
+ * spent waiting behind the slow one. This must be the first execution aware probe so that the
+ * other probes are not charged for the wait.
+ */
+class OpenLoopProbe implements BenchmarkExecutionAwareProbe, StartTimeProvider {
+
+  private final double opsPerSecond;
+  private final Clock clock;
+  private long intervalNanos;
+  private long[] nextStartTimes;
+  private long[] intendedStartTimes;
+  private int[] scheduleVersions;
+  private volatile int scheduleVersion;
+
+  OpenLoopProbe(double opsPerSecond) {
+    this(opsPerSecond, System::nanoTime);
+  }
+
+  OpenLoopProbe(double opsPerSecond, Clock clock) {
+    if (opsPerSecond <= 0) {
+      throw new IllegalArgumentException("opsPerSecond must be positive: " + opsPerSecond);
+    }
+    this.opsPerSecond = opsPerSecond;
+    this.clock = clock;
+  }
+
+  @Override
+  public void start(BenchmarkDriver drv, BenchmarkConfiguration cfg) throws Exception {
+    start(cfg.threads());
+  }
+
+  void start(int threads) {
+    intervalNanos = Math.max(1, (long) (SECONDS.toNanos(threads) / opsPerSecond));
+    nextStartTimes = new long[threads];
+    intendedStartTimes = new long[threads];
+    scheduleVersions = new int[threads];
+
+    final long now = clock.currentTimeNanos();
+    for (int i = 0; i < threads; i++) {
+      nextStartTimes[i] = firstStartTime(i, now);
+    }
+  }
+
+  /**
+   * Stagger the threads so the operations are spread evenly over each interval.
+   */
+  private long firstStartTime(int threadIdx, long now) {
+    return now + intervalNanos / nextStartTimes.length * threadIdx;
+  }
+
+  @Override
+  public void beforeExecute(int threadIdx) {
+    final int version = scheduleVersion;
+    if (scheduleVersions[threadIdx] != version) {
+      scheduleVersions[threadIdx] = version;
+      nextStartTimes[threadIdx] = firstStartTime(threadIdx, clock.currentTimeNanos());
+    }
+    final long intendedStartTime = nextStartTimes[threadIdx];
+    long now;
+    while ((now = clock.currentTimeNanos()) < intendedStartTime) {
+      LockSupport.parkNanos(intendedStartTime - now);
+    }
+    intendedStartTimes[threadIdx] = intendedStartTime;
+    nextStartTimes[threadIdx] = intendedStartTime + intervalNanos;
+  }
+
+  @Override
+  public void afterExecute(int threadIdx) {
+
+  }
+
+  @Override
+  public long startTimeNanos(int threadIdx) {
+    return intendedStartTimes[threadIdx];
+  }
+
+  @Override
+  public void stop() throws Exception {
+
+  }
+
+  @Override
+  public Collection<String> metaInfo() {
+    return null;
+  }
+
+  /**
+   * Yardstick calls this while it holds all of the workload threads at the end of the warmup,
+   * and again once they have finished. Each thread restarts its schedule when it is released, so
+   * that the first operations that are measured are not charged for the time it was held.
+   */
+  @Override
+  public Collection<BenchmarkProbePoint> points() {
+    scheduleVersion++;
+    return Collections.emptyList();
+  }
+
+  @Override
+  public void buildPoint(long time) {
+
+  }
+}
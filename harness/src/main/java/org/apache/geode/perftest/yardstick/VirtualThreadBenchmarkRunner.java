@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.yardstick;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.BenchmarkDriver;
+import org.yardstickframework.impl.BenchmarkProbeSet;
+import org.yardstickframework.impl.BenchmarkRunner;
+
+import org.apache.geode.perftest.jdk.VirtualThreads;
+
+/**
+ * Runs a {@link BenchmarkDriver} and its probes the same way as yardstick's
+ * {@link BenchmarkRunner}, but lets the caller choose how the workload threads are created.
+ * Yardstick always uses platform threads, which limits how many operations a single JVM can
+ * have in flight. By default this runner uses a virtual thread for each workload thread, which
+ * requires Java 21 or later.
+ *
+ * Unlike {@link BenchmarkRunner#runBenchmark()}, {@link #runBenchmark()} does not return until
+ * the workload has finished and the probes have been stopped.
+ */
+class VirtualThreadBenchmarkRunner {
+  private static final Logger logger = LoggerFactory.getLogger(VirtualThreadBenchmarkRunner.class);
+
+  private static final long POINT_INTERVAL_MILLIS = 1000;
+
+  private final BenchmarkConfiguration cfg;
+  private final BenchmarkDriver driver;
+  private final BenchmarkProbeSet probeSet;
+  private final ThreadFactory threadFactory;
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+  private volatile boolean finished;
+
+  VirtualThreadBenchmarkRunner(BenchmarkConfiguration cfg, BenchmarkDriver driver,
+      BenchmarkProbeSet probeSet) {
+    this(cfg, driver, probeSet, VirtualThreads.newThreadFactory("workload-"));
+  }
+
+  VirtualThreadBenchmarkRunner(BenchmarkConfiguration cfg, BenchmarkDriver driver,
+      BenchmarkProbeSet probeSet, ThreadFactory threadFactory) {
+    this.cfg = cfg;
+    this.driver = driver;
+    this.probeSet = probeSet;
+    this.threadFactory = threadFactory;
+  }
+
+  void runBenchmark() throws Exception {
+    probeSet.start();
+
+    final Thread pointBuilder = new Thread(this::buildPoints, "probe-point-builder");
+    pointBuilder.setDaemon(true);
+    pointBuilder.start();
+
+    final int threadCount = cfg.threads();
+    final List<Thread> threads = new ArrayList<>(threadCount);
+    for (int i = 0; i < threadCount; i++) {
+      final int threadIdx = i;
+      threads.add(threadFactory.newThread(() -> runWorkload(threadIdx)));
+    }
+
+    final long startMillis = System.currentTimeMillis();
+    final long warmupEndMillis = startMillis + SECONDS.toMillis(cfg.warmup());
+    final long endMillis = warmupEndMillis + SECONDS.toMillis(cfg.duration());
+    logger.info("Starting {} workload threads", threadCount);
+    threads.forEach(Thread::start);
+
+    try {
+      if (sleepUntil(warmupEndMillis)) {
+        driver.onWarmupFinished();
+        probeSet.onWarmupFinished();
+      }
+      sleepUntil(endMillis);
+    } finally {
+      finished = true;
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      probeSet.onFinished();
+      pointBuilder.interrupt();
+      pointBuilder.join();
+      try {
+        driver.tearDown();
+      } finally {
+        probeSet.stop();
+      }
+    }
+
+    final Throwable cause = failure.get();
+    if (cause != null) {
+      throw new IllegalStateException("Workload failed", cause);
+    }
+  }
+
+  private void runWorkload(int threadIdx) {
+    final Map<Object, Object> ctx = new HashMap<>();
+    try {
+      while (!finished) {
+        probeSet.onBeforeExecute(threadIdx);
+        final boolean keepRunning = driver.test(ctx);
+        probeSet.onAfterExecute(threadIdx);
+        if (!keepRunning) {
+          return;
+        }
+      }
+    } catch (Throwable t) {
+      driver.onException(t);
+      failure.compareAndSet(null, t);
+      finished = true;
+    }
+  }
+
+  private void buildPoints() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        Thread.sleep(POINT_INTERVAL_MILLIS);
+        probeSet.buildPoint(System.currentTimeMillis());
+      }
+    } catch (InterruptedException ignored) {
+    }
+  }
+
+  /**
+   * Sleep until the given time, or until the workload has finished early.
+   *
+   * @return true if the time was reached
+   */
+  private boolean sleepUntil(long timeMillis) throws InterruptedException {
+    long remaining;
+    while ((remaining = timeMillis - System.currentTimeMillis()) > 0) {
+      if (finished) {
+        return false;
+      }
+      Thread.sleep(Math.min(remaining, 100));
+    }
+    return !finished;
+  }
+}
@@ -17,10 +17,21 @@
 
 package org.apache.geode.perftest.yardstick;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
 
+import org.HdrHistogram.Histogram;
 import org.yardstickframework.BenchmarkConfiguration;
 import org.yardstickframework.BenchmarkDriver;
 import org.yardstickframework.BenchmarkProbe;
@@ -31,9 +42,11 @@ import org.yardstickframework.probes.PercentileProbe;
 import org.yardstickframework.probes.ThroughputLatencyProbe;
 import org.yardstickframework.probes.VmStatProbe;
 
+import org.apache.geode.perftest.MultiOperationDriver;
 import org.apache.geode.perftest.Task;
 import org.apache.geode.perftest.TestContext;
 import org.apache.geode.perftest.WorkloadConfig;
+import org.apache.geode.perftest.jdk.PinnedVirtualThreadRecorder;
 import org.apache.geode.perftest.yardstick.hdrhistogram.HdrHistogramProbe;
 import org.apache.geode.perftest.yardstick.hdrhistogram.HdrHistogramWriter;
 
@@ -43,17 +56,176 @@ import org.apache.geode.perftest.yardstick.hdrhistogram.HdrHistogramWriter;
  */
 public class YardstickTask implements Task {
   public static final String YARDSTICK_OUTPUT = "-yardstick-output";
+
+  /**
+   * The {@link BenchmarkConfiguration#customProperties() custom property} that holds the number
+   * of JVMs running the workload, see {@link #getMemberCount(BenchmarkConfiguration)}.
+   */
+  public static final String MEMBER_COUNT = "memberCount";
+
+  /**
+   * How long each call an observer's workload thread makes to yardstick waits for.
+   */
+  private static final long OBSERVER_IDLE_NANOS = MILLISECONDS.toNanos(100);
+
   private final BenchmarkDriver benchmark;
   private WorkloadConfig workloadConfig;
+  private final String[] roles;
+  private final boolean observer;
 
   public YardstickTask(BenchmarkDriver benchmark, WorkloadConfig workloadConfig) {
+    this(benchmark, workloadConfig, new String[0]);
+  }
+
+  /**
+   * @param roles The roles the task runs on, used to split an open loop target rate between the
+   *        JVMs running the workload.
+   */
+  public YardstickTask(BenchmarkDriver benchmark, WorkloadConfig workloadConfig,
+      String... roles) {
+    this(benchmark, workloadConfig, roles, false);
+  }
+
+  private YardstickTask(BenchmarkDriver benchmark, WorkloadConfig workloadConfig,
+      String[] roles, boolean observer) {
     this.benchmark = benchmark;
     this.workloadConfig = workloadConfig;
+    this.roles = roles;
+    this.observer = observer;
+  }
+
+  /**
+   * A task for a JVM that only observes the operations of a {@link MultiOperationDriver} run on
+   * other JVMs, see {@link MultiOperationDriver#getObserverRoles()}. Yardstick runs the phases
+   * of the workload on a single thread that never calls the driver, so that the operations the
+   * driver records are measured over the same window as the workload, and the histogram log
+   * holds only those operations. No throughput or percentile files are written.
+   */
+  public static YardstickTask observer(BenchmarkDriver benchmark, WorkloadConfig workloadConfig) {
+    return new YardstickTask(benchmark, workloadConfig, new String[0], true);
   }
 
   @Override
   public void run(TestContext context) throws Exception {
 
+    BenchmarkConfiguration cfg = createConfiguration(benchmark, workloadConfig,
+        observer ? 1 : workloadConfig.getThreads(), context, roles);
+
+    BenchmarkDriver[] drivers =
+        new BenchmarkDriver[] {observer ? new ObserverDriver(benchmark) : benchmark};
+    benchmark.setUp(cfg);
+
+    TestDoneProbe testDoneProbe = new TestDoneProbe();
+    HdrHistogramWriter histogramWriter = new HdrHistogramWriter(context.getOutputDir());
+    Collection<BenchmarkProbe> probes = new ArrayList<>();
+    if (observer) {
+      probes.add(HdrHistogramProbe.observer(histogramWriter));
+    } else {
+      probes.addAll(createOperationProbes(
+          workloadConfig.isOpenLoop() ? workloadConfig.getOpsPerSecondPerJvm(context, roles) : 0,
+          histogramWriter));
+    }
+    probes.addAll(Arrays.asList(new VmStatProbe(), testDoneProbe));
+    BenchmarkLoader loader = new BenchmarkLoader();
+    loader.initialize(cfg);
+
+    BenchmarkProbeSet probeSet = new BenchmarkProbeSet(benchmark, cfg, probes, loader);
+    BenchmarkProbeSet[] probeSets = new BenchmarkProbeSet[] {probeSet};
+    int[] weights = new int[] {1};
+
+    if (workloadConfig.isVirtualThreads() && !observer) {
+      PinnedVirtualThreadRecorder pinnedRecorder =
+          new PinnedVirtualThreadRecorder(context.getOutputDir());
+      pinnedRecorder.start();
+      try {
+        new VirtualThreadBenchmarkRunner(cfg, benchmark, probeSet).runBenchmark();
+      } finally {
+        pinnedRecorder.stop();
+      }
+    } else {
+      BenchmarkRunner runner = new BenchmarkRunner(cfg, drivers, probeSets, weights);
+
+      runner.runBenchmark();
+    }
+
+    testDoneProbe.await();
+  }
+
+  /**
+   * Create the probes that yardstick calls before and after every operation of a workload, in
+   * the order it calls them.
+   *
+   * @param opsPerSecond The target rate of an open loop workload, or 0 for a closed loop
+   * @param histogramConsumer Receives the latency histogram of each interval of the workload
+   */
+  public static List<BenchmarkProbe> createOperationProbes(double opsPerSecond,
+      Consumer<List<Histogram>> histogramConsumer) {
+    List<BenchmarkProbe> probes = new ArrayList<>();
+    if (opsPerSecond > 0) {
+      OpenLoopProbe openLoopProbe = new OpenLoopProbe(opsPerSecond);
+      probes.add(openLoopProbe);
+      probes.add(new HdrHistogramProbe(histogramConsumer, openLoopProbe));
+    } else {
+      probes.add(new HdrHistogramProbe(histogramConsumer));
+    }
+    probes.add(new ThroughputLatencyProbe());
+    probes.add(new PercentileProbe());
+    return probes;
+  }
+
+  /**
+   * Create the yardstick configuration for a driver, which is passed to
+   * {@link BenchmarkDriver#setUp(BenchmarkConfiguration)}. The driver is the only member running
+   * the workload.
+   */
+  public static BenchmarkConfiguration createConfiguration(BenchmarkDriver benchmark,
+      WorkloadConfig workloadConfig, File outputDir) {
+    return createConfiguration(benchmark, workloadConfig, workloadConfig.getThreads(),
+        outputDir, 0, 1);
+  }
+
+  /**
+   * Create the yardstick configuration for a driver run on the JVMs of the given roles. The
+   * JVMs are numbered from 0 in the order of their ids, and the number of this JVM is its
+   * {@link BenchmarkConfiguration#memberId()}, so that drivers can divide their work between
+   * them.
+   *
+   * @param roles The roles the workload runs on
+   */
+  public static BenchmarkConfiguration createConfiguration(BenchmarkDriver benchmark,
+      WorkloadConfig workloadConfig, TestContext context, String... roles) {
+    return createConfiguration(benchmark, workloadConfig, workloadConfig.getThreads(), context,
+        roles);
+  }
+
+  /**
+   * The number of JVMs running the workload, each of which has its own
+   * {@link BenchmarkConfiguration#memberId()} below this number.
+   */
+  public static int getMemberCount(BenchmarkConfiguration cfg) {
+    final Map<String, String> properties = cfg.customProperties();
+    return properties == null || !properties.containsKey(MEMBER_COUNT) ? 1
+        : Integer.parseInt(properties.get(MEMBER_COUNT));
+  }
+
+  private static BenchmarkConfiguration createConfiguration(BenchmarkDriver benchmark,
+      WorkloadConfig workloadConfig, int threads, TestContext context, String[] roles) {
+    final SortedSet<Integer> members = new TreeSet<>();
+    for (String role : roles) {
+      members.addAll(context.getHostsIDsForRole(role));
+    }
+    // A JVM outside the roles, such as an observer, runs the workload alone if it runs it at all.
+    if (!members.contains(context.getJvmID())) {
+      return createConfiguration(benchmark, workloadConfig, threads, context.getOutputDir(), 0,
+          1);
+    }
+    return createConfiguration(benchmark, workloadConfig, threads, context.getOutputDir(),
+        members.headSet(context.getJvmID()).size(), members.size());
+  }
+
+  private static BenchmarkConfiguration createConfiguration(BenchmarkDriver benchmark,
+      WorkloadConfig workloadConfig, int threads, File outputDir, int memberId,
+      int memberCount) {
     BenchmarkConfiguration cfg = new BenchmarkConfiguration() {
       @Override
       public List<String> driverNames() {
@@ -72,12 +244,17 @@ public class YardstickTask implements Task {
 
       @Override
       public int threads() {
-        return workloadConfig.getThreads();
+        return threads;
+      }
+
+      @Override
+      public int memberId() {
+        return memberId;
       }
 
       @Override
       public String outputFolder() {
-        return context.getOutputDir().getAbsolutePath();
+        return outputDir.getAbsolutePath();
       }
 
       @Override
@@ -85,28 +262,56 @@ public class YardstickTask implements Task {
         return YARDSTICK_OUTPUT;
       }
     };
+    final Map<String, String> properties = new HashMap<>();
+    properties.put(MEMBER_COUNT, String.valueOf(memberCount));
+    cfg.customProperties(properties);
     cfg.output(System.out);
+    return cfg;
+  }
 
-    BenchmarkDriver[] drivers = new BenchmarkDriver[] {benchmark};
-    benchmark.setUp(cfg);
+  /**
+   * Stands in for the driver on an observer, so that yardstick runs the phases of the workload
+   * and tears the driver down after it without calling {@link BenchmarkDriver#test(Map)}.
+   */
+  private static class ObserverDriver implements BenchmarkDriver {
+    private final BenchmarkDriver driver;
 
-    TestDoneProbe testDoneProbe = new TestDoneProbe();
-    Collection<BenchmarkProbe> probes =
-        Arrays.asList(new HdrHistogramProbe(new HdrHistogramWriter(context.getOutputDir())),
-            new ThroughputLatencyProbe(),
-            new PercentileProbe(), new VmStatProbe(),
-            testDoneProbe);
-    BenchmarkLoader loader = new BenchmarkLoader();
-    loader.initialize(cfg);
+    ObserverDriver(BenchmarkDriver driver) {
+      this.driver = driver;
+    }
 
-    BenchmarkProbeSet probeSet = new BenchmarkProbeSet(benchmark, cfg, probes, loader);
-    BenchmarkProbeSet[] probeSets = new BenchmarkProbeSet[] {probeSet};
-    int[] weights = new int[] {1};
+    @Override
+    public void setUp(BenchmarkConfiguration cfg) {}
 
-    BenchmarkRunner runner = new BenchmarkRunner(cfg, drivers, probeSets, weights);
+    @Override
+    public boolean test(Map<Object, Object> ctx) {
+      LockSupport.parkNanos(OBSERVER_IDLE_NANOS);
+      return true;
+    }
 
-    runner.runBenchmark();
+    @Override
+    public void tearDown() throws Exception {
+      driver.tearDown();
+    }
 
-    testDoneProbe.await();
+    @Override
+    public String description() {
+      return driver.description();
+    }
+
+    @Override
+    public String usage() {
+      return driver.usage();
+    }
+
+    @Override
+    public void onWarmupFinished() {
+      driver.onWarmupFinished();
+    }
+
+    @Override
+    public void onException(Throwable e) {
+      driver.onException(e);
+    }
   }
 }
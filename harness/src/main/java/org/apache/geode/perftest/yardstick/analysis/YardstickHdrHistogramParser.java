@@ -19,17 +19,22 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.HdrHistogram.Histogram;
 import org.HdrHistogram.HistogramLogReader;
-import org.yardstickframework.probes.PercentileProbe;
 
 import org.apache.geode.perftest.analysis.ProbeResultParser;
 import org.apache.geode.perftest.yardstick.hdrhistogram.HdrHistogramWriter;
 
 /**
- * Parses the output from {@link PercentileProbe} and reports the
- * 99% percentile latency in microseconds.
+ * Parses the interval histograms written by {@link HdrHistogramWriter} and reports the
+ * latency percentiles and throughput over all of the intervals.
+ *
+ * Intervals tagged with the name of an operation of a
+ * {@link org.apache.geode.perftest.MultiOperationDriver} are kept apart from the combined
+ * intervals, and the throughput and latency of each operation are reported as well.
  */
 public class YardstickHdrHistogramParser implements ProbeResultParser {
   public static final String sensorOutputFile = HdrHistogramWriter.FILE_NAME;
@@ -39,23 +44,59 @@ public class YardstickHdrHistogramParser implements ProbeResultParser {
 
   public Histogram histogram = null;
 
+  /**
+   * The histogram of each tagged operation, by name.
+   */
+  public final Map<String, Histogram> operations = new TreeMap<>();
+
   public void parseResults(File resultDir) throws IOException {
-    File sensorData = new File(resultDir.getParent(), sensorOutputFile);
+    parseHistogramLog(new File(resultDir.getParent(), sensorOutputFile));
+  }
 
+  /**
+   * Add the untagged intervals in the given histogram log to {@link #histogram}, and the tagged
+   * intervals to {@link #operations}.
+   */
+  public void parseHistogramLog(File sensorData) throws IOException {
     HistogramLogReader reader = new HistogramLogReader(sensorData);
 
-    final Histogram nextIntervalHistogram = (Histogram) reader.nextIntervalHistogram();
+    Histogram previous = null;
+    Histogram nextIntervalHistogram;
+    while ((nextIntervalHistogram = (Histogram) reader.nextIntervalHistogram()) != null) {
+      final String tag = nextIntervalHistogram.getTag();
+      if (tag != null) {
+        operations.put(tag, add(operations.get(tag), nextIntervalHistogram));
+        continue;
+      }
+      // Logs from older versions hold the same summary histogram twice.
+      if (!isRepeated(previous, nextIntervalHistogram)) {
+        histogram = add(histogram, nextIntervalHistogram);
+      }
+      previous = nextIntervalHistogram;
+    }
+  }
 
-    if (histogram == null) {
-      histogram = nextIntervalHistogram;
-    } else {
-      histogram.add(nextIntervalHistogram);
+  private static Histogram add(Histogram total, Histogram interval) {
+    if (total == null) {
+      return interval.copy();
     }
+    total.add(interval);
+    total.setStartTimeStamp(Math.min(total.getStartTimeStamp(), interval.getStartTimeStamp()));
+    total.setEndTimeStamp(Math.max(total.getEndTimeStamp(), interval.getEndTimeStamp()));
+    return total;
+  }
+
+  private static boolean isRepeated(Histogram previous, Histogram interval) {
+    return previous != null
+        && previous.getStartTimeStamp() == interval.getStartTimeStamp()
+        && previous.getEndTimeStamp() == interval.getEndTimeStamp()
+        && previous.equals(interval);
   }
 
   @Override
   public void reset() {
     histogram = null;
+    operations.clear();
   }
 
   @Override
@@ -69,8 +110,20 @@ public class YardstickHdrHistogramParser implements ProbeResultParser {
     results.add(new ResultData("latency standard deviation", histogram.getStdDeviation()));
     results.add(new ResultData("latency standard error",
         histogram.getStdDeviation() / Math.sqrt(histogram.getTotalCount())));
-    results.add(new ResultData(AVERAGE_OPS_SECOND, ((double) histogram.getTotalCount())
-        / (histogram.getEndTimeStamp() - histogram.getStartTimeStamp()) * 1000));
+    results.add(new ResultData(AVERAGE_OPS_SECOND, getOpsPerSecond(histogram)));
+    for (Map.Entry<String, Histogram> operation : operations.entrySet()) {
+      final String name = operation.getKey();
+      final Histogram latencies = operation.getValue();
+      results.add(new ResultData(name + " " + AVERAGE_OPS_SECOND, getOpsPerSecond(latencies)));
+      results.add(new ResultData(name + " " + AVERAGE_LATENCY, latencies.getMean()));
+      results.add(new ResultData(name + " " + PERCENTILE_LATENCY_99,
+          latencies.getValueAtPercentile(99)));
+    }
     return results;
   }
+
+  private static double getOpsPerSecond(Histogram histogram) {
+    return ((double) histogram.getTotalCount())
+        / (histogram.getEndTimeStamp() - histogram.getStartTimeStamp()) * 1000;
+  }
 }
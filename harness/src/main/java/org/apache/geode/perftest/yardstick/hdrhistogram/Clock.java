@@ -17,7 +17,7 @@
 
 package org.apache.geode.perftest.yardstick.hdrhistogram;
 
-interface Clock {
+public interface Clock {
 
   long currentTimeNanos();
 
@@ -20,14 +20,20 @@ package org.apache.geode.perftest.yardstick.hdrhistogram;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import org.HdrHistogram.Histogram;
+import org.HdrHistogram.PackedHistogram;
+import org.HdrHistogram.Recorder;
+import org.HdrHistogram.SingleWriterRecorder;
+import org.HdrHistogram.ValueRecorder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.yardstickframework.BenchmarkConfiguration;
@@ -36,73 +42,199 @@ import org.yardstickframework.BenchmarkExecutionAwareProbe;
 import org.yardstickframework.BenchmarkProbePoint;
 import org.yardstickframework.BenchmarkTotalsOnlyProbe;
 
+import org.apache.geode.perftest.MultiOperationDriver;
+import org.apache.geode.perftest.OperationRecorder;
+
 /**
  * Probe which returns generates throughput and latency information
  * using HdrHistogram.
  *
- * This probe currently just reports a single summary of the histogram
- * at the end of the test. HdrHistogram actually has a lot of nice support for
- * recording histogram values at time intervals to a file and visualizing the results.
- * See SingleWriterRecorder, HistogramLogWriter, and HisogramLogAnalyzer.
+ * Each thread records into its own {@link SingleWriterRecorder}. Every time yardstick builds a
+ * point, once a second, the recorders are swapped out into an interval histogram, so the
+ * consumer is given the latency of each interval of the test rather than a single summary. That
+ * lets the latency over time, and any hiccups, be reconstructed from the log.
  *
- * TODO consider writing per interval histograms using HistogramLogWriter
+ * If the driver is a {@link MultiOperationDriver}, each interval is followed by an interval for
+ * each of its operations, tagged with the name of the operation. An {@link #observer observer}
+ * logs only those tagged intervals.
  */
 public class HdrHistogramProbe implements BenchmarkExecutionAwareProbe, BenchmarkTotalsOnlyProbe {
   private static final Logger logger = LoggerFactory.getLogger(HdrHistogramProbe.class);
 
+  /**
+   * Above this many threads, for example when running on virtual threads, a recorder per thread
+   * uses too much memory, so all threads record into a single concurrent recorder instead.
+   */
+  static final int MAX_HISTOGRAMS = 1024;
+
   private final int lower;
   private long upper;
   private final int numDigits;
   private final Clock clock;
-  private final Consumer<Histogram> histogramConsumer;
+  private final StartTimeProvider startTimeProvider;
+  private final Consumer<List<Histogram>> histogramConsumer;
+  private final boolean observer;
   private long[] startTimes;
-  private Histogram[] histograms;
+  private ValueRecorder[] recorders;
+  private OperationRecorder operationRecorder;
+  private Histogram scratch;
+  private Histogram interval;
+  private Histogram total;
+  private final List<Histogram> intervals = new ArrayList<>();
+  private long intervalStartTimeStamp;
   private AtomicBoolean warmUpFinished = new AtomicBoolean(false);
 
-  public HdrHistogramProbe(Consumer<Histogram> histogramConsumer) {
+  public HdrHistogramProbe(Consumer<List<Histogram>> histogramConsumer) {
     this(1, TimeUnit.HOURS.toNanos(5), 3, () -> System.nanoTime(), histogramConsumer);
   }
 
+  /**
+   * Create a probe that measures latency from the time reported by the startTimeProvider rather
+   * than the time the operation actually started.
+   */
+  public HdrHistogramProbe(Consumer<List<Histogram>> histogramConsumer,
+      StartTimeProvider startTimeProvider) {
+    this(1, TimeUnit.HOURS.toNanos(5), 3, () -> System.nanoTime(), startTimeProvider,
+        histogramConsumer);
+  }
+
   public HdrHistogramProbe(int lower, long upper, int numDigits, Clock clock,
-      Consumer<Histogram> histogramConsumer) {
+      Consumer<List<Histogram>> histogramConsumer) {
+    this(lower, upper, numDigits, clock, threadIdx -> clock.currentTimeNanos(),
+        histogramConsumer);
+  }
+
+  public HdrHistogramProbe(int lower, long upper, int numDigits, Clock clock,
+      StartTimeProvider startTimeProvider, Consumer<List<Histogram>> histogramConsumer) {
+    this(lower, upper, numDigits, clock, startTimeProvider, histogramConsumer, false);
+  }
+
+  private HdrHistogramProbe(int lower, long upper, int numDigits, Clock clock,
+      StartTimeProvider startTimeProvider, Consumer<List<Histogram>> histogramConsumer,
+      boolean observer) {
     this.lower = lower;
     this.upper = upper;
     this.numDigits = numDigits;
     this.clock = clock;
+    this.startTimeProvider = startTimeProvider;
     this.histogramConsumer = histogramConsumer;
+    this.observer = observer;
+  }
+
+  /**
+   * Create a probe for a JVM that only observes the operations of a {@link MultiOperationDriver}
+   * run on other JVMs, see {@link MultiOperationDriver#getObserverRoles()}. The calls yardstick
+   * makes while the driver is observed are not recorded, so the log holds only the operations
+   * the driver records itself.
+   */
+  public static HdrHistogramProbe observer(Consumer<List<Histogram>> histogramConsumer) {
+    final Clock clock = () -> System.nanoTime();
+    return new HdrHistogramProbe(1, TimeUnit.HOURS.toNanos(5), 3, clock,
+        threadIdx -> clock.currentTimeNanos(), histogramConsumer, true);
   }
 
   @Override
   public void beforeExecute(int threadIdx) {
-    startTimes[threadIdx] = clock.currentTimeNanos();
+    startTimes[threadIdx] = startTimeProvider.startTimeNanos(threadIdx);
   }
 
   @Override
   public void afterExecute(int threadIdx) {
-    histograms[threadIdx].recordValue(clock.currentTimeNanos() - startTimes[threadIdx]);
+    if (observer) {
+      return;
+    }
+    // A call that blocks for longer than the whole run, such as one made while a member is still
+    // starting, is recorded as the longest latency the histograms track.
+    final long latency = Math.min(clock.currentTimeNanos() - startTimes[threadIdx], upper);
+    recorders[threadIdx % recorders.length].recordValue(latency);
+    if (operationRecorder != null) {
+      operationRecorder.recordCall(latency);
+    }
   }
 
   @Override
   public void start(BenchmarkDriver drv, BenchmarkConfiguration cfg) throws Exception {
     final int threads = cfg.threads();
-    upper = SECONDS.toNanos(cfg.duration());
+    // An open loop workload that falls behind its schedule can record latencies that span the
+    // warmup as well as the measured duration.
+    upper = SECONDS.toNanos(cfg.warmup() + cfg.duration());
+    if (drv instanceof MultiOperationDriver) {
+      final MultiOperationDriver driver = (MultiOperationDriver) drv;
+      setOperationRecorder(
+          new OperationRecorder(driver.getOperationNames(), upper, numDigits));
+      driver.setOperationRecorder(operationRecorder);
+    }
     start(threads);
 
   }
 
-  void start(int threads) {
+  synchronized void setOperationRecorder(OperationRecorder operationRecorder) {
+    this.operationRecorder = operationRecorder;
+  }
+
+  synchronized void start(int threads) {
     startTimes = new long[threads];
-    histograms = new Histogram[threads];
+    if (threads > MAX_HISTOGRAMS) {
+      recorders = new ValueRecorder[] {new Recorder(lower, upper, numDigits)};
+    } else {
+      recorders = new ValueRecorder[threads];
+      for (int i = 0; i < threads; i++) {
+        recorders[i] = new SingleWriterRecorder(lower, upper, numDigits);
+      }
+    }
+    scratch = new Histogram(lower, upper, numDigits);
+    interval = new Histogram(lower, upper, numDigits);
+    total = new Histogram(lower, upper, numDigits);
+
+    reset(System.currentTimeMillis());
+  }
 
-    reset();
+  private synchronized void reset(long timeStampMsec) {
+    for (final ValueRecorder recorder : recorders) {
+      recorder.reset();
+    }
+    if (operationRecorder != null) {
+      operationRecorder.reset();
+    }
+    intervals.clear();
+    total.reset();
+    total.setStartTimeStamp(timeStampMsec);
+    intervalStartTimeStamp = timeStampMsec;
   }
 
-  private void reset() {
-    final long timeStampMsec = System.currentTimeMillis();
-    for (int i = 0; i < histograms.length; i++) {
-      histograms[i] = new Histogram(lower, upper, numDigits);
-      histograms[i].setStartTimeStamp(timeStampMsec);
+  /**
+   * Swap out everything recorded since the last interval into a new interval ending at the given
+   * time.
+   */
+  private synchronized void recordInterval(long timeStampMsec) {
+    interval.reset();
+    for (final ValueRecorder recorder : recorders) {
+      if (recorder instanceof SingleWriterRecorder) {
+        ((SingleWriterRecorder) recorder).getIntervalHistogramInto(scratch);
+      } else {
+        ((Recorder) recorder).getIntervalHistogramInto(scratch);
+      }
+      interval.add(scratch);
+    }
+    interval.setStartTimeStamp(intervalStartTimeStamp);
+    interval.setEndTimeStamp(timeStampMsec);
+    total.add(interval);
+    total.setEndTimeStamp(timeStampMsec);
+
+    if (!observer) {
+      // Most buckets of an interval are empty, so keep them packed until they are written.
+      final Histogram packed = new PackedHistogram(interval);
+      packed.add(interval);
+      packed.setStartTimeStamp(intervalStartTimeStamp);
+      packed.setEndTimeStamp(timeStampMsec);
+      intervals.add(packed);
+    }
+    if (operationRecorder != null) {
+      intervals.addAll(
+          operationRecorder.getIntervalHistograms(intervalStartTimeStamp, timeStampMsec));
     }
+
+    intervalStartTimeStamp = timeStampMsec;
   }
 
   @Override
@@ -117,9 +249,15 @@ public class HdrHistogramProbe implements BenchmarkExecutionAwareProbe, Benchmar
 
   @Override
   public Collection<BenchmarkProbePoint> points() {
-    final Histogram aggregate = getHistogram();
-    if (warmUpFinished.compareAndSet(false, true)) {
-      reset();
+    final Histogram aggregate;
+    final List<Histogram> loggedIntervals;
+    synchronized (this) {
+      aggregate = getHistogram();
+      loggedIntervals = getIntervals();
+    }
+    final boolean endOfWarmup = warmUpFinished.compareAndSet(false, true);
+    if (endOfWarmup) {
+      reset(aggregate.getEndTimeStamp());
     }
 
     final double mean = aggregate.getMean();
@@ -128,10 +266,16 @@ public class HdrHistogramProbe implements BenchmarkExecutionAwareProbe, Benchmar
     final BenchmarkProbePoint point =
         new BenchmarkProbePoint(aggregate.getEndTimeStamp(), new double[] {mean, percentile99});
 
+    // Yardstick holds all of the workload threads while it collects the points at the end of the
+    // warmup, so only log the histograms once the workload has finished.
+    if (endOfWarmup) {
+      return Collections.singleton(point);
+    }
+
     for (int r = 0; r < 5; ++r) {
       try {
         logger.info("Saving histogram. r={}", r);
-        histogramConsumer.accept(aggregate);
+        histogramConsumer.accept(loggedIntervals);
       } catch (Exception e) {
         logger.error("Failed to save histogram. aggregate={}", aggregate.getTag(), e);
         try {
@@ -147,16 +291,23 @@ public class HdrHistogramProbe implements BenchmarkExecutionAwareProbe, Benchmar
 
   @Override
   public void buildPoint(long time) {
+    recordInterval(time);
+  }
 
+  /**
+   * The histogram of everything recorded since the start, or since the end of the warmup.
+   */
+  public synchronized Histogram getHistogram() {
+    recordInterval(System.currentTimeMillis());
+    return total.copy();
   }
 
-  public Histogram getHistogram() {
-    final Histogram aggregate = new Histogram(lower, upper, numDigits);
-    for (final Histogram histogram : histograms) {
-      aggregate.add(histogram);
-    }
-    aggregate.setEndTimeStamp(System.currentTimeMillis());
-    return aggregate;
+  /**
+   * The interval histograms recorded since the start, or since the end of the warmup, in order.
+   * The intervals of each operation of a {@link MultiOperationDriver} are tagged.
+   */
+  public synchronized List<Histogram> getIntervals() {
+    return new ArrayList<>(intervals);
   }
 
   public boolean isWarmupFinished() {
@@ -17,13 +17,21 @@ package org.apache.geode.perftest.yardstick.hdrhistogram;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.HdrHistogram.Histogram;
 import org.HdrHistogram.HistogramLogProcessor;
 import org.HdrHistogram.HistogramLogWriter;
 
-public class HdrHistogramWriter implements Consumer<Histogram> {
+/**
+ * Writes interval histograms, in order, to a {@link HistogramLogWriter} log, and summarizes the
+ * log with {@link HistogramLogProcessor}. The summaries include the percentiles of each interval
+ * as well as of the whole log. Only the untagged intervals are summarized, so a log without any,
+ * such as that of a JVM that only observes the operations of others, is written but not
+ * summarized.
+ */
+public class HdrHistogramWriter implements Consumer<List<Histogram>> {
 
   public static final String FILE_NAME = "latency.hlog";
   public static final String FILE_NAME_CSV = "latency_csv";
@@ -40,16 +48,29 @@ public class HdrHistogramWriter implements Consumer<Histogram> {
   }
 
   @Override
-  public void accept(Histogram histogram) {
+  public void accept(List<Histogram> intervals) {
 
     try {
       HistogramLogWriter writer = new HistogramLogWriter(outputFile);
       try {
-        writer.outputIntervalHistogram(histogram);
-        writer.outputIntervalHistogram(histogram);
+        final long startTimeStamp =
+            intervals.isEmpty() ? System.currentTimeMillis() : intervals.get(0).getStartTimeStamp();
+        writer.outputLogFormatVersion();
+        writer.outputStartTime(startTimeStamp);
+        writer.setBaseTime(startTimeStamp);
+        writer.outputBaseTime(startTimeStamp);
+        writer.outputLegend();
+        for (Histogram interval : intervals) {
+          writer.outputIntervalHistogram(interval);
+        }
       } finally {
         writer.close();
       }
+      if (intervals.stream().allMatch(interval -> interval.getTag() != null)) {
+        // There is nothing to summarize, and the processor fails on a log without untagged
+        // histograms.
+        return;
+      }
       HistogramLogProcessor histogramLogProcessor =
           new HistogramLogProcessor(new String[] {"-v", "-i", outputFile.getAbsolutePath(), "-o",
               outputHDRFile.getAbsolutePath()});
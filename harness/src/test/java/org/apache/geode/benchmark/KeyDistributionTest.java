@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class KeyDistributionTest {
+
+  private static final int SAMPLES = 100_000;
+
+  static Stream<KeyDistribution> distributions() {
+    return Stream.of(new UniformKeyDistribution(), new ZipfianKeyDistribution(0.99),
+        new HotspotKeyDistribution(0.2, 0.8), new LatestKeyDistribution(0.99),
+        new SequentialKeyDistribution());
+  }
+
+  @ParameterizedTest
+  @MethodSource("distributions")
+  void choosesKeysInRange(KeyDistribution distribution) {
+    for (int i = 0; i < SAMPLES; i++) {
+      assertThat(distribution.next(10, 1010)).isBetween(10L, 1009L);
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("distributions")
+  void choosesTheOnlyKeyOfASingleKeyRange(KeyDistribution distribution) {
+    assertThat(distribution.next(5, 6)).isEqualTo(5);
+  }
+
+  @ParameterizedTest
+  @MethodSource("distributions")
+  void canBeSerializedWithARange(KeyDistribution distribution) throws Exception {
+    final LongRange range = new LongRange(0, 100, distribution);
+    range.random();
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(range);
+    }
+    final LongRange copy;
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      copy = (LongRange) in.readObject();
+    }
+
+    assertThat(copy.getDistribution()).hasToString(distribution.toString());
+    assertThat(copy.random()).isBetween(0L, 99L);
+  }
+
+  @Test
+  void parsesEachDistribution() {
+    assertThat(KeyDistribution.parse("uniform")).isInstanceOf(UniformKeyDistribution.class);
+    assertThat(KeyDistribution.parse("zipfian")).hasToString("zipfian:0.99");
+    assertThat(KeyDistribution.parse("Zipfian:0.5")).hasToString("zipfian:0.5");
+    assertThat(KeyDistribution.parse("hotspot")).hasToString("hotspot:0.2:0.8");
+    assertThat(KeyDistribution.parse("hotspot:0.1")).hasToString("hotspot:0.1:0.8");
+    assertThat(KeyDistribution.parse("hotspot:0.1:0.9")).hasToString("hotspot:0.1:0.9");
+    assertThat(KeyDistribution.parse("latest:0.8")).hasToString("latest:0.8");
+    assertThat(KeyDistribution.parse("sequential")).isInstanceOf(SequentialKeyDistribution.class);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "normal", "uniform:1", "zipfian:1", "zipfian:0", "zipfian:high",
+      "hotspot:1.5", "hotspot:0.2:0.8:1", "latest:-1"})
+  void rejectsInvalidSpecifications(String specification) {
+    assertThatThrownBy(() -> KeyDistribution.parse(specification))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining(specification);
+  }
+
+  @Test
+  void zipfianChoosesAFewKeysMostOften() {
+    final long[] counts = sample(new ZipfianKeyDistribution(0.99), 1000);
+
+    final long max = Arrays.stream(counts).max().getAsLong();
+    // The most popular of 1000 keys is chosen about 1 / zeta(1000, 0.99) = 13% of the time.
+    assertThat((double) max / SAMPLES).isBetween(0.10, 0.17);
+  }
+
+  @Test
+  void hotspotChoosesTheHotSetForTheHotOperationFraction() {
+    final long[] counts = sample(new HotspotKeyDistribution(0.1, 0.9), 1000);
+
+    long hot = 0;
+    for (int i = 0; i < 100; i++) {
+      hot += counts[i];
+    }
+    assertThat((double) hot / SAMPLES).isBetween(0.88, 0.92);
+  }
+
+  @Test
+  void latestChoosesTheLatestInsertedKeyMostOften() {
+    final LatestKeyDistribution distribution = new LatestKeyDistribution(0.99);
+    assertThat(mostFrequent(sample(distribution, 1000))).isEqualTo(999);
+
+    assertThat(distribution.nextInsert(0, 1000)).isEqualTo(0);
+    assertThat(distribution.nextInsert(0, 1000)).isEqualTo(1);
+    assertThat(mostFrequent(sample(distribution, 1000))).isEqualTo(1);
+  }
+
+  @Test
+  void latestInsertsEveryStrideKeysFromTheOffset() {
+    final LatestKeyDistribution distribution = new LatestKeyDistribution(0.99);
+    assertThat(Stream.generate(() -> distribution.nextInsert(0, 10, 1, 3)).limit(5))
+        .containsExactly(1L, 4L, 7L, 1L, 4L);
+    assertThat(mostFrequent(sample(distribution, 10))).isEqualTo(4);
+  }
+
+  @Test
+  void sequentialChoosesEachKeyInOrder() {
+    final SequentialKeyDistribution distribution = new SequentialKeyDistribution();
+    assertThat(Stream.generate(() -> distribution.next(3, 6)).limit(7))
+        .containsExactly(3L, 4L, 5L, 3L, 4L, 5L, 3L);
+  }
+
+  @Test
+  void approximatesZetaOfLargeRanges() {
+    final long items = ZipfianGenerator.EXACT_ZETA_ITEMS * 2;
+    double exact = 0;
+    for (long i = 1; i <= items; i++) {
+      exact += 1 / Math.pow(i, 0.99);
+    }
+    assertThat(ZipfianGenerator.zeta(items, 0.99)).isCloseTo(exact, within(exact * 1e-9));
+  }
+
+  private static long[] sample(KeyDistribution distribution, int keys) {
+    final long[] counts = new long[keys];
+    for (int i = 0; i < SAMPLES; i++) {
+      counts[(int) distribution.next(0, keys)]++;
+    }
+    return counts;
+  }
+
+  private static int mostFrequent(long[] counts) {
+    int mostFrequent = 0;
+    for (int i = 1; i < counts.length; i++) {
+      if (counts[i] > counts[mostFrequent]) {
+        mostFrequent = i;
+      }
+    }
+    return mostFrequent;
+  }
+}
@@ -60,6 +60,14 @@ class LongRangeTest {
     assertThat(new LongRange(0, Long.MAX_VALUE).size()).isEqualTo(Long.MAX_VALUE);
   }
 
+  @Test
+  void randomFollowsTheDistribution() {
+    final LongRange range = new LongRange(3, 5, new SequentialKeyDistribution());
+    assertThat(range.random()).isEqualTo(3);
+    assertThat(range.random()).isEqualTo(4);
+    assertThat(range.random()).isEqualTo(3);
+  }
+
   @Test
   void sliceWhole() {
     final LongRange[] slices = new LongRange(0, 50).slice(5);
@@ -88,6 +96,21 @@ class LongRangeTest {
         .isEqualTo(new LongRange(10000, 4611686018427392904L));
   }
 
+  @Test
+  void sliceForKeepsTheDistribution() {
+    final LongRange slice =
+        new LongRange(0, 50, new ZipfianKeyDistribution(0.5)).sliceFor(5, 2);
+    assertThat(slice).isEqualTo(new LongRange(20, 30, new ZipfianKeyDistribution(0.5)));
+    assertThat(slice.getDistribution()).hasToString("zipfian:0.5");
+  }
+
+  @Test
+  void rangesWithDifferentDistributionsAreNotEqual() {
+    assertThat(new LongRange(0, 50, new ZipfianKeyDistribution(0.5)))
+        .isNotEqualTo(new LongRange(0, 50))
+        .isNotEqualTo(new LongRange(0, 50, new ZipfianKeyDistribution(0.9)));
+  }
+
   @Test
   void sliceForThrowsIndexOutOfBoundsException() {
     final LongRange range = new LongRange(0, 50);
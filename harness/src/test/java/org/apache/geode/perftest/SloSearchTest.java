@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SloSearchTest {
+
+  @TempDir
+  Path folder;
+
+  @Test
+  public void parsesSpecification() {
+    SloSearch search = SloSearch.parse("p99.9:2.5:1000:100000:8:30");
+
+    assertThat(search.getPercentile()).isEqualTo(99.9);
+    assertThat(search.getLatencyMillis()).isEqualTo(2.5);
+    assertThat(search.getMinOpsPerSecond()).isEqualTo(1000);
+    assertThat(search.getMaxOpsPerSecond()).isEqualTo(100000);
+    assertThat(search.getTrials()).isEqualTo(8);
+    assertThat(search.getHoldSeconds()).isEqualTo(30);
+    assertThat(search.getDescription()).isEqualTo("max ops/second with p99.9 < 2.5ms");
+    assertThat(SloSearch.parse("99:2:1000:100000:8:30").getDescription())
+        .isEqualTo("max ops/second with p99 < 2ms");
+  }
+
+  @Test
+  public void rejectsInvalidSpecification() {
+    assertThatThrownBy(() -> SloSearch.parse("99:2:1000:100000:8"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> SloSearch.parse("101:2:1000:100000:8:30"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> SloSearch.parse("99:2:100000:1000:8:30"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> SloSearch.parse("99:2:1000:100000:1:30"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> SloSearch.parse("99:fast:1000:100000:8:30"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void bisectsToTheHighestRateThatMeetsTheObjective() {
+    SloSearch search = SloSearch.parse("99:2:1000:101000:10:30");
+    List<Long> trials = new ArrayList<>();
+
+    long result = search.search(opsPerSecond -> {
+      trials.add(opsPerSecond);
+      return opsPerSecond <= 40000;
+    });
+
+    assertThat(trials).hasSize(10);
+    assertThat(trials.subList(0, 4)).containsExactly(1000L, 101000L, 51000L, 26000L);
+    assertThat(result).isLessThanOrEqualTo(40000).isGreaterThan(39000);
+  }
+
+  @Test
+  public void stopsWhenTheMinimumDoesNotMeetTheObjective() {
+    List<Long> trials = new ArrayList<>();
+
+    long result = SloSearch.parse("99:2:1000:100000:8:30").search(opsPerSecond -> {
+      trials.add(opsPerSecond);
+      return false;
+    });
+
+    assertThat(result).isEqualTo(0);
+    assertThat(trials).containsExactly(1000L);
+  }
+
+  @Test
+  public void stopsWhenTheMaximumMeetsTheObjective() {
+    List<Long> trials = new ArrayList<>();
+
+    long result = SloSearch.parse("99:2:1000:100000:8:30").search(opsPerSecond -> {
+      trials.add(opsPerSecond);
+      return true;
+    });
+
+    assertThat(result).isEqualTo(100000);
+    assertThat(trials).containsExactly(1000L, 100000L);
+  }
+
+  @Test
+  public void objectiveRequiresLatencyAndThroughput() {
+    SloSearch search = SloSearch.parse("99:2:1000:100000:8:30");
+    // 1000 operations a second on each of two JVMs
+    List<Histogram> fast = Arrays.asList(histogram(1000, 1_000_000), histogram(1000, 1_000_000));
+    List<Histogram> slow = Arrays.asList(histogram(1000, 1_000_000), histogram(1000, 3_000_000));
+
+    assertThat(SloSearch.getOpsPerSecond(fast)).isEqualTo(2000);
+    assertThat(search.isMet(fast, 2000)).isTrue();
+    assertThat(search.isMet(fast, 2500)).isFalse();
+    assertThat(search.isMet(slow, 2000)).isFalse();
+    assertThat(search.isMet(Collections.emptyList(), 2000)).isFalse();
+  }
+
+  @Test
+  public void canStoreAndLoadResult() throws Exception {
+    SloSearch search = SloSearch.parse("99:2:1000:100000:8:30");
+
+    assertThat(SloSearch.loadResult(folder.toFile())).isNull();
+    search.storeResult(folder.toFile(), 5000);
+
+    Properties result = SloSearch.loadResult(folder.toFile());
+    assertThat(result.getProperty(SloSearch.DESCRIPTION)).isEqualTo(search.getDescription());
+    assertThat(result.getProperty(SloSearch.MAX_OPS_PER_SECOND)).isEqualTo("5000");
+  }
+
+  private static Histogram histogram(int count, long latencyNanos) {
+    Histogram histogram = new Histogram(3);
+    histogram.recordValueWithCount(latencyNanos, count);
+    histogram.setStartTimeStamp(1000);
+    histogram.setEndTimeStamp(2000);
+    return histogram;
+  }
+}
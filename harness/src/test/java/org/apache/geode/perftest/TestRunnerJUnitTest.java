@@ -17,22 +17,32 @@
 
 package org.apache.geode.perftest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.util.Collections;
+import java.util.Properties;
+
+import org.HdrHistogram.Histogram;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InOrder;
 
+import org.apache.geode.perftest.benchmarks.EmptyBenchmark;
 import org.apache.geode.perftest.jvms.RemoteJVMFactory;
 import org.apache.geode.perftest.jvms.RemoteJVMs;
 import org.apache.geode.perftest.runner.DefaultTestRunner;
+import org.apache.geode.perftest.workload.WorkloadTask;
 
 public class TestRunnerJUnitTest {
 
@@ -70,6 +80,35 @@ public class TestRunnerJUnitTest {
     inOrder.verify(remoteJVMs).execute(eq(after), any());
   }
 
+  @Test
+  public void sloSearchRunsWorkloadTrialsAndStoresTheResult() throws Exception {
+    RemoteJVMFactory remoteJvmFactory = mock(RemoteJVMFactory.class);
+    RemoteJVMs remoteJVMs = mock(RemoteJVMs.class);
+    when(remoteJvmFactory.launch(any(), any())).thenReturn(remoteJVMs);
+    // Every trial completes 10000 operations in a second with a latency of 1ms
+    Histogram histogram = new Histogram(3);
+    histogram.recordValueWithCount(1_000_000, 10_000);
+    histogram.setStartTimeStamp(1000);
+    histogram.setEndTimeStamp(2000);
+    when(remoteJVMs.getResults(any())).thenReturn(Collections.singletonList(histogram));
+
+    File outputDir = new File(folder, "sloSearch");
+    TestRunner runner = new DefaultTestRunner(remoteJvmFactory, outputDir);
+
+    PerformanceTest test = () -> {
+      TestConfig config = new TestConfig();
+      config.role("workload", 1);
+      config.sloSearch("99:2:1000:100000:6:1");
+      config.workload(new EmptyBenchmark(), "workload");
+      return config;
+    };
+    runner.runTest(test);
+
+    verify(remoteJVMs, times(6)).execute(isA(WorkloadTask.class), eq("workload"));
+    Properties result = SloSearch.loadResult(new File(outputDir, test.getClass().getName()));
+    assertThat(result.getProperty(SloSearch.MAX_OPS_PER_SECOND)).isEqualTo("7187");
+  }
+
   @Test
   public void requiresAtLeastOneRole() throws Exception {
 
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class WorkloadStageTest {
+
+  @TempDir
+  Path folder;
+
+  @Test
+  public void stepsOpsPerSecondEvenly() {
+    List<WorkloadStage> stages = WorkloadStage.parseSteps("ops:1000:4000:4:30", 16, 0);
+
+    assertThat(stages).extracting(WorkloadStage::getOpsPerSecond)
+        .containsExactly(1000L, 2000L, 3000L, 4000L);
+    assertThat(stages).extracting(WorkloadStage::getThreads).containsOnly(16);
+    assertThat(stages).extracting(WorkloadStage::getDurationSeconds).containsOnly(30L);
+    assertThat(stages).extracting(WorkloadStage::getName)
+        .containsExactly("stage-01", "stage-02", "stage-03", "stage-04");
+  }
+
+  @Test
+  public void stepsThreadsEvenly() {
+    List<WorkloadStage> stages = WorkloadStage.parseSteps("threads:8:64:3:10", 16, 500);
+
+    assertThat(stages).extracting(WorkloadStage::getThreads).containsExactly(8, 36, 64);
+    assertThat(stages).extracting(WorkloadStage::getOpsPerSecond).containsOnly(500L);
+  }
+
+  @Test
+  public void singleStepUsesTheFirstValue() {
+    assertThat(WorkloadStage.parseSteps("ops:1000:4000:1:30", 16, 0))
+        .extracting(WorkloadStage::getOpsPerSecond).containsExactly(1000L);
+  }
+
+  @Test
+  public void rejectsInvalidSteps() {
+    assertThatThrownBy(() -> WorkloadStage.parseSteps("ops:1000:4000:4", 16, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> WorkloadStage.parseSteps("rate:1000:4000:4:30", 16, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> WorkloadStage.parseSteps("ops:0:4000:4:30", 16, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> WorkloadStage.parseSteps("ops:many:4000:4:30", 16, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void canBeStoredAndLoaded() throws Exception {
+    WorkloadStage stage = new WorkloadStage("stage-02", 8, 1000, 30);
+
+    stage.store(folder.toFile());
+
+    assertThat(WorkloadStage.load(folder.toFile())).usingRecursiveComparison().isEqualTo(stage);
+  }
+}
@@ -16,6 +16,7 @@
 package org.apache.geode.perftest.analysis;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -24,12 +25,22 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.io.StringWriter;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import org.HdrHistogram.Histogram;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import org.apache.geode.perftest.RecoveryTimes;
+import org.apache.geode.perftest.SloSearch;
+import org.apache.geode.perftest.yardstick.analysis.YardstickHdrHistogramParser;
 import org.apache.geode.perftest.yardstick.analysis.YardstickPercentileSensorParser;
 import org.apache.geode.perftest.yardstick.analysis.YardstickThroughputSensorParser;
+import org.apache.geode.perftest.yardstick.hdrhistogram.HdrHistogramWriter;
 
 public class BenchmarkRunAnalyzerTest {
 
@@ -140,6 +151,98 @@ public class BenchmarkRunAnalyzerTest {
     assertEquals(expectedBenchmarkResult, results);
   }
 
+  @Test
+  public void comparesSloSearchResults() throws IOException {
+    final File testFolder = temporaryFolder.resolve("testFolder").toFile();
+    final File testBenchmark = new File(testFolder, "BenchmarkA");
+    assertTrue(testBenchmark.mkdirs());
+    final File baseFolder = temporaryFolder.resolve("baseFolder").toFile();
+    final File baseBenchmark = new File(baseFolder, "BenchmarkA");
+    assertTrue(baseBenchmark.mkdirs());
+    final SloSearch search = SloSearch.parse("99:2:1000:100000:8:30");
+    search.storeResult(testBenchmark, 40000);
+    search.storeResult(baseBenchmark, 50000);
+
+    BenchmarkRunResult results = new BenchmarkRunAnalyzer().analyzeTestRun(baseFolder, testFolder);
+
+    BenchmarkRunResult expectedBenchmarkResult = new BenchmarkRunResult();
+    expectedBenchmarkResult.addBenchmark("BenchmarkA")
+        .addProbeResult(search.getDescription(), 50000, 40000);
+    assertEquals(expectedBenchmarkResult, results);
+  }
+
+  @Test
+  public void comparesTheMeanOfEachRecoveryTime() throws IOException {
+    final File testFolder = temporaryFolder.resolve("testFolder").toFile();
+    final File baseFolder = temporaryFolder.resolve("baseFolder").toFile();
+    storeRecoveryTimes(new File(testFolder, "BenchmarkA/server1"), "regionOnlineMillis", "100");
+    storeRecoveryTimes(new File(testFolder, "BenchmarkA/server2"), "regionOnlineMillis", "300");
+    storeRecoveryTimes(new File(testFolder, "BenchmarkA/client1"), "firstRequestMillis", "10");
+    storeRecoveryTimes(new File(baseFolder, "BenchmarkA/server1"), "regionOnlineMillis", "400");
+    storeRecoveryTimes(new File(baseFolder, "BenchmarkA/server2"), "regionOnlineMillis", "400");
+
+    BenchmarkRunResult results = new BenchmarkRunAnalyzer().analyzeTestRun(baseFolder, testFolder);
+
+    final List<BenchmarkRunResult.ProbeResult> probeResults =
+        results.getBenchmarkResults().get(0).probeResults;
+    assertEquals(2, probeResults.size());
+    assertEquals("firstRequestMillis", probeResults.get(0).description);
+    assertTrue(Double.isNaN(probeResults.get(0).baseline));
+    assertEquals(10, probeResults.get(0).test, 0);
+    assertEquals("regionOnlineMillis", probeResults.get(1).description);
+    assertEquals(400, probeResults.get(1).baseline, 0);
+    assertEquals(200, probeResults.get(1).test, 0);
+  }
+
+  private static void storeRecoveryTimes(File dir, String name, String millis) throws IOException {
+    assertTrue(dir.mkdirs());
+    final Properties times = new Properties();
+    times.setProperty(name, millis);
+    RecoveryTimes.storeResult(dir, times);
+  }
+
+  @Test
+  public void comparesOperationsByDescription() throws IOException {
+    final File testClient = temporaryFolder.resolve("testFolder").resolve("BenchmarkA")
+        .resolve("client1").toFile();
+    assertTrue(new File(testClient, "20181121-111516-yardstick-output").mkdirs());
+    final File baseClient = temporaryFolder.resolve("baseFolder").resolve("BenchmarkA")
+        .resolve("client1").toFile();
+    assertTrue(new File(baseClient, "20181121-111516-yardstick-output").mkdirs());
+    new HdrHistogramWriter(testClient).accept(Arrays.asList(
+        interval(null, 2_000), interval("Destroy", 1_000), interval("Get", 1_000)));
+    new HdrHistogramWriter(baseClient).accept(Arrays.asList(
+        interval(null, 2_000), interval("Get", 2_000)));
+
+    BenchmarkRunAnalyzer analyzer = new BenchmarkRunAnalyzer();
+    analyzer.addProbe(new YardstickHdrHistogramParser());
+    BenchmarkRunResult results = analyzer.analyzeTestRun(
+        temporaryFolder.resolve("baseFolder").toFile(),
+        temporaryFolder.resolve("testFolder").toFile());
+
+    final List<BenchmarkRunResult.ProbeResult> probeResults =
+        results.getBenchmarkResults().get(0).probeResults;
+    final List<String> descriptions = probeResults.stream()
+        .map(probeResult -> probeResult.description).collect(Collectors.toList());
+    assertTrue(descriptions.contains("Get " + YardstickHdrHistogramParser.AVERAGE_LATENCY));
+    assertFalse(descriptions.contains("Destroy " + YardstickHdrHistogramParser.AVERAGE_LATENCY));
+    final BenchmarkRunResult.ProbeResult get = probeResults.stream()
+        .filter(probeResult -> probeResult.description
+            .equals("Get " + YardstickHdrHistogramParser.AVERAGE_LATENCY))
+        .findFirst().get();
+    assertEquals(2_000, get.baseline, 2);
+    assertEquals(1_000, get.test, 1);
+  }
+
+  private static Histogram interval(String tag, long latency) {
+    final Histogram histogram = new Histogram(3);
+    histogram.recordValueWithCount(latency, 100);
+    histogram.setTag(tag);
+    histogram.setStartTimeStamp(1_000_000);
+    histogram.setEndTimeStamp(1_001_000);
+    return histogram;
+  }
+
   private void populateThroughputCSV(File targetDirectory, double[] perSecondThroughputs)
       throws FileNotFoundException {
     final File testFile =
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.workload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withinPercentage;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.yardstickframework.BenchmarkDriver;
+
+import org.apache.geode.perftest.MultiOperationDriver;
+import org.apache.geode.perftest.OperationRecorder;
+import org.apache.geode.perftest.benchmarks.EmptyBenchmark;
+
+public class WorkloadEngineTest {
+
+  @Test
+  public void reportsIntervalsAndTotalForMeasurePhase() throws Exception {
+    EmptyBenchmark benchmark = new EmptyBenchmark();
+    RecordingProbe probe = new RecordingProbe();
+
+    new WorkloadEngine(benchmark, 2, 1, 2, 0, Thread::new, Collections.singletonList(probe))
+        .run();
+
+    assertThat(probe.threads).isEqualTo(2);
+    assertThat(probe.phases).containsExactly(WorkloadPhase.MEASURE, WorkloadPhase.COOLDOWN);
+    assertThat(probe.intervalCounts).hasSizeBetween(2, 3);
+    assertThat(probe.total.getTotalCount())
+        .isEqualTo(probe.intervalCounts.stream().mapToLong(Long::longValue).sum())
+        .isGreaterThan(0)
+        .isLessThan(benchmark.getInvocations());
+    assertThat(probe.operations.get()).isGreaterThanOrEqualTo(probe.total.getTotalCount());
+    assertThat(probe.total.getEndTimeStamp() - probe.total.getStartTimeStamp())
+        .isBetween(2_000L, 3_000L);
+  }
+
+  @Test
+  public void runsOpenLoopAtTargetRate() throws Exception {
+    EmptyBenchmark benchmark = new EmptyBenchmark();
+    RecordingProbe probe = new RecordingProbe();
+
+    new WorkloadEngine(benchmark, 2, 0, 2, 100, Thread::new, Collections.singletonList(probe))
+        .run();
+
+    assertThat(probe.total.getTotalCount()).isBetween(150L, 250L);
+  }
+
+  @Test
+  public void sharesRecorderAboveMaxRecorders() throws Exception {
+    EmptyBenchmark benchmark = new EmptyBenchmark();
+    RecordingProbe probe = new RecordingProbe();
+
+    new WorkloadEngine(benchmark, WorkloadEngine.MAX_RECORDERS + 1, 0, 1, 10_000, Thread::new,
+        Collections.singletonList(probe)).run();
+
+    assertThat(probe.total.getTotalCount()).isGreaterThan(0);
+    assertThat(probe.operations.get()).isGreaterThanOrEqualTo(probe.total.getTotalCount());
+  }
+
+  @Test
+  public void reportsEachOperationOfAMultiOperationDriver() throws Exception {
+    RecordingProbe probe = new RecordingProbe();
+
+    new WorkloadEngine(new AlternatingOperations(), 1, 0, 1, 0, Thread::new,
+        Collections.singletonList(probe)).run();
+
+    assertThat(probe.operationIntervals).isNotEmpty();
+    assertThat(probe.operationIntervals.get(0)).extracting(Histogram::getTag)
+        .containsExactly("first", "second");
+    final long operations = probe.operationIntervals.stream()
+        .flatMap(List::stream).mapToLong(Histogram::getTotalCount).sum();
+    // The recorders are swapped one after the other, so operations at the boundaries may be
+    // counted in different intervals.
+    assertThat(operations).isCloseTo(probe.total.getTotalCount(), withinPercentage(1));
+  }
+
+  @Test
+  public void observerReportsOnlyTheOperationsTheDriverRecords() throws Exception {
+    RecordingProbe probe = new RecordingProbe();
+    ObservedOperations driver = new ObservedOperations();
+
+    Thread listener = new Thread(driver::deliver);
+    listener.start();
+    try {
+      WorkloadEngine.observer(driver, 0, 1, Collections.singletonList(probe)).run();
+    } finally {
+      driver.stopped = true;
+      listener.join();
+    }
+
+    assertThat(driver.getInvocations()).isZero();
+    assertThat(probe.phases).containsExactly(WorkloadPhase.MEASURE, WorkloadPhase.COOLDOWN);
+    assertThat(probe.intervalCounts).isEmpty();
+    assertThat(probe.total.getTotalCount()).isZero();
+    assertThat(probe.operationIntervals).isNotEmpty();
+    assertThat(probe.operationIntervals.stream().flatMap(List::stream)
+        .mapToLong(Histogram::getTotalCount).sum()).isGreaterThan(0);
+  }
+
+  @Test
+  public void rethrowsDriverFailure() throws Exception {
+    BenchmarkDriver driver = mock(BenchmarkDriver.class);
+    IllegalStateException failure = new IllegalStateException("failed");
+    when(driver.test(any())).thenThrow(failure);
+    RecordingProbe probe = new RecordingProbe();
+
+    assertThatThrownBy(() -> new WorkloadEngine(driver, 2, 1, 1, 0, Thread::new,
+        Collections.singletonList(probe)).run()).hasCause(failure);
+
+    verify(driver, atLeastOnce()).onException(failure);
+    assertThat(probe.total).isNotNull();
+  }
+
+  @Test
+  public void keepsDriverFailureWhenAProbeFailsToStop() throws Exception {
+    BenchmarkDriver driver = mock(BenchmarkDriver.class);
+    IllegalStateException failure = new IllegalStateException("failed");
+    when(driver.test(any())).thenThrow(failure);
+    IllegalStateException stopFailure = new IllegalStateException("stop failed");
+    WorkloadProbe probe = new WorkloadProbe() {
+      @Override
+      public void stop(Histogram total) {
+        throw stopFailure;
+      }
+    };
+
+    assertThatThrownBy(() -> new WorkloadEngine(driver, 1, 0, 1, 0, Thread::new,
+        Collections.singletonList(probe)).run()).hasCause(failure)
+            .hasSuppressedException(stopFailure);
+  }
+
+  @Test
+  public void requiresAtLeastOneThread() {
+    assertThatThrownBy(() -> new WorkloadEngine(new EmptyBenchmark(), 0, 0, 1, 0, Thread::new,
+        Collections.emptyList())).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static class RecordingProbe implements WorkloadProbe {
+    private int threads;
+    private final List<WorkloadPhase> phases = new ArrayList<>();
+    private final List<Long> intervalCounts = new ArrayList<>();
+    private final AtomicLong operations = new AtomicLong();
+    private final List<List<Histogram>> operationIntervals = new ArrayList<>();
+    private Histogram total;
+
+    @Override
+    public void start(int threads) {
+      this.threads = threads;
+    }
+
+    @Override
+    public void phaseChanged(WorkloadPhase phase) {
+      phases.add(phase);
+    }
+
+    @Override
+    public void afterOperation(int threadIdx, long startNanos, long endNanos) {
+      operations.incrementAndGet();
+    }
+
+    @Override
+    public void interval(Histogram interval) {
+      intervalCounts.add(interval.getTotalCount());
+    }
+
+    @Override
+    public void operationIntervals(List<Histogram> intervals) {
+      operationIntervals.add(intervals);
+    }
+
+    @Override
+    public void stop(Histogram total) {
+      this.total = total;
+    }
+  }
+
+  private static class AlternatingOperations extends EmptyBenchmark
+      implements MultiOperationDriver {
+    private OperationRecorder operationRecorder;
+    private int next;
+
+    @Override
+    public List<String> getOperationNames() {
+      return Arrays.asList("first", "second");
+    }
+
+    @Override
+    public void setOperationRecorder(OperationRecorder operationRecorder) {
+      this.operationRecorder = operationRecorder;
+    }
+
+    @Override
+    public boolean test(Map<Object, Object> ctx) throws Exception {
+      operationRecorder.ranOperation(next);
+      next = 1 - next;
+      return super.test(ctx);
+    }
+  }
+
+  /**
+   * Records deliveries from its own thread, like a listener, rather than from calls.
+   */
+  private static class ObservedOperations extends EmptyBenchmark
+      implements MultiOperationDriver {
+    private volatile OperationRecorder operationRecorder;
+    private volatile boolean stopped;
+
+    @Override
+    public List<String> getOperationNames() {
+      return Collections.singletonList("delivery");
+    }
+
+    @Override
+    public void setOperationRecorder(OperationRecorder operationRecorder) {
+      this.operationRecorder = operationRecorder;
+    }
+
+    void deliver() {
+      while (!stopped) {
+        final OperationRecorder operationRecorder = this.operationRecorder;
+        if (operationRecorder != null) {
+          operationRecorder.recordOperation(0, 1_000);
+        }
+        LockSupport.parkNanos(1_000_000);
+      }
+    }
+  }
+}
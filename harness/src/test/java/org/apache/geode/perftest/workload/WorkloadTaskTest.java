@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.workload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import org.apache.geode.perftest.SloSearch;
+import org.apache.geode.perftest.TestContext;
+import org.apache.geode.perftest.WorkloadConfig;
+import org.apache.geode.perftest.WorkloadStage;
+import org.apache.geode.perftest.analysis.BenchmarkRunAnalyzer;
+import org.apache.geode.perftest.analysis.LoadCurve;
+import org.apache.geode.perftest.analysis.ProbeResultParser;
+import org.apache.geode.perftest.benchmarks.EmptyBenchmark;
+import org.apache.geode.perftest.infrastructure.Infrastructure;
+import org.apache.geode.perftest.jvms.JVMMapping;
+import org.apache.geode.perftest.jvms.rmi.ControllerRemote;
+import org.apache.geode.perftest.runner.DefaultTestContext;
+import org.apache.geode.perftest.runner.SharedContext;
+import org.apache.geode.perftest.yardstick.analysis.YardstickHdrHistogramParser;
+import org.apache.geode.perftest.yardstick.analysis.YardstickPercentileSensorParser;
+import org.apache.geode.perftest.yardstick.analysis.YardstickThroughputSensorParser;
+
+public class WorkloadTaskTest {
+  private static final SharedContext SHARED_CONTEXT = new SharedContext(Collections.singletonList(
+      new JVMMapping(mock(Infrastructure.Node.class), "role", 1, Collections.emptyList())));
+
+  @TempDir
+  Path folder;
+
+  @Test
+  public void nativeEngineWritesResultsTheAnalyzerCanRead() throws Exception {
+    EmptyBenchmark benchmark = new EmptyBenchmark();
+    WorkloadConfig workloadConfig = new WorkloadConfig();
+    workloadConfig.threads(2);
+    workloadConfig.durationSeconds(2);
+    workloadConfig.nativeEngine(true);
+    File benchmarkDir = folder.toFile();
+    File outputDir = new File(benchmarkDir, "client1");
+    ControllerRemote controller = mock(ControllerRemote.class);
+    TestContext context = new DefaultTestContext(SHARED_CONTEXT, outputDir, 1, "role", controller);
+
+    new WorkloadTask(benchmark, workloadConfig, "role").run(context);
+
+    List<File> resultDirs = BenchmarkRunAnalyzer.getYardstickOutputForBenchmarkDir(benchmarkDir);
+    assertThat(resultDirs).hasSize(1);
+
+    assertThat(valueOf(resultDirs, new YardstickThroughputSensorParser(),
+        YardstickThroughputSensorParser.probeResultDescription)).isGreaterThan(0);
+    assertThat(valueOf(resultDirs, new YardstickHdrHistogramParser(),
+        YardstickHdrHistogramParser.AVERAGE_OPS_SECOND)).isGreaterThan(0);
+    assertThat(valueOf(resultDirs, new YardstickPercentileSensorParser(),
+        YardstickPercentileSensorParser.probeResultDescription)).isGreaterThanOrEqualTo(0);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void runsEachStageInItsOwnDirectory(boolean nativeEngine) throws Exception {
+    EmptyBenchmark benchmark = new EmptyBenchmark();
+    WorkloadConfig workloadConfig = new WorkloadConfig();
+    workloadConfig.nativeEngine(nativeEngine);
+    workloadConfig.loadSteps("threads:1:2:2:1");
+    File benchmarkDir = folder.toFile();
+    File outputDir = new File(benchmarkDir, "client1");
+    ControllerRemote controller = mock(ControllerRemote.class);
+    TestContext context = new DefaultTestContext(SHARED_CONTEXT, outputDir, 1, "role", controller);
+
+    new WorkloadTask(benchmark, workloadConfig, "role").run(context);
+
+    assertThat(new File(outputDir, WorkloadTask.STAGES_DIR).list())
+        .containsExactlyInAnyOrder("stage-01", "stage-02");
+    // Stages are reported on separately rather than compared with other runs.
+    assertThat(BenchmarkRunAnalyzer.getYardstickOutputForBenchmarkDir(benchmarkDir)).isEmpty();
+
+    List<LoadCurve.StageResult> results = LoadCurve.readStages(benchmarkDir);
+    assertThat(results).extracting(result -> result.stage.getThreads()).containsExactly(1, 2);
+    assertThat(results).allSatisfy(result -> {
+      assertThat(result.jvms).isEqualTo(1);
+      assertThat(result.opsPerSecond).isGreaterThan(0);
+    });
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void setsUpAndTearsDownTheDriverForEachStage(boolean nativeEngine) throws Exception {
+    EmptyBenchmark benchmark = spy(new EmptyBenchmark());
+    WorkloadConfig workloadConfig = new WorkloadConfig();
+    workloadConfig.nativeEngine(nativeEngine);
+    workloadConfig.loadSteps("threads:1:2:2:1");
+    File outputDir = folder.toFile();
+    ControllerRemote controller = mock(ControllerRemote.class);
+    TestContext context = new DefaultTestContext(SHARED_CONTEXT, outputDir, 1, "role", controller);
+
+    new WorkloadTask(benchmark, workloadConfig, "role").run(context);
+
+    InOrder inOrder = inOrder(benchmark);
+    for (int stage = 0; stage < 2; stage++) {
+      inOrder.verify(benchmark).setUp(any());
+      inOrder.verify(benchmark).tearDown();
+    }
+    verify(benchmark, times(2)).setUp(any());
+    verify(benchmark, times(2)).tearDown();
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void trialReportsItsHistogram(boolean nativeEngine) throws Exception {
+    EmptyBenchmark benchmark = new EmptyBenchmark();
+    WorkloadConfig workloadConfig = new WorkloadConfig();
+    workloadConfig.nativeEngine(nativeEngine);
+    File outputDir = folder.toFile();
+    ControllerRemote controller = mock(ControllerRemote.class);
+    TestContext context = new DefaultTestContext(SHARED_CONTEXT, outputDir, 1, "role", controller);
+    WorkloadStage trial = new WorkloadStage("trial-01", 1, 0, 1);
+
+    new WorkloadTask(benchmark, workloadConfig, "role").trial(trial, true).run(context);
+
+    ArgumentCaptor<Serializable> result = ArgumentCaptor.forClass(Serializable.class);
+    verify(controller).reportResult(eq(1), eq("trial-01"), result.capture());
+    Histogram histogram = (Histogram) result.getValue();
+    assertThat(histogram.getTotalCount()).isGreaterThan(0);
+    assertThat(SloSearch.getOpsPerSecond(Collections.singletonList(histogram)))
+        .isGreaterThan(0);
+    assertThat(new File(outputDir, WorkloadTask.STAGES_DIR + "/trial-01")).isDirectory();
+  }
+
+  private static double valueOf(List<File> resultDirs, ProbeResultParser parser,
+      String description) throws Exception {
+    return BenchmarkRunAnalyzer.getTestResult(resultDirs, parser).stream()
+        .filter(result -> result.getDescription().equals(description))
+        .findFirst().get().getValue();
+  }
+}
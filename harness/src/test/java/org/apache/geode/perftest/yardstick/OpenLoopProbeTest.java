@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.yardstick;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.geode.perftest.yardstick.hdrhistogram.Clock;
+
+public class OpenLoopProbeTest {
+
+  private Clock clock;
+
+  @BeforeEach
+  public void setUp() {
+    clock = mock(Clock.class);
+  }
+
+  @Test
+  public void schedulesOperationsAtFixedIntervals() {
+    OpenLoopProbe probe = new OpenLoopProbe(1_000, clock);
+    when(clock.currentTimeNanos()).thenReturn(0L);
+    probe.start(1);
+
+    probe.beforeExecute(0);
+    assertThat(probe.startTimeNanos(0)).isEqualTo(0L);
+
+    when(clock.currentTimeNanos()).thenReturn(1_000_000L);
+    probe.beforeExecute(0);
+    assertThat(probe.startTimeNanos(0)).isEqualTo(1_000_000L);
+  }
+
+  @Test
+  public void reportsIntendedStartTimeWhenBehindSchedule() {
+    OpenLoopProbe probe = new OpenLoopProbe(1_000, clock);
+    when(clock.currentTimeNanos()).thenReturn(0L);
+    probe.start(1);
+    probe.beforeExecute(0);
+
+    // the first operation stalled for 5ms, the next operations are still measured from
+    // the time they should have started
+    when(clock.currentTimeNanos()).thenReturn(5_000_000L);
+    probe.beforeExecute(0);
+    assertThat(probe.startTimeNanos(0)).isEqualTo(1_000_000L);
+    probe.beforeExecute(0);
+    assertThat(probe.startTimeNanos(0)).isEqualTo(2_000_000L);
+  }
+
+  @Test
+  public void splitsRateBetweenThreads() {
+    OpenLoopProbe probe = new OpenLoopProbe(1_000, clock);
+    when(clock.currentTimeNanos()).thenReturn(0L);
+    probe.start(2);
+
+    when(clock.currentTimeNanos()).thenReturn(10_000_000L);
+    probe.beforeExecute(0);
+    probe.beforeExecute(1);
+    assertThat(probe.startTimeNanos(0)).isEqualTo(0L);
+    assertThat(probe.startTimeNanos(1)).isEqualTo(1_000_000L);
+
+    probe.beforeExecute(0);
+    probe.beforeExecute(1);
+    assertThat(probe.startTimeNanos(0)).isEqualTo(2_000_000L);
+    assertThat(probe.startTimeNanos(1)).isEqualTo(3_000_000L);
+  }
+
+  @Test
+  public void restartsScheduleAfterThreadsAreHeldAtEndOfWarmup() {
+    OpenLoopProbe probe = new OpenLoopProbe(1_000, clock);
+    when(clock.currentTimeNanos()).thenReturn(0L);
+    probe.start(1);
+    probe.beforeExecute(0);
+
+    // yardstick held the thread for 300ms at the end of the warmup
+    probe.points();
+    when(clock.currentTimeNanos()).thenReturn(300_000_000L);
+    probe.beforeExecute(0);
+    assertThat(probe.startTimeNanos(0)).isEqualTo(300_000_000L);
+    when(clock.currentTimeNanos()).thenReturn(301_000_000L);
+    probe.beforeExecute(0);
+    assertThat(probe.startTimeNanos(0)).isEqualTo(301_000_000L);
+  }
+
+  @Test
+  public void requiresPositiveRate() {
+    assertThatThrownBy(() -> new OpenLoopProbe(0, clock))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.yardstick;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.yardstickframework.BenchmarkConfiguration;
+import org.yardstickframework.BenchmarkDriver;
+import org.yardstickframework.impl.BenchmarkProbeSet;
+
+import org.apache.geode.perftest.benchmarks.EmptyBenchmark;
+
+public class VirtualThreadBenchmarkRunnerTest {
+
+  private BenchmarkConfiguration cfg;
+  private BenchmarkProbeSet probeSet;
+
+  @BeforeEach
+  public void setUp() {
+    cfg = mock(BenchmarkConfiguration.class);
+    when(cfg.threads()).thenReturn(4);
+    when(cfg.warmup()).thenReturn(0L);
+    when(cfg.duration()).thenReturn(1L);
+    probeSet = mock(BenchmarkProbeSet.class);
+  }
+
+  @Test
+  public void runsWorkloadOnEachThreadAndStopsProbes() throws Exception {
+    EmptyBenchmark benchmark = new EmptyBenchmark();
+
+    new VirtualThreadBenchmarkRunner(cfg, benchmark, probeSet, Thread::new).runBenchmark();
+
+    assertThat(benchmark.getInvocations()).isGreaterThan(0);
+    InOrder inOrder = inOrder(probeSet);
+    inOrder.verify(probeSet).start();
+    inOrder.verify(probeSet).onWarmupFinished();
+    inOrder.verify(probeSet).onFinished();
+    inOrder.verify(probeSet).stop();
+    for (int threadIdx = 0; threadIdx < 4; threadIdx++) {
+      verify(probeSet, atLeastOnce()).onBeforeExecute(threadIdx);
+      verify(probeSet, atLeastOnce()).onAfterExecute(threadIdx);
+    }
+  }
+
+  @Test
+  public void rethrowsWorkloadFailureAfterTearDown() throws Exception {
+    BenchmarkDriver driver = mock(BenchmarkDriver.class);
+    IllegalStateException failure = new IllegalStateException("failed");
+    when(driver.test(any())).thenThrow(failure);
+
+    assertThatThrownBy(
+        () -> new VirtualThreadBenchmarkRunner(cfg, driver, probeSet, Thread::new).runBenchmark())
+            .hasCause(failure);
+
+    verify(driver, atLeastOnce()).onException(failure);
+    verify(driver).tearDown();
+    verify(probeSet).stop();
+  }
+}
@@ -17,20 +17,27 @@
 
 package org.apache.geode.perftest.yardstick;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
 import org.junit.jupiter.api.io.TempDir;
+import org.yardstickframework.BenchmarkConfiguration;
 
 import org.apache.geode.perftest.Task;
 import org.apache.geode.perftest.TestContext;
 import org.apache.geode.perftest.WorkloadConfig;
 import org.apache.geode.perftest.benchmarks.EmptyBenchmark;
+import org.apache.geode.perftest.jdk.PinnedVirtualThreadRecorder;
 import org.apache.geode.perftest.jvms.rmi.ControllerRemote;
 import org.apache.geode.perftest.runner.DefaultTestContext;
 import org.apache.geode.perftest.yardstick.hdrhistogram.HdrHistogramWriter;
@@ -62,4 +69,89 @@ public class YardstickTaskTest {
     // TODO -verify benchmark is shutdown
   }
 
+  @Test
+  public void testExecuteBenchmarkOpenLoop() throws Exception {
+    EmptyBenchmark benchmark = new EmptyBenchmark();
+    WorkloadConfig workloadConfig = new WorkloadConfig();
+    workloadConfig.threads(2);
+    workloadConfig.opsPerSecond(100);
+    Task task = new YardstickTask(benchmark, workloadConfig);
+    File outputDir = folder.toFile();
+    ControllerRemote controller = mock(ControllerRemote.class);
+    TestContext context = new DefaultTestContext(null, outputDir, 1, "role", controller);
+    task.run(context);
+
+    assertTrue(1 <= benchmark.getInvocations());
+    assertTrue(benchmark.getInvocations() <= 1_000);
+
+    assertTrue(Files.walk(outputDir.toPath()).anyMatch(path -> path.toString().contains(
+        HdrHistogramWriter.FILE_NAME)));
+  }
+
+  @Test
+  public void testObserveBenchmark() throws Exception {
+    EmptyBenchmark benchmark = new EmptyBenchmark();
+    WorkloadConfig workloadConfig = new WorkloadConfig();
+    workloadConfig.threads(2);
+    Task task = YardstickTask.observer(benchmark, workloadConfig);
+    File outputDir = folder.toFile();
+    ControllerRemote controller = mock(ControllerRemote.class);
+    TestContext context = new DefaultTestContext(null, outputDir, 1, "role", controller);
+    task.run(context);
+
+    assertEquals(0, benchmark.getInvocations());
+
+    assertTrue(Files.walk(outputDir.toPath()).anyMatch(path -> path.toString().contains(
+        HdrHistogramWriter.FILE_NAME)));
+  }
+
+  @Test
+  @EnabledIf("org.apache.geode.perftest.jdk.VirtualThreads#isAvailable")
+  public void testExecuteBenchmarkOnVirtualThreads() throws Exception {
+    EmptyBenchmark benchmark = new EmptyBenchmark();
+    WorkloadConfig workloadConfig = new WorkloadConfig();
+    workloadConfig.threads(10_000);
+    workloadConfig.virtualThreads(true);
+    Task task = new YardstickTask(benchmark, workloadConfig);
+    File outputDir = folder.toFile();
+    ControllerRemote controller = mock(ControllerRemote.class);
+    TestContext context = new DefaultTestContext(null, outputDir, 1, "role", controller);
+    task.run(context);
+
+    assertTrue(1 <= benchmark.getInvocations());
+
+    assertTrue(Files.walk(outputDir.toPath()).anyMatch(path -> path.toString().contains(
+        HdrHistogramWriter.FILE_NAME)));
+    assertTrue(Files.walk(outputDir.toPath()).anyMatch(path -> path.toString().contains(
+        PinnedVirtualThreadRecorder.SUMMARY_FILE)));
+  }
+
+  @Test
+  public void testConfigurationNumbersTheMembersOfTheRoles() {
+    TestContext context = mock(TestContext.class);
+    when(context.getOutputDir()).thenReturn(folder.toFile());
+    when(context.getJvmID()).thenReturn(5);
+    when(context.getHostsIDsForRole("client")).thenReturn(new HashSet<>(Arrays.asList(7, 2)));
+    when(context.getHostsIDsForRole("server")).thenReturn(new HashSet<>(Arrays.asList(5, 9)));
+
+    BenchmarkConfiguration cfg = YardstickTask.createConfiguration(new EmptyBenchmark(),
+        new WorkloadConfig(), context, "client", "server");
+
+    assertEquals(1, cfg.memberId());
+    assertEquals(4, YardstickTask.getMemberCount(cfg));
+  }
+
+  @Test
+  public void testConfigurationOutsideTheRolesIsTheOnlyMember() {
+    TestContext context = mock(TestContext.class);
+    when(context.getOutputDir()).thenReturn(folder.toFile());
+    when(context.getJvmID()).thenReturn(5);
+    when(context.getHostsIDsForRole("client")).thenReturn(new HashSet<>(Arrays.asList(7, 2)));
+
+    BenchmarkConfiguration cfg = YardstickTask.createConfiguration(new EmptyBenchmark(),
+        new WorkloadConfig(), context, "client");
+
+    assertEquals(0, cfg.memberId());
+    assertEquals(1, YardstickTask.getMemberCount(cfg));
+  }
 }
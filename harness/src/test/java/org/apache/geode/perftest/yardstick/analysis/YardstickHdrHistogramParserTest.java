@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.perftest.yardstick.analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.geode.perftest.yardstick.hdrhistogram.HdrHistogramWriter;
+
+public class YardstickHdrHistogramParserTest {
+
+  @TempDir
+  Path temporaryFolder;
+
+  @Test
+  public void aggregatesAllIntervals() throws IOException {
+    final File testFolder = temporaryFolder.resolve("testFolder").toFile();
+    assertTrue(testFolder.mkdir());
+    new HdrHistogramWriter(temporaryFolder.toFile()).accept(Arrays.asList(
+        interval(1_000_000, 1_000, 3_000, 100),
+        interval(1_001_000, 1_000, 300_000, 100)));
+
+    YardstickHdrHistogramParser parser = new YardstickHdrHistogramParser();
+    parser.parseResults(testFolder);
+
+    assertEquals(400, parser.histogram.getTotalCount());
+    assertEquals(300_000, parser.histogram.getMaxValue(), 300);
+    assertEquals(1_000_000, parser.histogram.getStartTimeStamp());
+    assertEquals(1_002_000, parser.histogram.getEndTimeStamp());
+    assertEquals(200, getResult(parser, YardstickHdrHistogramParser.AVERAGE_OPS_SECOND), 0.01);
+  }
+
+  @Test
+  public void doesNotCountTheRepeatedSummaryOfOlderLogsTwice() throws IOException {
+    final File testFolder = temporaryFolder.resolve("testFolder").toFile();
+    assertTrue(testFolder.mkdir());
+    final Histogram summary = interval(1_000_000, 2_000, 3_000, 100);
+    final HistogramLogWriter writer = new HistogramLogWriter(
+        new File(temporaryFolder.toFile(), YardstickHdrHistogramParser.sensorOutputFile));
+    writer.outputIntervalHistogram(summary);
+    writer.outputIntervalHistogram(summary);
+    writer.close();
+
+    YardstickHdrHistogramParser parser = new YardstickHdrHistogramParser();
+    parser.parseResults(testFolder);
+
+    assertEquals(200, parser.histogram.getTotalCount());
+    assertEquals(100, getResult(parser, YardstickHdrHistogramParser.AVERAGE_OPS_SECOND), 0.01);
+  }
+
+  @Test
+  public void reportsTaggedOperationsSeparately() throws IOException {
+    final File testFolder = temporaryFolder.resolve("testFolder").toFile();
+    assertTrue(testFolder.mkdir());
+    final Histogram get = interval(1_000_000, 1_000, 3_000);
+    get.setTag("Get");
+    final Histogram put = interval(1_000_000, 1_000, 300_000);
+    put.setTag("Put");
+    final Histogram laterGet = interval(1_001_000, 1_000, 5_000);
+    laterGet.setTag("Get");
+    new HdrHistogramWriter(temporaryFolder.toFile()).accept(Arrays.asList(
+        interval(1_000_000, 1_000, 3_000, 300_000), get, put,
+        interval(1_001_000, 1_000, 5_000), laterGet));
+
+    YardstickHdrHistogramParser parser = new YardstickHdrHistogramParser();
+    parser.parseResults(testFolder);
+
+    assertEquals(300, parser.histogram.getTotalCount());
+    assertEquals(2, parser.operations.size());
+    assertEquals(200, parser.operations.get("Get").getTotalCount());
+    assertEquals(1_002_000, parser.operations.get("Get").getEndTimeStamp());
+    assertEquals(100, getResult(parser, "Get " + YardstickHdrHistogramParser.AVERAGE_OPS_SECOND),
+        0.01);
+    assertEquals(100, getResult(parser, "Put " + YardstickHdrHistogramParser.AVERAGE_OPS_SECOND),
+        0.01);
+    assertEquals(300_000,
+        getResult(parser, "Put " + YardstickHdrHistogramParser.PERCENTILE_LATENCY_99), 300);
+  }
+
+  private static Histogram interval(long startTimeStamp, long lengthMillis, long... latencies) {
+    final Histogram histogram = new Histogram(3);
+    for (long latency : latencies) {
+      histogram.recordValueWithCount(latency, 100);
+    }
+    histogram.setStartTimeStamp(startTimeStamp);
+    histogram.setEndTimeStamp(startTimeStamp + lengthMillis);
+    return histogram;
+  }
+
+  private static double getResult(YardstickHdrHistogramParser parser, String description) {
+    return parser.getProbeResults().stream()
+        .filter(result -> result.description.equals(description))
+        .findFirst().get().value;
+  }
+}
@@ -19,27 +19,35 @@ package org.apache.geode.perftest.yardstick.hdrhistogram;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.HdrHistogram.Histogram;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.yardstickframework.BenchmarkProbePoint;
 
+import org.apache.geode.perftest.OperationRecorder;
+
 public class HdrHistogramProbeTest {
 
   private HdrHistogramProbe probe;
   private Clock clock;
+  private Consumer<List<Histogram>> consumer;
 
   @BeforeEach
+  @SuppressWarnings("unchecked")
   public void setUp() {
     clock = mock(Clock.class);
-    @SuppressWarnings("unchecked")
-    final Consumer<Histogram> consumer = mock(Consumer.class);
+    consumer = mock(Consumer.class);
     probe = new HdrHistogramProbe(1, 3_600_000, 3, clock, consumer);
   }
 
@@ -56,6 +64,19 @@ public class HdrHistogramProbeTest {
     System.out.println("Size=" + histogram.getEstimatedFootprintInBytes());
   }
 
+  @Test
+  public void recordsALatencyLongerThanTheUpperBoundAsTheUpperBound() {
+    probe.start(1);
+    when(clock.currentTimeNanos()).thenReturn(0L);
+    probe.beforeExecute(0);
+    when(clock.currentTimeNanos()).thenReturn(4_000_000L);
+    probe.afterExecute(0);
+
+    final Histogram histogram = probe.getHistogram();
+    assertEquals(1, histogram.getTotalCount());
+    assertEquals(3_600_000, histogram.getMaxValue(), 3_600);
+  }
+
   @Test
   public void recordsFromMultipleThreads() {
     probe.start(3);
@@ -82,6 +103,25 @@ public class HdrHistogramProbeTest {
     assertEquals(8.0 / 3.0, probe.getHistogram().getMean(), 0.01);
   }
 
+  @Test
+  public void recordsFromMoreThreadsThanHistograms() {
+    final int threads = HdrHistogramProbe.MAX_HISTOGRAMS + 1;
+    probe.start(threads);
+
+    when(clock.currentTimeNanos()).thenReturn(0L);
+    probe.beforeExecute(0);
+    probe.beforeExecute(threads - 1);
+
+    when(clock.currentTimeNanos()).thenReturn(2L);
+    probe.afterExecute(0);
+
+    when(clock.currentTimeNanos()).thenReturn(4L);
+    probe.afterExecute(threads - 1);
+
+    assertEquals(2, probe.getHistogram().getTotalCount());
+    assertEquals(4, probe.getHistogram().getMaxValue());
+  }
+
   @Test
   public void generatesASummaryBenchmarkPoint() {
     probe.start(1);
@@ -103,4 +143,88 @@ public class HdrHistogramProbeTest {
     assertEquals(probe.getHistogram().getStartTimeStamp(), point.time());
     Assertions.assertThat(point.values()).containsExactly(3.0, 4.0);
   }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void logsAHistogramForEachInterval() {
+    probe.start(1);
+    probe.points();
+
+    when(clock.currentTimeNanos()).thenReturn(0L);
+    probe.beforeExecute(0);
+    when(clock.currentTimeNanos()).thenReturn(2L);
+    probe.afterExecute(0);
+    probe.buildPoint(System.currentTimeMillis());
+
+    probe.beforeExecute(0);
+    when(clock.currentTimeNanos()).thenReturn(8L);
+    probe.afterExecute(0);
+    probe.points();
+
+    final ArgumentCaptor<List<Histogram>> intervals = ArgumentCaptor.forClass(List.class);
+    verify(consumer, times(1)).accept(intervals.capture());
+    final List<Histogram> measured = intervals.getValue();
+    assertEquals(2, measured.size());
+    assertEquals(2, measured.get(0).getMaxValue());
+    assertEquals(6, measured.get(1).getMaxValue());
+    assertEquals(measured.get(0).getEndTimeStamp(), measured.get(1).getStartTimeStamp());
+    assertEquals(2, probe.getHistogram().getTotalCount());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void logsATaggedHistogramForEachOperation() {
+    final OperationRecorder operationRecorder =
+        new OperationRecorder(Arrays.asList("get", "put"), 3_600_000, 3);
+    probe.setOperationRecorder(operationRecorder);
+    probe.start(1);
+    probe.points();
+
+    when(clock.currentTimeNanos()).thenReturn(0L);
+    probe.beforeExecute(0);
+    operationRecorder.ranOperation(1);
+    when(clock.currentTimeNanos()).thenReturn(2L);
+    probe.afterExecute(0);
+    probe.beforeExecute(0);
+    when(clock.currentTimeNanos()).thenReturn(5L);
+    probe.afterExecute(0);
+    probe.points();
+
+    final ArgumentCaptor<List<Histogram>> intervals = ArgumentCaptor.forClass(List.class);
+    verify(consumer, times(1)).accept(intervals.capture());
+    final List<Histogram> measured = intervals.getValue();
+    assertEquals(3, measured.size());
+    assertEquals(2, measured.get(0).getTotalCount());
+    assertEquals("get", measured.get(1).getTag());
+    assertEquals(0, measured.get(1).getTotalCount());
+    assertEquals("put", measured.get(2).getTag());
+    assertEquals(2, measured.get(2).getMaxValue());
+    assertEquals(measured.get(0).getEndTimeStamp(), measured.get(2).getEndTimeStamp());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void observerLogsOnlyTheTaggedHistogramOfEachOperation() {
+    final OperationRecorder operationRecorder =
+        new OperationRecorder(Arrays.asList("get", "put"), 3_600_000, 3);
+    probe = HdrHistogramProbe.observer(consumer);
+    probe.setOperationRecorder(operationRecorder);
+    probe.start(1);
+    probe.points();
+
+    probe.beforeExecute(0);
+    operationRecorder.recordOperation(1, 2);
+    probe.afterExecute(0);
+    probe.points();
+
+    final ArgumentCaptor<List<Histogram>> intervals = ArgumentCaptor.forClass(List.class);
+    verify(consumer, times(1)).accept(intervals.capture());
+    final List<Histogram> measured = intervals.getValue();
+    assertEquals(2, measured.size());
+    assertEquals("get", measured.get(0).getTag());
+    assertEquals(0, measured.get(0).getTotalCount());
+    assertEquals("put", measured.get(1).getTag());
+    assertEquals(2, measured.get(1).getMaxValue());
+    assertEquals(0, probe.getHistogram().getTotalCount());
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.geode.perftest.yardstick.hdrhistogram;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class HdrHistogramWriterTest {
+
+  @TempDir
+  Path folder;
+
+  @Test
+  public void writesAndSummarizesIntervals() {
+    File outputDir = folder.toFile();
+    Histogram interval = new Histogram(3);
+    interval.setStartTimeStamp(1_000);
+    interval.setEndTimeStamp(2_000);
+    interval.recordValue(5);
+
+    new HdrHistogramWriter(outputDir).accept(Collections.singletonList(interval));
+
+    assertThat(new File(outputDir, HdrHistogramWriter.FILE_NAME)).exists();
+    assertThat(new File(outputDir, HdrHistogramWriter.FILE_NAME_HDR)).exists();
+    assertThat(new File(outputDir, HdrHistogramWriter.FILE_NAME_CSV)).exists();
+  }
+
+  @Test
+  public void writesALogWithoutSummariesForNoIntervals() {
+    File outputDir = folder.toFile();
+
+    new HdrHistogramWriter(outputDir).accept(Collections.emptyList());
+
+    assertThat(new File(outputDir, HdrHistogramWriter.FILE_NAME)).exists();
+    assertThat(new File(outputDir, HdrHistogramWriter.FILE_NAME_HDR)).doesNotExist();
+    assertThat(new File(outputDir, HdrHistogramWriter.FILE_NAME_CSV)).doesNotExist();
+  }
+
+  @Test
+  public void writesALogWithoutSummariesForOnlyTaggedIntervals() {
+    File outputDir = folder.toFile();
+    Histogram interval = new Histogram(3);
+    interval.setStartTimeStamp(1_000);
+    interval.setEndTimeStamp(2_000);
+    interval.setTag("delivery");
+    interval.recordValue(5);
+
+    new HdrHistogramWriter(outputDir).accept(Collections.singletonList(interval));
+
+    assertThat(new File(outputDir, HdrHistogramWriter.FILE_NAME)).exists();
+    assertThat(new File(outputDir, HdrHistogramWriter.FILE_NAME_HDR)).doesNotExist();
+    assertThat(new File(outputDir, HdrHistogramWriter.FILE_NAME_CSV)).doesNotExist();
+  }
+}